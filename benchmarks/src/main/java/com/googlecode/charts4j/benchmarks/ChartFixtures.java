@@ -0,0 +1,472 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.benchmarks;
+
+import static com.googlecode.charts4j.Color.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.googlecode.charts4j.AxisLabels;
+import com.googlecode.charts4j.AxisLabelsFactory;
+import com.googlecode.charts4j.AxisStyle;
+import com.googlecode.charts4j.AxisTextAlignment;
+import com.googlecode.charts4j.BarChart;
+import com.googlecode.charts4j.BarChartPlot;
+import com.googlecode.charts4j.Color;
+import com.googlecode.charts4j.Data;
+import com.googlecode.charts4j.DataEncoding;
+import com.googlecode.charts4j.Fills;
+import com.googlecode.charts4j.GChart;
+import com.googlecode.charts4j.GCharts;
+import com.googlecode.charts4j.GeographicalArea;
+import com.googlecode.charts4j.GoogleOMeter;
+import com.googlecode.charts4j.LegendPosition;
+import com.googlecode.charts4j.Line;
+import com.googlecode.charts4j.LineChart;
+import com.googlecode.charts4j.LineStyle;
+import com.googlecode.charts4j.LinearGradientFill;
+import com.googlecode.charts4j.MapChart;
+import com.googlecode.charts4j.Markers;
+import com.googlecode.charts4j.PieChart;
+import com.googlecode.charts4j.Plots;
+import com.googlecode.charts4j.RadarChart;
+import com.googlecode.charts4j.RadarPlot;
+import com.googlecode.charts4j.ScatterPlot;
+import com.googlecode.charts4j.ScatterPlotData;
+import com.googlecode.charts4j.Shape;
+import com.googlecode.charts4j.Slice;
+import com.googlecode.charts4j.USAState;
+import com.googlecode.charts4j.VennDiagram;
+import com.googlecode.charts4j.XYLine;
+import com.googlecode.charts4j.XYLineChart;
+
+/**
+ * Builds realistic, fully configured charts for the benchmarks. Every chart is
+ * built from a fixed random seed so that runs are comparable.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+final class ChartFixtures {
+
+    /** Palette used to color series, bars and slices. */
+    private static final Color[] PALETTE = {SKYBLUE, ORANGERED, LIMEGREEN, GOLD, MEDIUMPURPLE, STEELBLUE, TOMATO, TEAL};
+
+    /** The seed for all generated data. */
+    private static final long    SEED    = 20080101L;
+
+    /**
+     * Cannot instantiate.
+     */
+    private ChartFixtures() {
+        throw new AssertionError();
+    }
+
+    /**
+     * The chart types exercised by the benchmarks.
+     */
+    enum ChartKind {
+        /** {@link LineChart}. */
+        LINE,
+        /** {@link XYLineChart}. */
+        XY_LINE,
+        /** {@link BarChart}. */
+        BAR,
+        /** {@link ScatterPlot}. */
+        SCATTER,
+        /** {@link PieChart}. */
+        PIE,
+        /** {@link MapChart}. */
+        MAP,
+        /** {@link RadarChart}. */
+        RADAR,
+        /** {@link GoogleOMeter}. */
+        GOOGLE_O_METER,
+        /** {@link VennDiagram}. */
+        VENN
+    }
+
+    /**
+     * Build a chart.
+     *
+     * @param kind
+     *            the chart type
+     * @param series
+     *            number of data series (ignored by single series charts)
+     * @param points
+     *            points per series (slices for pie charts, states for maps)
+     * @param markers
+     *            number of individual point markers per series
+     * @param encoding
+     *            the data encoding
+     * @return a fully configured chart
+     */
+    static GChart newChart(final ChartKind kind, final int series, final int points, final int markers, final DataEncoding encoding) {
+        final Random random = new Random(SEED);
+        final GChart chart;
+        switch (kind) {
+        case LINE:
+            chart = newLineChart(random, series, points, markers);
+            break;
+        case XY_LINE:
+            chart = newXYLineChart(random, series, points, markers);
+            break;
+        case BAR:
+            chart = newBarChart(random, series, points, markers);
+            break;
+        case SCATTER:
+            chart = newScatterPlot(random, points, markers);
+            break;
+        case PIE:
+            chart = newPieChart(random, points);
+            break;
+        case MAP:
+            chart = newMapChart(random, points);
+            break;
+        case RADAR:
+            chart = newRadarChart(random, series, points, markers);
+            break;
+        case GOOGLE_O_METER:
+            chart = newGoogleOMeter(random);
+            break;
+        case VENN:
+            chart = newVennDiagram();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown chart kind: " + kind);
+        }
+        chart.setDataEncoding(encoding);
+        return chart;
+    }
+
+    /**
+     * Random walk between 0 and 100.
+     *
+     * @param random
+     *            random number generator
+     * @param points
+     *            number of points
+     * @return the data
+     */
+    private static double[] randomWalk(final Random random, final int points) {
+        final double[] d = new double[points];
+        double v = 50;
+        for (int i = 0; i < points; i++) {
+            v = Math.max(0, Math.min(100, v + random.nextGaussian() * 5));
+            d[i] = v;
+        }
+        return d;
+    }
+
+    /**
+     * Monotonically increasing x values between 0 and 100.
+     *
+     * @param random
+     *            random number generator
+     * @param points
+     *            number of points
+     * @return the data
+     */
+    private static double[] increasing(final Random random, final int points) {
+        final double[] d = new double[points];
+        double sum = 0;
+        for (int i = 0; i < points; i++) {
+            sum += random.nextDouble() + 0.01;
+            d[i] = sum;
+        }
+        for (int i = 0; i < points; i++) {
+            d[i] = d[i] / sum * 100;
+        }
+        return d;
+    }
+
+    /**
+     * Add axis labels, a grid and a title similar to the examples.
+     *
+     * @param chart
+     *            the chart
+     */
+    private static void decorate(final LineChart chart) {
+        chart.setSize(600, 400);
+        chart.setTitle("Web Traffic|(in billions of hits)", WHITE, 14);
+        chart.setGrid(25, 25, 3, 2);
+        chart.addHorizontalRangeMarker(40, 60, Color.newColor(RED, 30));
+        chart.addVerticalRangeMarker(70, 90, Color.newColor(GREEN, 30));
+        chart.addXAxisLabels(styled(AxisLabelsFactory.newAxisLabels("Nov", "Dec", "Jan", "Feb", "Mar")));
+        chart.addYAxisLabels(styled(AxisLabelsFactory.newNumericRangeAxisLabels(0, 100)));
+        chart.setBackgroundFill(Fills.newSolidFill(Color.newColor("1F1D1D")));
+        final LinearGradientFill fill = Fills.newLinearGradientFill(0, Color.newColor("363433"), 100);
+        fill.addColorAndOffset(Color.newColor("2E2B2A"), 0);
+        chart.setAreaFill(fill);
+        chart.setLegendPosition(LegendPosition.BOTTOM);
+    }
+
+    /**
+     * Apply a common axis style.
+     *
+     * @param labels
+     *            the labels
+     * @return the labels
+     */
+    private static AxisLabels styled(final AxisLabels labels) {
+        labels.setAxisStyle(AxisStyle.newAxisStyle(WHITE, 12, AxisTextAlignment.CENTER));
+        return labels;
+    }
+
+    /**
+     * Line chart.
+     *
+     * @param random
+     *            random number generator
+     * @param series
+     *            number of lines
+     * @param points
+     *            points per line
+     * @param markers
+     *            markers per line
+     * @return the chart
+     */
+    private static LineChart newLineChart(final Random random, final int series, final int points, final int markers) {
+        final List<Line> lines = new ArrayList<Line>();
+        for (int s = 0; s < series; s++) {
+            final Line line = Plots.newLine(Data.newData(randomWalk(random, points)), PALETTE[s % PALETTE.length], "Series " + s);
+            line.setLineStyle(LineStyle.newLineStyle(2, 1, 0));
+            for (int m = 0; m < markers; m++) {
+                line.addShapeMarker(Shape.DIAMOND, PALETTE[s % PALETTE.length], 8, random.nextInt(points));
+            }
+            lines.add(line);
+        }
+        final LineChart chart = GCharts.newLineChart(lines);
+        decorate(chart);
+        return chart;
+    }
+
+    /**
+     * XY line chart.
+     *
+     * @param random
+     *            random number generator
+     * @param series
+     *            number of lines
+     * @param points
+     *            points per line
+     * @param markers
+     *            markers per line
+     * @return the chart
+     */
+    private static XYLineChart newXYLineChart(final Random random, final int series, final int points, final int markers) {
+        final List<XYLine> lines = new ArrayList<XYLine>();
+        for (int s = 0; s < series; s++) {
+            final XYLine line = Plots.newXYLine(Data.newData(increasing(random, points)), Data.newData(randomWalk(random, points)), PALETTE[s % PALETTE.length], "Series " + s);
+            for (int m = 0; m < markers; m++) {
+                line.addShapeMarker(Shape.CIRCLE, PALETTE[s % PALETTE.length], 6, random.nextInt(points));
+            }
+            lines.add(line);
+        }
+        final XYLineChart chart = GCharts.newXYLineChart(lines);
+        chart.setSize(600, 400);
+        chart.setTitle("Latency vs. load");
+        chart.setGrid(10, 10, 1, 3);
+        chart.addXAxisLabels(styled(AxisLabelsFactory.newNumericRangeAxisLabels(0, 1000)));
+        chart.addYAxisLabels(styled(AxisLabelsFactory.newNumericRangeAxisLabels(0, 250, 25)));
+        return chart;
+    }
+
+    /**
+     * Bar chart.
+     *
+     * @param random
+     *            random number generator
+     * @param series
+     *            number of bar series
+     * @param points
+     *            bars per series
+     * @param markers
+     *            individually colored and marked bars per series
+     * @return the chart
+     */
+    private static BarChart newBarChart(final Random random, final int series, final int points, final int markers) {
+        final List<BarChartPlot> plots = new ArrayList<BarChartPlot>();
+        for (int s = 0; s < series; s++) {
+            final double[] d = new double[points];
+            for (int i = 0; i < points; i++) {
+                d[i] = random.nextDouble() * 100;
+            }
+            final BarChartPlot plot = Plots.newBarChartPlot(Data.newData(d), PALETTE[s % PALETTE.length], "Team " + s);
+            for (int m = 0; m < markers; m++) {
+                final int index = random.nextInt(points);
+                plot.setColor(RED, index);
+                plot.addTextMarker("!", BLACK, 10, index);
+            }
+            plots.add(plot);
+        }
+        final BarChart chart = GCharts.newBarChart(plots);
+        chart.setSize(600, 400);
+        chart.setTitle("Team Scores", BLACK, 16);
+        chart.setBarWidth(BarChart.AUTO_RESIZE);
+        chart.setDataStacked(true);
+        chart.addXAxisLabels(AxisLabelsFactory.newAxisLabels("Q1", "Q2", "Q3", "Q4"));
+        chart.addYAxisLabels(AxisLabelsFactory.newNumericRangeAxisLabels(0, 100));
+        return chart;
+    }
+
+    /**
+     * Scatter plot.
+     *
+     * @param random
+     *            random number generator
+     * @param points
+     *            number of points
+     * @param markers
+     *            individually marked points
+     * @return the chart
+     */
+    private static ScatterPlot newScatterPlot(final Random random, final int points, final int markers) {
+        final double[] x = new double[points];
+        final double[] y = new double[points];
+        final double[] sizes = new double[points];
+        for (int i = 0; i < points; i++) {
+            x[i] = random.nextDouble() * 100;
+            y[i] = random.nextDouble() * 100;
+            sizes[i] = random.nextDouble() * 100;
+        }
+        final ScatterPlotData data = Plots.newScatterPlotData(Data.newData(x), Data.newData(y), Data.newData(sizes));
+        data.setLegend("Samples");
+        data.setColor(STEELBLUE);
+        for (int m = 0; m < markers; m++) {
+            data.addMarker(Markers.newShapeMarker(Shape.SQUARE, RED, 10), random.nextInt(points));
+        }
+        final ScatterPlot chart = GCharts.newScatterPlot(data);
+        chart.setSize(600, 400);
+        chart.setTitle("Samples");
+        chart.setGrid(20, 20, 3, 2);
+        chart.addXAxisLabels(AxisLabelsFactory.newNumericRangeAxisLabels(0, 100));
+        chart.addYAxisLabels(AxisLabelsFactory.newNumericRangeAxisLabels(0, 100));
+        return chart;
+    }
+
+    /**
+     * Pie chart.
+     *
+     * @param random
+     *            random number generator
+     * @param points
+     *            number of slices
+     * @return the chart
+     */
+    private static PieChart newPieChart(final Random random, final int points) {
+        final List<Slice> slices = new ArrayList<Slice>();
+        for (int i = 0; i < points; i++) {
+            slices.add(Slice.newSlice(1 + random.nextInt(99), PALETTE[i % PALETTE.length], "Slice " + i, "Legend " + i));
+        }
+        final PieChart chart = GCharts.newPieChart(slices);
+        chart.setSize(500, 300);
+        chart.setTitle("Market share", BLACK, 14);
+        chart.setThreeD(true);
+        return chart;
+    }
+
+    /**
+     * Map chart of US states.
+     *
+     * @param random
+     *            random number generator
+     * @param points
+     *            number of states (capped by the number of states)
+     * @return the chart
+     */
+    private static MapChart newMapChart(final Random random, final int points) {
+        final MapChart chart = GCharts.newMapChart(GeographicalArea.USA);
+        final USAState.Code[] codes = USAState.Code.values();
+        for (int i = 0; i < Math.min(points, codes.length); i++) {
+            chart.addPoliticalBoundary(new USAState(codes[i], random.nextInt(101)));
+        }
+        chart.setColorGradient(WHITE, LIGHTBLUE, BLUE, NAVY);
+        chart.setBackgroundFill(Fills.newSolidFill(ALICEBLUE));
+        return chart;
+    }
+
+    /**
+     * Radar chart.
+     *
+     * @param random
+     *            random number generator
+     * @param series
+     *            number of radar plots
+     * @param points
+     *            points per plot
+     * @param markers
+     *            markers per plot
+     * @return the chart
+     */
+    private static RadarChart newRadarChart(final Random random, final int series, final int points, final int markers) {
+        final List<RadarPlot> plots = new ArrayList<RadarPlot>();
+        for (int s = 0; s < series; s++) {
+            final RadarPlot plot = Plots.newRadarPlot(Data.newData(randomWalk(random, points)), PALETTE[s % PALETTE.length], "Plot " + s);
+            plot.setFillAreaColor(Color.newColor(PALETTE[s % PALETTE.length], 40));
+            for (int m = 0; m < markers; m++) {
+                plot.addShapeMarker(Shape.CIRCLE, PALETTE[s % PALETTE.length], 6, random.nextInt(points));
+            }
+            plots.add(plot);
+        }
+        final RadarChart chart = GCharts.newRadarChart(plots);
+        chart.setSize(500, 500);
+        chart.setTitle("Skills");
+        chart.setSpline(true);
+        chart.addConcentricAxisLabels(AxisLabelsFactory.newNumericRangeAxisLabels(0, 100));
+        chart.addRadialAxisLabels(AxisLabelsFactory.newRadialAxisLabels("N", "E", "S", "W"));
+        return chart;
+    }
+
+    /**
+     * Google-o-meter.
+     *
+     * @param random
+     *            random number generator
+     * @return the chart
+     */
+    private static GoogleOMeter newGoogleOMeter(final Random random) {
+        final GoogleOMeter chart = GCharts.newGoogleOMeter(random.nextDouble() * 100, "Load", "Cluster load", RED, YELLOW, GREEN);
+        chart.setSize(400, 200);
+        chart.setTitle("Cluster");
+        return chart;
+    }
+
+    /**
+     * Venn diagram.
+     *
+     * @return the chart
+     */
+    private static VennDiagram newVennDiagram() {
+        final VennDiagram chart = GCharts.newVennDiagram(100, 80, 60, 30, 30, 30, 10);
+        chart.setSize(400, 300);
+        chart.setTitle("Overlap");
+        chart.setCircleLegends("A", "B", "C");
+        chart.setCircleColors(RED, GREEN, BLUE);
+        return chart;
+    }
+}
@@ -0,0 +1,262 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.benchmarks;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.googlecode.charts4j.DataEncoding;
+import com.googlecode.charts4j.GChart;
+import com.googlecode.charts4j.benchmarks.ChartFixtures.ChartKind;
+
+/**
+ * Measures the throughput of turning a fully configured chart into a URL, in
+ * URLs per second (ops/s). The chart is built once per trial so only URL
+ * generation is measured. Charts cache their URL and parameters until they
+ * are modified, so every method is measured twice: the plain benchmarks
+ * invalidate the cache before each invocation and measure rendering, and the
+ * <code>Cached</code> benchmarks measure cache hits. Run with the GC profiler
+ * (see {@link #main(String[])} or <code>-prof gc</code>) to see the
+ * allocation rate per operation.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChartURLBenchmark {
+
+    /**
+     * The chart under test, built once per trial.
+     */
+    @State(Scope.Thread)
+    public static class CachedChart {
+
+        /** Chart type. */
+        @Param({ "LINE", "XY_LINE", "BAR", "SCATTER", "PIE", "MAP", "RADAR", "GOOGLE_O_METER", "VENN" })
+        public ChartKind    chartType;
+
+        /** Number of data series. */
+        @Param({ "1", "8" })
+        public int          series;
+
+        /** Number of points per series. */
+        @Param({ "50", "1000" })
+        public int          points;
+
+        /** Number of point markers per series. */
+        @Param({ "0", "16" })
+        public int          markers;
+
+        /** Data encoding. */
+        @Param({ "SIMPLE", "EXTENDED", "TEXT" })
+        public DataEncoding encoding;
+
+        /** The chart. */
+        GChart              chart;
+
+        /** Reused buffer for the writeURL benchmarks. */
+        final StringBuilder buffer = new StringBuilder();
+
+        /**
+         * Build the chart.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            chart = ChartFixtures.newChart(chartType, series, points, markers, encoding);
+        }
+    }
+
+    /**
+     * The chart under test, modified before each invocation so that its URL
+     * cache is invalidated and the chart is rendered again.
+     */
+    @State(Scope.Thread)
+    public static class UncachedChart extends CachedChart {
+
+        /**
+         * Invalidate the URL cache by setting the URL endpoint, which marks
+         * the chart as modified without changing its URL.
+         */
+        @Setup(Level.Invocation)
+        public void invalidate() {
+            chart.setURLEndpoint(chart.getURLEndpoint());
+        }
+    }
+
+    /**
+     * Benchmark {@link GChart#toURLString()}, rendering the chart.
+     *
+     * @param state
+     *            the chart
+     * @return the URL
+     */
+    @Benchmark
+    public String toURLString(final UncachedChart state) {
+        return state.chart.toURLString();
+    }
+
+    /**
+     * Benchmark {@link GChart#toURLString()} on a cache hit.
+     *
+     * @param state
+     *            the chart
+     * @return the URL
+     */
+    @Benchmark
+    public String toURLStringCached(final CachedChart state) {
+        return state.chart.toURLString();
+    }
+
+    /**
+     * Benchmark {@link GChart#getParameters()}, rendering the chart.
+     *
+     * @param state
+     *            the chart
+     * @return the parameters
+     */
+    @Benchmark
+    public Map<String, String> getParameters(final UncachedChart state) {
+        return state.chart.getParameters();
+    }
+
+    /**
+     * Benchmark {@link GChart#getParameters()} on a cache hit.
+     *
+     * @param state
+     *            the chart
+     * @return the parameters
+     */
+    @Benchmark
+    public Map<String, String> getParametersCached(final CachedChart state) {
+        return state.chart.getParameters();
+    }
+
+    /**
+     * Benchmark {@link GChart#toURLForHTML()}, rendering the chart.
+     *
+     * @param state
+     *            the chart
+     * @return the HTML escaped URL
+     */
+    @Benchmark
+    public String toURLForHTML(final UncachedChart state) {
+        return state.chart.toURLForHTML();
+    }
+
+    /**
+     * Benchmark {@link GChart#toURLForHTML()} on a cache hit.
+     *
+     * @param state
+     *            the chart
+     * @return the HTML escaped URL
+     */
+    @Benchmark
+    public String toURLForHTMLCached(final CachedChart state) {
+        return state.chart.toURLForHTML();
+    }
+
+    /**
+     * Benchmark {@link GChart#writeURL(Appendable)} into a reused buffer,
+     * rendering the chart.
+     *
+     * @param state
+     *            the chart
+     * @return the buffer
+     * @throws IOException
+     *             never for a StringBuilder
+     */
+    @Benchmark
+    public StringBuilder writeURL(final UncachedChart state) throws IOException {
+        return writeURL(state.chart, state.buffer);
+    }
+
+    /**
+     * Benchmark {@link GChart#writeURL(Appendable)} into a reused buffer on a
+     * cache hit.
+     *
+     * @param state
+     *            the chart
+     * @return the buffer
+     * @throws IOException
+     *             never for a StringBuilder
+     */
+    @Benchmark
+    public StringBuilder writeURLCached(final CachedChart state) throws IOException {
+        return writeURL(state.chart, state.buffer);
+    }
+
+    /**
+     * Write the URL of the chart into the buffer.
+     *
+     * @param chart
+     *            the chart
+     * @param buffer
+     *            the buffer, cleared first
+     * @return the buffer
+     * @throws IOException
+     *             never for a StringBuilder
+     */
+    private static StringBuilder writeURL(final GChart chart, final StringBuilder buffer) throws IOException {
+        buffer.setLength(0);
+        chart.writeURL(buffer);
+        return buffer;
+    }
+
+    /**
+     * Run all benchmarks with the GC profiler.
+     *
+     * @param args
+     *            ignored
+     * @throws RunnerException
+     *             if the benchmarks cannot be run
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(ChartURLBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
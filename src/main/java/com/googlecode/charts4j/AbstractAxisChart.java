@@ -27,14 +27,15 @@ package com.googlecode.charts4j;
 
 import static com.googlecode.charts4j.collect.Preconditions.*;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import com.googlecode.charts4j.collect.DoubleList;
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.collect.Maps;
 import com.googlecode.charts4j.parameters.AxisTypes;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Abstract type that is common to all charts with axes.
@@ -44,19 +45,19 @@ import com.googlecode.charts4j.parameters.AxisTypes;
 public abstract class AbstractAxisChart extends AbstractGraphChart implements GridChart {
 
     /** List of X axis labels. **/
-    private final List<AxisLabelsImpl> xAxisLabels     = Lists.newLinkedList();
+    private final List<AxisLabelsImpl> xAxisLabels     = Lists.newArrayList();
 
     /** List of Y axis labels. **/
-    private final List<AxisLabelsImpl> yAxisLabels     = Lists.newLinkedList();
+    private final List<AxisLabelsImpl> yAxisLabels     = Lists.newArrayList();
 
     /** List of top axis labels. **/
-    private final List<AxisLabelsImpl> topAxisLabels   = Lists.newLinkedList();
+    private final List<AxisLabelsImpl> topAxisLabels   = Lists.newArrayList();
 
     /** List of right axis labels. **/
-    private final List<AxisLabelsImpl> rightAxisLabels = Lists.newLinkedList();
+    private final List<AxisLabelsImpl> rightAxisLabels = Lists.newArrayList();
 
     /** List of free markers. **/
-    private final List<FreeMarker> freeMarkers         = Lists.newLinkedList();
+    private final List<FreeMarker> freeMarkers         = Lists.newArrayList();
 
     /**
      * Line style for grid. For internal purposes only. Thickness field is
@@ -89,6 +90,7 @@ public abstract class AbstractAxisChart extends AbstractGraphChart implements Gr
     public final void addXAxisLabels(final AxisLabels axisLabels) {
         checkNotNull(axisLabels, "axisLabel cannnot be null");
         xAxisLabels.add((AxisLabelsImpl) axisLabels.klone());
+        markModified();
     }
 
     /**
@@ -103,6 +105,7 @@ public abstract class AbstractAxisChart extends AbstractGraphChart implements Gr
     public final void addYAxisLabels(final AxisLabels axisLabels) {
         checkNotNull(axisLabels, "axisLabel cannnot be null");
         yAxisLabels.add((AxisLabelsImpl) axisLabels.klone());
+        markModified();
     }
 
     /**
@@ -117,6 +120,7 @@ public abstract class AbstractAxisChart extends AbstractGraphChart implements Gr
     public final void addTopAxisLabels(final AxisLabels axisLabels) {
         checkNotNull(axisLabels, "axisLabel cannnot be null");
         topAxisLabels.add((AxisLabelsImpl) axisLabels.klone());
+        markModified();
     }
 
     /**
@@ -131,6 +135,7 @@ public abstract class AbstractAxisChart extends AbstractGraphChart implements Gr
     public final void addRightAxisLabels(final AxisLabels axisLabels) {
         checkNotNull(axisLabels, "axisLabels cannnot be null");
         rightAxisLabels.add((AxisLabelsImpl) axisLabels.klone());
+        markModified();
     }
 
 
@@ -152,6 +157,7 @@ public abstract class AbstractAxisChart extends AbstractGraphChart implements Gr
         checkArgument(xPos >= 0 && xPos <= 100, "xPos must be >= 0 and <= 100: %s", xPos);
         checkArgument(yPos >= 0 && yPos <= 100, "yPos must be >= 0 and <= 100: %s", yPos);
         freeMarkers.add(new FreeMarker(marker, xPos, yPos));
+        markModified();
     }
 
     /**
@@ -167,14 +173,15 @@ public abstract class AbstractAxisChart extends AbstractGraphChart implements Gr
         // Line thickness is ignored. LineStyle just happened to be a convenient
         // container.
         gridLineStyle = LineStyle.newLineStyle(1, lengthOfLineSegment, lengthOfBlankSegment);
+        markModified();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
         if (gridLineStyle != null) {
             parameterManager.setGridLineParameter(xAxisStepSize, yAxisStepSize, gridLineStyle.getLengthOfLineSegment(), gridLineStyle.getLengthOfBlankSegment());
         }
@@ -193,21 +200,22 @@ public abstract class AbstractAxisChart extends AbstractGraphChart implements Gr
             for (Map.Entry<AxisTypes, List<AxisLabelsImpl>> entry : axisTypeMap.entrySet()) {
                 for (AxisLabelsImpl axisLabel : entry.getValue()) {
                     parameterManager.addAxisTypes(entry.getKey());
+                    final DoubleList positions = axisLabel.getPositions();
+                    final ImmutableList<String> labels = axisLabel.getLabels();
                     // if there are labels but no positions
-                    if (axisLabel.getPositions().isEmpty() && !axisLabel.getLabels().isEmpty()) {
-                        parameterManager.addAxisLabels(axisIndex, axisLabel.getLabels());
+                    if (positions.isEmpty() && !labels.isEmpty()) {
+                        parameterManager.addAxisLabels(axisIndex, labels);
                     }
                     // if there are labels and positions
-                    else if (!axisLabel.getPositions().isEmpty() && !axisLabel.getLabels().isEmpty()) {
-                        parameterManager.addAxisLabels(axisIndex, axisLabel.getLabels());
-                        parameterManager.addAxisLabelPosition(axisIndex, axisLabel.getPositions());
+                    else if (!positions.isEmpty() && !labels.isEmpty()) {
+                        parameterManager.addAxisLabels(axisIndex, labels);
+                        parameterManager.addAxisLabelPosition(axisIndex, positions, axisLabel.getIntegralPositions());
                         parameterManager.addAxisRange(axisIndex, Data.MIN_VALUE, Data.MAX_VALUE, Double.NaN);
                     }
                     // if there are positions but no labels
-                    else if (!axisLabel.getPositions().isEmpty() && axisLabel.getLabels().isEmpty()) {
-                        final List<Double> sortedpositions = convertToSortedDoubleList(axisLabel.getPositions());
-                        parameterManager.addAxisLabelPosition(axisIndex, axisLabel.getPositions());
-                        parameterManager.addAxisRange(axisIndex, sortedpositions.get(0), sortedpositions.get(sortedpositions.size() - 1), Double.NaN);
+                    else if (!positions.isEmpty() && labels.isEmpty()) {
+                        parameterManager.addAxisLabelPosition(axisIndex, positions, axisLabel.getIntegralPositions());
+                        parameterManager.addAxisRange(axisIndex, positions.min(), positions.max(), Double.NaN);
                     } else if (axisLabel.getRange() != null) {
                         parameterManager.addAxisRange(axisIndex, axisLabel.getRange().getMin(), axisLabel.getRange().getMax(), axisLabel.getRange().getInterval());
                     }
@@ -224,22 +232,6 @@ public abstract class AbstractAxisChart extends AbstractGraphChart implements Gr
         }
     }
 
-    /**
-     * A method to convert a number list to a double list.
-     *
-     * @param positions
-     *            the axis positions list.
-     * @return a double list containing positions.
-     */
-    private static List<Double> convertToSortedDoubleList(final ImmutableList<? extends Number> positions) {
-        final List<Double> doubleList = Lists.newLinkedList();
-        for (Number number : positions) {
-            doubleList.add(number.doubleValue());
-        }
-        Collections.sort(doubleList);
-        return doubleList;
-    }
-
     /**
      * Private static inner class to encapsulate a FreeMarker.
      */
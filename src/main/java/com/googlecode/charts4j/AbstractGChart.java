@@ -28,7 +28,9 @@ package com.googlecode.charts4j;
 import static com.googlecode.charts4j.Color.WHITE;
 import static com.googlecode.charts4j.collect.Preconditions.*;
 
+import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.googlecode.charts4j.parameters.FillType;
 import com.googlecode.charts4j.parameters.ParameterManager;
@@ -41,9 +43,6 @@ import com.googlecode.charts4j.parameters.SolidFillType;
  */
 abstract class AbstractGChart implements GChart {
 
-    /** Contains accumulation of all parameters set by client. */
-    protected final ParameterManager parameterManager = new ParameterManager();
-
     /** The largest possible area for all charts except maps is 300,000 pixels. */
     private static final int         MAX_PIXELS       = 300000;
 
@@ -95,6 +94,15 @@ abstract class AbstractGChart implements GChart {
     /** For configuration of the chart URL endpoint.  */
     private String                   chartURLEndpoint = "http://chart.apis.google.com/chart";
 
+    /** Incremented by every modification of this chart. */
+    private volatile long            version;
+
+    /** Immutable snapshot of what has been rendered for some chart version. */
+    private volatile RenderCache     cache            = RenderCache.EMPTY;
+
+    /** Number of requests answered from the cache. */
+    private final AtomicLong         cacheHitCount    = new AtomicLong();
+
     /**
      * AbstractGChart constructor.
      */
@@ -111,31 +119,106 @@ abstract class AbstractGChart implements GChart {
         checkArgument(height > MIN_HEIGHT && height <= MAX_HEIGHT, "height must be > " + MIN_WIDTH + " and <= " + MAX_WIDTH + ": %s", height);
         this.width = width;
         this.height = height;
+        markModified();
+    }
+
+    /**
+     * Get the chart width in pixels.
+     *
+     * @return the chart width
+     */
+    final int getWidth() {
+        return width;
     }
 
     /**
      * {@inheritDoc}
      */
     public final Map<String, String> getParameters() {
-        parameterManager.init(chartURLEndpoint);
-        prepareData();
-        return parameterManager.getParameterMap();
+        final RenderCache c = currentCache();
+        if (c.parameters != null) {
+            cacheHitCount.incrementAndGet();
+            return c.parameters;
+        }
+        final Map<String, String> parameters = render().getParameterMap();
+        cache = new RenderCache(c.version, c.url, c.urlForHTML, parameters);
+        return parameters;
     }
 
     /**
      * {@inheritDoc}
      */
     public final String toURLString() {
-        parameterManager.init(chartURLEndpoint);
-        prepareData();
-        return parameterManager.toString();
+        final RenderCache c = currentCache();
+        if (c.url != null) {
+            cacheHitCount.incrementAndGet();
+            return c.url;
+        }
+        final String url = render().toString();
+        cache = new RenderCache(c.version, url, c.urlForHTML, c.parameters);
+        return url;
     }
 
     /**
      * {@inheritDoc}
      */
     public final String toURLForHTML() {
-        return toURLString().replaceAll("&", "&amp;");
+        final RenderCache c = currentCache();
+        if (c.urlForHTML != null) {
+            cacheHitCount.incrementAndGet();
+            return c.urlForHTML;
+        }
+        final String url = c.url != null ? c.url : render().toString();
+        final String urlForHTML = url.replace("&", "&amp;");
+        cache = new RenderCache(c.version, url, urlForHTML, c.parameters);
+        return urlForHTML;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final void writeURL(final Appendable appendable) throws IOException {
+        checkNotNull(appendable, "appendable cannot be null");
+        final RenderCache c = currentCache();
+        if (c.url != null) {
+            cacheHitCount.incrementAndGet();
+            appendable.append(c.url);
+        } else {
+            render().writeURL(appendable);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final void writeFormBody(final Appendable appendable) throws IOException {
+        checkNotNull(appendable, "appendable cannot be null");
+        final RenderCache c = currentCache();
+        if (c.url != null) {
+            cacheHitCount.incrementAndGet();
+            appendable.append(c.url, chartURLEndpoint.length() + 1, c.url.length());
+        } else {
+            render().writeFormBody(appendable);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final long getFormBodyLength() {
+        final RenderCache c = currentCache();
+        if (c.url != null) {
+            cacheHitCount.incrementAndGet();
+            return c.url.length() - chartURLEndpoint.length() - 1;
+        }
+        return render().getFormBodyLength();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final long getCacheHitCount() {
+        return cacheHitCount.get();
     }
 
     /**
@@ -143,7 +226,8 @@ abstract class AbstractGChart implements GChart {
      */
     public void setBackgroundFill(final Fill fill) {
         checkNotNull(fill, "The background fill cannot be null");
-        this.backgroundFill = fill;
+        this.backgroundFill = fill.klone();
+        markModified();
     }
 
     /**
@@ -152,6 +236,7 @@ abstract class AbstractGChart implements GChart {
     public void setTransparency(final int opacity) {
         checkArgument(opacity >= MIN_OPACITY && opacity <= MAX_OPACITY, "opacity must be between " + MIN_OPACITY + " and " + MAX_OPACITY + ": %s", opacity);
         this.opacity = opacity;
+        markModified();
     }
 
     /**
@@ -160,6 +245,7 @@ abstract class AbstractGChart implements GChart {
     public final void setDataEncoding(final DataEncoding dataEncoding) {
         checkNotNull(dataEncoding, "The data encoding cannot be null");
         this.dataEncoding = dataEncoding;
+        markModified();
     }
 
     /**
@@ -167,6 +253,7 @@ abstract class AbstractGChart implements GChart {
      */
     public void setMargins(final int leftMargin, final int rightMargin, final int topMargin, final int bottomMargin) {
         this.margins = new Margins(leftMargin, rightMargin, topMargin, bottomMargin);
+        markModified();
     }
 
     /**
@@ -175,12 +262,72 @@ abstract class AbstractGChart implements GChart {
     public void setURLEndpoint(final String urlEndpoint) {
         checkNotNull(urlEndpoint, "The chart URL endpoint cannot be null");
         this.chartURLEndpoint = urlEndpoint;
+        markModified();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final String getURLEndpoint() {
+        return chartURLEndpoint;
+    }
+
+    /**
+     * Record a modification of this chart. Every method that changes what
+     * {@link #prepareData(ParameterManager)} produces must call this, so that
+     * the cached URL and parameters are rebuilt on the next request.
+     */
+    protected final void markModified() {
+        version++;
+    }
+
+    /**
+     * Get the version of the objects this chart holds on to that the caller
+     * can still modify, such as plots. It must grow whenever one of them is
+     * modified. Charts that hold no such objects return 0.
+     *
+     * @return the version of the content of this chart
+     */
+    long getContentVersion() {
+        return 0;
+    }
+
+    /**
+     * Get the render cache for the current chart version. If the chart has
+     * been modified since the cache was built, an empty cache for the current
+     * version is returned instead.
+     *
+     * @return the render cache for the current version
+     */
+    private RenderCache currentCache() {
+        final long v = version + getContentVersion();
+        final RenderCache c = cache;
+        return c.version == v ? c : new RenderCache(v, null, null, null);
+    }
+
+    /**
+     * Render the chart into a new parameter manager. Each call works on its
+     * own parameter manager, so a chart that is no longer being modified can
+     * be rendered from many threads at once.
+     *
+     * @return the parameter manager holding the chart parameters
+     */
+    final ParameterManager render() {
+        final ParameterManager parameterManager = new ParameterManager();
+        parameterManager.init(chartURLEndpoint);
+        prepareData(parameterManager);
+        return parameterManager;
     }
 
     /**
-     * Prepare data for URL String formation.
+     * Prepare data for URL String formation. Implementations must only read
+     * the chart state and write to the given parameter manager, which is
+     * private to the current call.
+     *
+     * @param parameterManager
+     *            the parameter manager to add the chart parameters to
      */
-    protected void prepareData() {
+    protected void prepareData(final ParameterManager parameterManager) {
         if (backgroundFill instanceof SolidFill) {
             final SolidFill solid = (SolidFill) backgroundFill;
             parameterManager.addSolidFill(SolidFillType.BACKGROUND, solid.getColor());
@@ -195,12 +342,70 @@ abstract class AbstractGChart implements GChart {
             parameterManager.addSolidFill(SolidFillType.TRANSPARENCY, Color.newColor(WHITE, opacity));
         }
         parameterManager.setChartSizeParameter(width, height);
-        parameterManager.setDataEncoding(dataEncoding);
+        parameterManager.setDataEncoding(dataEncoding.resolve(getDataResolution(width, height)));
         if (margins != null) {
             parameterManager.setMargins(margins.leftMargin, margins.rightMargin, margins.topMargin, margins.bottomMargin);
         }
     }
 
+    /**
+     * Immutable snapshot of the URL, HTML URL and parameters rendered for one
+     * chart version. Fields that have not been rendered yet are null. A new
+     * snapshot replaces the old one whenever a field is filled in, so readers
+     * never see a partially updated cache.
+     */
+    private static final class RenderCache {
+
+        /** The cache for a chart that has never been rendered. */
+        private static final RenderCache EMPTY = new RenderCache(-1, null, null, null);
+
+        /** The chart version this cache was built for. */
+        private final long                version;
+
+        /** The URL, or null. */
+        private final String              url;
+
+        /** The HTML URL, or null. */
+        private final String              urlForHTML;
+
+        /** The parameters, or null. */
+        private final Map<String, String> parameters;
+
+        /**
+         * Create a render cache.
+         *
+         * @param version
+         *            the chart version
+         * @param url
+         *            the URL, or null
+         * @param urlForHTML
+         *            the HTML URL, or null
+         * @param parameters
+         *            the parameters, or null
+         */
+        private RenderCache(final long version, final String url, final String urlForHTML, final Map<String, String> parameters) {
+            this.version    = version;
+            this.url        = url;
+            this.urlForHTML = urlForHTML;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * Get the number of pixels the data of this chart is drawn across, for
+     * {@link DataEncoding#AUTO}. Charts whose data is not drawn along a pixel
+     * axis keep the default, which always selects extended encoding.
+     *
+     * @param width
+     *            the chart width
+     * @param height
+     *            the chart height
+     * @return the data resolution in pixels
+     */
+    protected int getDataResolution(final int width, final int height) {
+        return Integer.MAX_VALUE;
+    }
+
     /**
      * Inner class that encapsulates the chart margins.
      */
@@ -29,6 +29,7 @@ import static com.googlecode.charts4j.collect.Preconditions.checkArgument;
 import static com.googlecode.charts4j.collect.Preconditions.checkNotNull;
 
 import com.googlecode.charts4j.parameters.FillType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 import com.googlecode.charts4j.parameters.SolidFillType;
 
 /**
@@ -65,6 +66,7 @@ public abstract class AbstractGraphChart extends AbstractGChart implements Graph
     public final void setTitle(final String title) {
         checkNotNull(title, "Title cannot be null.");
         this.chartTitle = new ChartTitle(title);
+        markModified();
     }
 
     /**
@@ -75,6 +77,7 @@ public abstract class AbstractGraphChart extends AbstractGChart implements Graph
         checkNotNull(title, "Title cannot be null.");
         checkNotNull(color, "Color cannot be null.");
         this.chartTitle = new ChartTitle(title, color, fontSize);
+        markModified();
     }
 
     /**
@@ -83,6 +86,7 @@ public abstract class AbstractGraphChart extends AbstractGChart implements Graph
     public final void setLegendPosition(final LegendPosition legendPosition) {
         checkNotNull(legendPosition, "Legend position cannot be null.");
         this.legendPosition = legendPosition;
+        markModified();
     }
 
     /**
@@ -90,6 +94,7 @@ public abstract class AbstractGraphChart extends AbstractGChart implements Graph
      */
     public void setLegendMargins(final int legendWidth, final int legendHeight) {
         this.legendMargins = new LegendMargins(legendWidth, legendHeight);
+        markModified();
     }
 
     /**
@@ -97,14 +102,15 @@ public abstract class AbstractGraphChart extends AbstractGChart implements Graph
      */
     public final void setAreaFill(final Fill fill) {
         areaFill = fill.klone();
+        markModified();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
         if (areaFill instanceof SolidFill) {
             final SolidFill solid = (SolidFill) areaFill;
             parameterManager.addSolidFill(SolidFillType.CHART_AREA, solid.getColor());
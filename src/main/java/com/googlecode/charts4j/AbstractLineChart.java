@@ -32,6 +32,7 @@ import java.util.List;
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.parameters.FillAreaType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Common code for line charts exists here.
@@ -61,12 +62,20 @@ abstract class AbstractLineChart extends AbstractMarkableChart {
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    final long getContentVersion() {
+        return PlotImpl.getModCount(lines);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
 
-        final List<Color> colors        = Lists.newLinkedList();
-        final List<LineStyle> lStyles   = Lists.newLinkedList();
-        final List<Priority> priorities = Lists.newLinkedList();
+        final List<Color> colors        = Lists.newArrayList();
+        final List<LineStyle> lStyles   = Lists.newArrayList();
+        final List<Priority> priorities = Lists.newArrayList();
 
         // Logic to make sure things stay in step.
         boolean hasLegend = false;
@@ -116,7 +125,7 @@ abstract class AbstractLineChart extends AbstractMarkableChart {
             lineCount++;
         }
         if (!priorities.isEmpty()) {
-            setPriorities(priorities, colors, lStyles);
+            setPriorities(parameterManager, priorities, colors, lStyles);
         }
     }
 
@@ -133,11 +142,12 @@ abstract class AbstractLineChart extends AbstractMarkableChart {
     /**
      * Private convenience method for setting priorities.
      *
+     * @param parameterManager
      * @param priorities
      * @param colors
      * @param lineStyles
      */
-    private void setPriorities(final List<Priority> priorities, final List<? extends Color> colors, final List<? extends LineStyle> lineStyles) {
+    private static void setPriorities(final ParameterManager parameterManager, final List<Priority> priorities, final List<? extends Color> colors, final List<? extends LineStyle> lineStyles) {
         for (int i = 0; i < priorities.size(); i++) {
             final Color color = (colors.isEmpty()) ? BLACK : colors.get(i);
             final int size = (lineStyles.isEmpty()) ? 1 : lineStyles.get(i).getLineThickness();
@@ -30,6 +30,7 @@ import static com.googlecode.charts4j.collect.Preconditions.*;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.Lists;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Abstract type that represents all charts that support <b>range</b>
@@ -41,10 +42,10 @@ import com.googlecode.charts4j.collect.Lists;
 public abstract class AbstractMarkableChart extends AbstractAxisChart {
 
     /** Collection of vertical range markers. **/
-    private final List<VerticalRangeMarker>   verticalRangeMarkers   = Lists.newLinkedList();
+    private final List<VerticalRangeMarker>   verticalRangeMarkers   = Lists.newArrayList();
 
     /** Collection of horizontal range markers. **/
-    private final List<HorizontalRangeMarker> horizontalRangeMarkers = Lists.newLinkedList();
+    private final List<HorizontalRangeMarker> horizontalRangeMarkers = Lists.newArrayList();
 
     /**
      * AbstractMarkableChart constructor.
@@ -69,6 +70,7 @@ public abstract class AbstractMarkableChart extends AbstractAxisChart {
         checkRangeArgs(startPoint, endPoint);
         checkNotNull(color, "Color cannot be null.");
         verticalRangeMarkers.add(new VerticalRangeMarker(color, startPoint, endPoint));
+        markModified();
     }
 
     /**
@@ -106,6 +108,7 @@ public abstract class AbstractMarkableChart extends AbstractAxisChart {
         checkRangeArgs(startPoint, endPoint);
         checkNotNull(color, "Color cannot be null.");
         horizontalRangeMarkers.add(new HorizontalRangeMarker(color, startPoint, endPoint));
+        markModified();
     }
 
     /**
@@ -129,8 +132,8 @@ public abstract class AbstractMarkableChart extends AbstractAxisChart {
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
         for (RangeMarker m : horizontalRangeMarkers) {
             parameterManager.addHorizontalRangeMarker(m.getColor(), m.getStartPoint() / Data.MAX_VALUE, m.getEndPoint() / Data.MAX_VALUE);
         }
@@ -0,0 +1,106 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+
+/**
+ * {@link Data} storage that holds the values in a heap array.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+final class ArrayStorage extends DataStorage {
+
+    /** The values. **/
+    private final double[] data;
+
+    /**
+     * Storage that takes ownership of the array.
+     *
+     * @param data
+     *            Double data that no one else holds a reference to.
+     */
+    ArrayStorage(final double[] data) {
+        this.data = data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int size() {
+        return data.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double get(final int index) {
+        return data[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double[] toArray() {
+        return data.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DoubleBuffer asReadOnlyBuffer() {
+        return DoubleBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double[] backingArray() {
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    boolean hasBackingArray() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void encodeTo(final DataEncoding dataEncoding, final Appendable appendable) throws IOException {
+        dataEncoding.encode(data, appendable);
+    }
+}
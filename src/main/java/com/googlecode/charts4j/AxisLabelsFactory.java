@@ -32,7 +32,6 @@ import java.util.Collections;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.Lists;
-import com.googlecode.charts4j.collect.PrimitiveArrays;
 
 /**
  * Static factory class for {@link AxisLabels}.
@@ -175,7 +174,7 @@ public final class AxisLabelsFactory {
      */
     public static AxisLabels newNumericAxisLabels(final double... values) {
         checkNotNull(values, "values cannot be null.");
-        return newNumericAxisLabels(PrimitiveArrays.asList(values));
+        return new AxisLabelsImpl(values);
     }
 
     /**
@@ -25,9 +25,14 @@
 
 package com.googlecode.charts4j;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.isIntegral;
+import static com.googlecode.charts4j.parameters.NumberFormatter.toDouble;
+
 import java.util.List;
 
+import com.googlecode.charts4j.collect.DoubleList;
 import com.googlecode.charts4j.collect.ImmutableList;
+import com.googlecode.charts4j.collect.IntList;
 import com.googlecode.charts4j.collect.Lists;
 
 /**
@@ -43,10 +48,13 @@ class AxisLabelsImpl implements AxisLabels, RadialAxisLabels {
     private AxisStyle          axisStyle;
 
     /** Positions of axis labels. **/
-    private final List<Number> positions = Lists.newLinkedList();
+    private final DoubleList   positions = new DoubleList();
+
+    /** Indices of the positions that are written as integers. **/
+    private final IntList      integralPositions = new IntList();
 
     /** Axis labels. **/
-    private final List<String> labels    = Lists.newLinkedList();
+    private final List<String> labels    = Lists.newArrayList();
 
     /** Numeric range of axis labels.  **/
     private Range              range;
@@ -63,6 +71,7 @@ class AxisLabelsImpl implements AxisLabels, RadialAxisLabels {
      */
     private AxisLabelsImpl(final AxisLabelsImpl axisLabels) {
         this.positions.addAll(axisLabels.positions);
+        this.integralPositions.addAll(axisLabels.integralPositions);
         this.labels.addAll(axisLabels.labels);
         if (axisLabels.getAxisStyle() != null) {
             this.axisStyle = axisLabels.getAxisStyle().klone();
@@ -83,6 +92,18 @@ class AxisLabelsImpl implements AxisLabels, RadialAxisLabels {
      */
     AxisLabelsImpl(final List<? extends String> labels, final List<? extends Number> positions) {
         this.labels.addAll(labels);
+        for (Number position : positions) {
+            if (isIntegral(position)) {
+                integralPositions.add(this.positions.size());
+            }
+            this.positions.add(toDouble(position));
+        }
+    }
+
+    /**
+     * @see AxisLabelsFactory#newNumericAxisLabels(double...)
+     */
+    AxisLabelsImpl(final double[] positions) {
         this.positions.addAll(positions);
     }
 
@@ -120,12 +141,22 @@ class AxisLabelsImpl implements AxisLabels, RadialAxisLabels {
     }
 
     /**
-     * Get an immutable list of the label positions for this axis.
+     * Get a copy of the label positions for this axis.
+     *
+     * @return a copy of the label positions.
+     */
+    DoubleList getPositions() {
+        return new DoubleList(positions);
+    }
+
+    /**
+     * Get a copy of the indices of the label positions that were given as
+     * integers and are written without a fraction.
      *
-     * @return an immutable list of label positions.
+     * @return a copy of the indices of integral label positions.
      */
-    ImmutableList<Number> getPositions() {
-        return Lists.copyOf(positions);
+    IntList getIntegralPositions() {
+        return new IntList(integralPositions);
     }
 
     /**
@@ -31,11 +31,11 @@ import static com.googlecode.charts4j.collect.Preconditions.checkContentsNotNull
 
 import java.util.List;
 
-import com.googlecode.charts4j.BarChartPlot.BarColor;
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.parameters.ChartType;
 import com.googlecode.charts4j.parameters.FillAreaType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 
 /**
@@ -90,6 +90,14 @@ public class BarChart extends AbstractAxisChart {
         this.barChartPlots = Lists.copyOf(barChartPlots);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    final long getContentVersion() {
+        return PlotImpl.getModCount(barChartPlots);
+    }
+
     /**
      * Are the bar charts stacked, or side-by-side.
      *
@@ -99,6 +107,7 @@ public class BarChart extends AbstractAxisChart {
      */
     public final void setDataStacked(final boolean dataStacked) {
         this.dataStacked = dataStacked;
+        markModified();
     }
 
     /**
@@ -109,14 +118,15 @@ public class BarChart extends AbstractAxisChart {
      */
     public final void setHorizontal(final boolean horizontal) {
         this.horizontal = horizontal;
+        markModified();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
 
         // Logic to make sure things stay in step.
         boolean hasLegend = false;
@@ -127,7 +137,7 @@ public class BarChart extends AbstractAxisChart {
         for (Plot plot : barChartPlots) {
             final PlotImpl series = (PlotImpl) plot;
             hasLegend |= (series.getLegend() != null);
-            hasColor |= (series.getColor() != null || !series.getBarColors().isEmpty());
+            hasColor |= (series.getColor() != null || series.hasBarColors());
             hasZeroLine |= (series.getZeroLine() != 0);
         }
 
@@ -141,22 +151,11 @@ public class BarChart extends AbstractAxisChart {
             }
             //Color logic is complicated b/c individual bars can be colored.
             if (hasColor) {
-                if (plot.getBarColors().isEmpty()) {
+                if (!plot.hasBarColors()) {
                     parameterManager.addColor(plot.getColor() != null ? plot.getColor() : BLACK);
                 } else {
                     final List<ImmutableList<Color>> colors = Lists.newArrayList();
-                    final List<Color> colorList = Lists.newLinkedList();
-                    //Initialize color list.
-                    for (int i = 0; i < plot.getData().getSize(); i++) {
-                        colorList.add(plot.getColor() != null ? plot.getColor() : BLACK);
-                    }
-                    //Now set the color on inidvidual bars.
-                    for (BarColor bColor : plot.getBarColors()) {
-                        if (bColor.getIndex() < plot.getData().getSize()) {
-                            colorList.set(bColor.getIndex(), bColor.getColor());
-                        }
-                    }
-                    colors.add(Lists.copyOf(colorList));
+                    colors.add(plot.getBarColors(plot.getColor() != null ? plot.getColor() : BLACK));
                     parameterManager.addColors(Lists.copyOf(colors));
                 }
             }
@@ -196,6 +195,27 @@ public class BarChart extends AbstractAxisChart {
         }
     }
 
+    /**
+     * Compile this chart into a template whose data series are bound per URL.
+     * Plots with individually colored bars have one color per bar, so their
+     * bound data must keep the number of bars. Plots colored by a colormap
+     * cannot be templated, since their colors depend on the data.
+     *
+     * @return the chart template
+     * @throws IllegalArgumentException
+     *             if a plot is colored by a colormap
+     */
+    final ChartTemplate compileTemplate() {
+        final int[] seriesSizes = new int[barChartPlots.size()];
+        int i = 0;
+        for (Plot p : barChartPlots) {
+            final PlotImpl plot = (PlotImpl) p;
+            checkArgument(!plot.hasBarColormap(), "bar chart plot %s is colored by a colormap, so its colors cannot be bound to new data", i);
+            seriesSizes[i++] = plot.hasBarColors() ? plot.getData().getSize() : ChartTemplate.ANY_SIZE;
+        }
+        return new ChartTemplate(render().compileDataTemplate(), seriesSizes, null);
+    }
+
     /**
      * Set the bar chart width.
      *
@@ -207,6 +227,7 @@ public class BarChart extends AbstractAxisChart {
     public final void setBarWidth(final int barWidth) {
         checkArgument(barWidth > -1, "barWidth must be > 0");
         this.barWidth = barWidth;
+        markModified();
     }
 
     /**
@@ -220,6 +241,7 @@ public class BarChart extends AbstractAxisChart {
     public final void setSpaceBetweenGroupsOfBars(final int spaceBetweenGroupsOfBars) {
         checkArgument(spaceWithinGroupsOfBars >= 0, "spaceWithinGroupsOfBars must be >= 0");
         this.spaceBetweenGroupsOfBars = spaceBetweenGroupsOfBars;
+        markModified();
     }
 
     /**
@@ -232,5 +254,14 @@ public class BarChart extends AbstractAxisChart {
     public final void setSpaceWithinGroupsOfBars(final int spaceWithinGroupsOfBars) {
         checkArgument(spaceWithinGroupsOfBars >= 0, "spaceWithinGroupsOfBars must be >= 0");
         this.spaceWithinGroupsOfBars = spaceWithinGroupsOfBars;
+        markModified();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getDataResolution(final int width, final int height) {
+        return horizontal ? width : height;
     }
 }
@@ -78,6 +78,19 @@ public interface BarChartPlot extends Curve {
      */
     void setColor(final Color color, final int index);
 
+    /**
+     * Color every bar by its value with a colormap. The values between
+     * {@link Data#MIN_VALUE} and {@link Data#MAX_VALUE} span the colormap.
+     * Bars colored individually with {@link #setColor(Color, int)} keep their
+     * color. A bar chart with a plot colored by a colormap cannot be compiled
+     * into a {@link ChartTemplate}, since the colors depend on the data.
+     *
+     * @param colormap
+     *            the colormap. Cannot be null.
+     * @see Colormaps
+     */
+    void setColors(final Colormap colormap);
+
     /**
      * Type for specifying a dataline sitting on top of the bar chart.
      *
@@ -142,48 +155,4 @@ public interface BarChartPlot extends Curve {
             return priority;
         }
     }
-
-    /**
-     * The BarColor inner class. Individual bars can be colored.
-     */
-    static class BarColor {
-
-        /** The color. */
-        private final Color color;
-
-        /** The index. */
-        private final int index;
-
-        /**
-         * Instantiates a new bar color.
-         *
-         * @param color
-         *            the color
-         * @param index
-         *            the index
-         */
-        BarColor(final Color color, final int index) {
-            super();
-            this.color = color;
-            this.index = index;
-        }
-
-        /**
-         * Get the colored bar index.
-         *
-         * @return the index
-         */
-        int getIndex() {
-            return index;
-        }
-
-        /**
-         * Get the colored bar color.
-         *
-         * @return the color
-         */
-        Color getColor() {
-            return color;
-        }
-    }
 }
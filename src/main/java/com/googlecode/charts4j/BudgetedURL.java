@@ -0,0 +1,249 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.googlecode.charts4j.collect.ImmutableList;
+import com.googlecode.charts4j.collect.Lists;
+import com.googlecode.charts4j.downsampling.Downsamplers;
+
+/**
+ * A chart URL rendered within a URL length budget, along with a report of
+ * what was done to make it fit. If the full URL is too long, the data series
+ * are downsampled, keeping the minimum and maximum of each stretch of points
+ * so that peaks and troughs remain visible, until the URL fits.
+ *
+ * <p>
+ * Downsampling removes points, so markers that refer to point indices may
+ * land on different points than in the full chart.
+ * </p>
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see GCharts#renderWithinBudget(LineChart, int)
+ * @see GCharts#renderWithinBudget(XYLineChart, int)
+ */
+public final class BudgetedURL {
+
+    /** The fraction of points kept on each further attempt. */
+    private static final double          SHRINK_FACTOR = 0.9;
+
+    /** The URL. */
+    private final String                 url;
+
+    /** The URL length budget. */
+    private final int                    budget;
+
+    /** The number of points in each data series of the chart. */
+    private final ImmutableList<Integer> originalPointCounts;
+
+    /** The number of points in each data series of the URL. */
+    private final ImmutableList<Integer> renderedPointCounts;
+
+    /** Whether any data series was downsampled. */
+    private final boolean                downsampled;
+
+    /**
+     * Create a budgeted URL.
+     *
+     * @param url
+     *            the URL
+     * @param budget
+     *            the URL length budget
+     * @param originalPointCounts
+     *            the number of points in each data series of the chart
+     * @param renderedPointCounts
+     *            the number of points in each data series of the URL
+     */
+    private BudgetedURL(final String url, final int budget, final int[] originalPointCounts, final int[] renderedPointCounts) {
+        this.url = url;
+        this.budget = budget;
+        this.originalPointCounts = toList(originalPointCounts);
+        this.renderedPointCounts = toList(renderedPointCounts);
+        this.downsampled = !Arrays.equals(originalPointCounts, renderedPointCounts);
+    }
+
+    /**
+     * Render a chart template within a URL length budget.
+     *
+     * @param template
+     *            the chart template
+     * @param series
+     *            the data series of the chart
+     * @param xyPairs
+     *            whether the data series are x and y pairs, which must be
+     *            downsampled together
+     * @param budget
+     *            the URL length budget
+     * @return the budgeted URL
+     */
+    static BudgetedURL render(final ChartTemplate template, final List<? extends Data> series, final boolean xyPairs, final int budget) {
+        final int[] original = new int[series.size()];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = series.get(i).getSize();
+        }
+        // The series as the chart renders them, purged and downsampled.
+        final List<? extends Data> prepared = template.prepare(series);
+        final int[] full = new int[prepared.size()];
+        int totalPoints = 0;
+        for (int i = 0; i < full.length; i++) {
+            full[i] = prepared.get(i).getSize();
+            totalPoints += full[i];
+        }
+        final String fullURL = template.toURLString(prepared);
+        if (fullURL.length() <= budget || totalPoints == 0) {
+            return new BudgetedURL(fullURL, budget, original, full);
+        }
+
+        // Estimate how many points fit from the average encoded size of a
+        // point, then shrink until the URL actually fits.
+        final int staticLength = template.getStaticLength();
+        final double charsPerPoint = (double) (fullURL.length() - staticLength) / totalPoints;
+        int maxPoints = (int) ((budget - staticLength) / charsPerPoint);
+        String url = null;
+        int[] rendered = null;
+        while (true) {
+            final List<Data> downsampled = Lists.newArrayList();
+            rendered = new int[original.length];
+            final int step = xyPairs ? 2 : 1;
+            for (int i = 0; i < original.length; i += step) {
+                final Data y = prepared.get(i + step - 1);
+                // Keep at least the first and last points of every series.
+                final int target = Math.max(2, (int) ((long) maxPoints * full[i] / totalPoints));
+                if (xyPairs) {
+                    final Data x = prepared.get(i);
+                    final int[] indices = Downsamplers.select(Downsamplers.newMinMaxDownsampler(), x, y, target);
+                    downsampled.add(Downsamplers.keep(x, indices));
+                    downsampled.add(Downsamplers.keep(y, indices));
+                    rendered[i] = indices.length;
+                    rendered[i + 1] = indices.length;
+                } else {
+                    final Data kept = Downsamplers.downsample(Downsamplers.newMinMaxDownsampler(), y, target);
+                    downsampled.add(kept);
+                    rendered[i] = kept.getSize();
+                }
+            }
+            url = template.toURLString(downsampled);
+            if (url.length() <= budget || maxPoints <= 2 * original.length) {
+                break;
+            }
+            maxPoints = (int) (maxPoints * SHRINK_FACTOR);
+        }
+        return new BudgetedURL(url, budget, original, rendered);
+    }
+
+    /**
+     * Get the URL.
+     *
+     * @return the URL
+     */
+    public String getURL() {
+        return url;
+    }
+
+    /**
+     * Get the length of the URL.
+     *
+     * @return the URL length
+     */
+    public int getLength() {
+        return url.length();
+    }
+
+    /**
+     * Get the URL length budget.
+     *
+     * @return the budget
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Does the URL fit the budget? The URL may still be too long if the
+     * parameters other than the data do not fit, since every data series
+     * keeps at least its first and last points.
+     *
+     * @return true if the URL length is within the budget
+     */
+    public boolean isWithinBudget() {
+        return url.length() <= budget;
+    }
+
+    /**
+     * Were any data series downsampled to fit the budget?
+     *
+     * @return true if points were removed
+     */
+    public boolean isDownsampled() {
+        return downsampled;
+    }
+
+    /**
+     * Get the number of points in each data series of the chart, in the order
+     * the series appear in the URL.
+     *
+     * @return the original point counts
+     */
+    public ImmutableList<Integer> getOriginalPointCounts() {
+        return originalPointCounts;
+    }
+
+    /**
+     * Get the number of points in each data series of the URL, in the order
+     * the series appear in the URL.
+     *
+     * @return the rendered point counts
+     */
+    public ImmutableList<Integer> getRenderedPointCounts() {
+        return renderedPointCounts;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "URL length " + getLength() + " of " + budget + (isWithinBudget() ? "" : " (over budget)") + ", points " + originalPointCounts + (isDownsampled() ? " downsampled to " + renderedPointCounts : " not downsampled");
+    }
+
+    /**
+     * Convert point counts to an immutable list.
+     *
+     * @param counts
+     *            the point counts
+     * @return the immutable list
+     */
+    private static ImmutableList<Integer> toList(final int[] counts) {
+        final List<Integer> list = Lists.newArrayList();
+        for (int count : counts) {
+            list.add(count);
+        }
+        return Lists.copyOf(list);
+    }
+}
@@ -0,0 +1,249 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * {@link Data} storage that is a view of a buffer of doubles or floats,
+ * typically mapped from a file. The values are read from the buffer,
+ * optionally scaled, each time the data is encoded, so a series much larger
+ * than the heap can be rendered. The buffer contents must not change while the data is in use.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ * @see DataUtil#mapDoubles(java.io.File)
+ * @see DataUtil#mapFloats(java.io.File)
+ */
+final class BufferStorage extends DataStorage {
+
+    /** The doubles, or null if the data is a view of floats. **/
+    private final DoubleBuffer doubles;
+
+    /** The floats, or null if the data is a view of doubles. **/
+    private final FloatBuffer  floats;
+
+    /** Whether the values are scaled between min and max. **/
+    private final boolean      scaled;
+
+    /** Value scaled to {@link Data#MIN_VALUE}. **/
+    private final double       min;
+
+    /** Value scaled to {@link Data#MAX_VALUE}. **/
+    private final double       max;
+
+    /**
+     * View of the remaining doubles of the buffer.
+     *
+     * @param doubles
+     *            the buffer. Its position and limit are not changed.
+     */
+    BufferStorage(final DoubleBuffer doubles) {
+        this(doubles.slice(), null, false, 0, 0);
+    }
+
+    /**
+     * View of the remaining floats of the buffer.
+     *
+     * @param floats
+     *            the buffer. Its position and limit are not changed.
+     */
+    BufferStorage(final FloatBuffer floats) {
+        this(null, floats.slice(), false, 0, 0);
+    }
+
+    /**
+     * @param doubles
+     *            the doubles, or null
+     * @param floats
+     *            the floats, or null
+     * @param scaled
+     *            whether the values are scaled
+     * @param min
+     *            value scaled to {@link Data#MIN_VALUE}
+     * @param max
+     *            value scaled to {@link Data#MAX_VALUE}
+     */
+    private BufferStorage(final DoubleBuffer doubles, final FloatBuffer floats, final boolean scaled, final double min, final double max) {
+        this.doubles = doubles;
+        this.floats = floats;
+        this.scaled = scaled;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Get a view of the same buffer that scales the values between min and
+     * max.
+     *
+     * @param scaleMin
+     *            value scaled to {@link Data#MIN_VALUE}
+     * @param scaleMax
+     *            value scaled to {@link Data#MAX_VALUE}
+     * @return the scaled data
+     */
+    BufferStorage scale(final double scaleMin, final double scaleMax) {
+        return new BufferStorage(doubles, floats, true, scaleMin, scaleMax);
+    }
+
+    /**
+     * Find the minimum and maximum of the unscaled values in one pass over
+     * the buffer.
+     *
+     * @return the minimum and maximum, or positive and negative infinity if
+     *         the buffer is empty
+     */
+    double[] range() {
+        double low = Double.POSITIVE_INFINITY;
+        double high = Double.NEGATIVE_INFINITY;
+        final double[] chunk = new double[DataEncoding.CHUNK_SIZE];
+        final float[] scratch = floats == null ? null : new float[DataEncoding.CHUNK_SIZE];
+        final int size = size();
+        for (int from = 0; from < size; from += chunk.length) {
+            final int length = readRaw(from, chunk, scratch);
+            for (int i = 0; i < length; i++) {
+                final double datum = chunk[i];
+                if (datum < low) {
+                    low = datum;
+                }
+                if (datum > high) {
+                    high = datum;
+                }
+            }
+        }
+        return new double[] { low, high };
+    }
+
+    /**
+     * Read unscaled values into the chunk.
+     *
+     * @param from
+     *            index of the first value
+     * @param chunk
+     *            the destination
+     * @param scratch
+     *            scratch array as long as the chunk when reading floats
+     * @return the number of values read
+     */
+    private int readRaw(final int from, final double[] chunk, final float[] scratch) {
+        final int length = Math.min(chunk.length, size() - from);
+        if (doubles != null) {
+            final DoubleBuffer duplicate = doubles.duplicate();
+            duplicate.position(from);
+            duplicate.get(chunk, 0, length);
+        } else {
+            final FloatBuffer duplicate = floats.duplicate();
+            duplicate.position(from);
+            duplicate.get(scratch, 0, length);
+            for (int i = 0; i < length; i++) {
+                chunk[i] = scratch[i];
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Scale an unscaled value.
+     *
+     * @param datum
+     *            the value
+     * @return the scaled value
+     */
+    private double scaleValue(final double datum) {
+        return scaled ? ((datum - min) / (max - min)) * Data.MAX_VALUE : datum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double[] toArray() {
+        final double[] data = new double[size()];
+        final double[] chunk = new double[DataEncoding.CHUNK_SIZE];
+        final float[] scratch = floats == null ? null : new float[DataEncoding.CHUNK_SIZE];
+        for (int from = 0; from < data.length; from += chunk.length) {
+            final int length = readRaw(from, chunk, scratch);
+            for (int i = 0; i < length; i++) {
+                data[from + i] = scaleValue(chunk[i]);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double get(final int index) {
+        return scaleValue(doubles != null ? doubles.get(index) : floats.get(index));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DoubleBuffer asReadOnlyBuffer() {
+        if (doubles != null && !scaled) {
+            return doubles.asReadOnlyBuffer();
+        }
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double[] backingArray() {
+        return toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void encodeTo(final DataEncoding dataEncoding, final Appendable appendable) throws IOException {
+        final double[] chunk = new double[DataEncoding.CHUNK_SIZE];
+        final float[] scratch = floats == null ? null : new float[DataEncoding.CHUNK_SIZE];
+        final int size = size();
+        for (int from = 0; from < size; from += chunk.length) {
+            final int length = readRaw(from, chunk, scratch);
+            if (scaled) {
+                for (int i = 0; i < length; i++) {
+                    chunk[i] = scaleValue(chunk[i]);
+                }
+            }
+            dataEncoding.encodeChunk(chunk, length, from > 0, appendable);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int size() {
+        return doubles != null ? doubles.limit() : floats.limit();
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+
+/**
+ * Compact {@link Data} storage that keeps the 6 bit levels of the
+ * {@link DataEncoding#SIMPLE} encoding as bytes, taking an eighth of the
+ * memory of a double array. Missing values are stored as -1.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ * @see Data#newQuantizedData(DataEncoding, double...)
+ */
+final class ByteStorage extends DataStorage {
+
+    /** The quantized levels. **/
+    private final byte[] levels;
+
+    /**
+     * Quantize the data to the levels of the {@link DataEncoding#SIMPLE}
+     * encoding.
+     *
+     * @param data
+     *            Double data. The array is not kept.
+     */
+    ByteStorage(final double[] data) {
+        levels = new byte[data.length];
+        for (int i = 0; i < data.length; i++) {
+            // The following cast is safe.
+            levels[i] = (byte) DataEncoding.SIMPLE.quantize(data[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double[] toArray() {
+        final double[] data = new double[levels.length];
+        for (int i = 0; i < levels.length; i++) {
+            data[i] = DataEncoding.SIMPLE.dequantize(levels[i]);
+        }
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double get(final int index) {
+        return DataEncoding.SIMPLE.dequantize(levels[index]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DoubleBuffer asReadOnlyBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double[] backingArray() {
+        return toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void encodeTo(final DataEncoding dataEncoding, final Appendable appendable) throws IOException {
+        if (dataEncoding == DataEncoding.SIMPLE) {
+            DataEncoding.encodeSimple(levels, appendable);
+        } else {
+            dataEncoding.encode(toArray(), appendable);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int size() {
+        return levels.length;
+    }
+}
@@ -0,0 +1,485 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A chart URL or form body serialized as US-ASCII bytes, for NIO based
+ * servers that write straight into a {@link ByteBuffer} or a
+ * {@link WritableByteChannel}. The chart parameters are streamed directly
+ * into a byte array, so the URL is never built as a {@link String}.
+ *
+ * <p>
+ * Writes are resumable: each call to {@link #writeTo(ByteBuffer)} or
+ * {@link #writeTo(WritableByteChannel)} continues where the previous one
+ * stopped, so the bytes can be written in pieces as buffer space or channel
+ * capacity becomes available. This is why the bytes are buffered: a
+ * non-blocking channel may accept only part of them, and the chart cannot be
+ * suspended halfway through writing its parameters. It also gives the length
+ * up front for a Content-Length header. To write to a blocking channel
+ * without buffering the whole URL, use
+ * {@link #writeURL(GChart, WritableByteChannel)} or
+ * {@link #writeFormBody(GChart, WritableByteChannel)} instead, which stream
+ * the parameters through a small fixed-size buffer.
+ * </p>
+ *
+ * <p>
+ * Chart URLs are ASCII, since all text parameters are URL encoded. Any other
+ * character, which could only come from the URL endpoint, is written as
+ * <code>?</code>.
+ * </p>
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see GChart#writeURL(Appendable)
+ * @see GChart#writeFormBody(Appendable)
+ */
+public final class ChartBytes {
+
+    /** The initial capacity of the byte array. */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** The size of the buffer the streaming writes go through. */
+    private static final int CHUNK_SIZE       = 8192;
+
+    /** The bytes. Only the first count bytes are used. */
+    private byte[]           bytes            = new byte[INITIAL_CAPACITY];
+
+    /** The number of bytes. */
+    private int              count;
+
+    /** The number of bytes written so far. */
+    private int              position;
+
+    /**
+     * Create empty chart bytes.
+     */
+    private ChartBytes() {
+    }
+
+    /**
+     * Serialize the URL of a chart.
+     *
+     * @param chart
+     *            the chart. Cannot be null.
+     * @return the URL bytes
+     *
+     * @see GChart#toURLString()
+     */
+    public static ChartBytes newURL(final GChart chart) {
+        checkNotNull(chart, "chart cannot be null");
+        final ChartBytes chartBytes = new ChartBytes();
+        try {
+            chart.writeURL(chartBytes.new AsciiWriter());
+        } catch (IOException e) {
+            // AsciiWriter does not throw IOExceptions.
+            throw new AssertionError(e);
+        }
+        return chartBytes;
+    }
+
+    /**
+     * Serialize the parameters of a chart as an
+     * <code>application/x-www-form-urlencoded</code> body.
+     *
+     * @param chart
+     *            the chart. Cannot be null.
+     * @return the form body bytes
+     *
+     * @see GChart#writeFormBody(Appendable)
+     */
+    public static ChartBytes newFormBody(final GChart chart) {
+        checkNotNull(chart, "chart cannot be null");
+        final ChartBytes chartBytes = new ChartBytes();
+        try {
+            chart.writeFormBody(chartBytes.new AsciiWriter());
+        } catch (IOException e) {
+            // AsciiWriter does not throw IOExceptions.
+            throw new AssertionError(e);
+        }
+        return chartBytes;
+    }
+
+    /**
+     * Stream the URL of a chart to a blocking channel, as US-ASCII bytes,
+     * without buffering the whole URL.
+     *
+     * @param chart
+     *            the chart. Cannot be null.
+     * @param channel
+     *            the channel to write to. Must be in blocking mode. Cannot be
+     *            null.
+     * @throws IOException
+     *             if the channel cannot be written to
+     * @throws IllegalArgumentException
+     *             if the channel is a selectable channel in non-blocking mode
+     *
+     * @see GChart#writeURL(Appendable)
+     */
+    public static void writeURL(final GChart chart, final WritableByteChannel channel) throws IOException {
+        checkNotNull(chart, "chart cannot be null");
+        checkNotNull(channel, "channel cannot be null");
+        checkArgument(!(channel instanceof SelectableChannel) || ((SelectableChannel) channel).isBlocking(), "channel must be in blocking mode");
+        final ChannelWriter writer = new ChannelWriter(channel);
+        chart.writeURL(writer);
+        writer.flush();
+    }
+
+    /**
+     * Stream the parameters of a chart to a blocking channel as an
+     * <code>application/x-www-form-urlencoded</code> body, without buffering
+     * the whole body. Send {@link GChart#getFormBodyLength()} as the
+     * Content-Length first.
+     *
+     * @param chart
+     *            the chart. Cannot be null.
+     * @param channel
+     *            the channel to write to. Must be in blocking mode. Cannot be
+     *            null.
+     * @throws IOException
+     *             if the channel cannot be written to
+     * @throws IllegalArgumentException
+     *             if the channel is a selectable channel in non-blocking mode
+     *
+     * @see GChart#writeFormBody(Appendable)
+     */
+    public static void writeFormBody(final GChart chart, final WritableByteChannel channel) throws IOException {
+        checkNotNull(chart, "chart cannot be null");
+        checkNotNull(channel, "channel cannot be null");
+        checkArgument(!(channel instanceof SelectableChannel) || ((SelectableChannel) channel).isBlocking(), "channel must be in blocking mode");
+        final ChannelWriter writer = new ChannelWriter(channel);
+        chart.writeFormBody(writer);
+        writer.flush();
+    }
+
+    /**
+     * Get the total number of bytes, e.g. for a Content-Length header.
+     *
+     * @return the number of bytes
+     */
+    public int length() {
+        return count;
+    }
+
+    /**
+     * Get the number of bytes that have not been written yet.
+     *
+     * @return the number of remaining bytes
+     */
+    public int remaining() {
+        return count - position;
+    }
+
+    /**
+     * Are there bytes that have not been written yet?
+     *
+     * @return true if there are remaining bytes
+     */
+    public boolean hasRemaining() {
+        return position < count;
+    }
+
+    /**
+     * Rewind so that the bytes can be written again from the start.
+     */
+    public void rewind() {
+        position = 0;
+    }
+
+    /**
+     * Write as many of the remaining bytes as fit into the buffer.
+     *
+     * @param buffer
+     *            the buffer to write to. Cannot be null.
+     * @return true if all bytes have been written, false if the buffer filled
+     *         up first and this method must be called again
+     */
+    public boolean writeTo(final ByteBuffer buffer) {
+        checkNotNull(buffer, "buffer cannot be null");
+        final int n = Math.min(buffer.remaining(), count - position);
+        buffer.put(bytes, position, n);
+        position += n;
+        return position == count;
+    }
+
+    /**
+     * Write the remaining bytes to the channel. A blocking channel accepts all
+     * of them; a non-blocking channel may accept only some, in which case this
+     * method must be called again once the channel is writable.
+     *
+     * @param channel
+     *            the channel to write to. Cannot be null.
+     * @return true if all bytes have been written, false otherwise
+     * @throws IOException
+     *             if the channel cannot be written to
+     */
+    public boolean writeTo(final WritableByteChannel channel) throws IOException {
+        checkNotNull(channel, "channel cannot be null");
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes, position, count - position);
+        while (buffer.hasRemaining()) {
+            if (channel.write(buffer) == 0) {
+                break;
+            }
+        }
+        position = buffer.position();
+        return position == count;
+    }
+
+    /**
+     * Make room for more bytes.
+     *
+     * @param n
+     *            the number of bytes to make room for
+     */
+    private void ensureCapacity(final int n) {
+        if (count + n > bytes.length) {
+            final byte[] newBytes = new byte[Math.max(2 * bytes.length, count + n)];
+            System.arraycopy(bytes, 0, newBytes, 0, count);
+            bytes = newBytes;
+        }
+    }
+
+    /**
+     * Convert a character to its US-ASCII byte.
+     *
+     * @param c
+     *            the character
+     * @return the byte
+     */
+    private static byte ascii(final char c) {
+        return c < 0x80 ? (byte) c : (byte) '?';
+    }
+
+    /**
+     * Writer that appends the US-ASCII bytes of the characters written to it.
+     * It is a {@link Writer} so that the data encoding can write whole blocks
+     * of characters at once.
+     */
+    private final class AsciiWriter extends Writer {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            ensureCapacity(len);
+            for (int i = 0; i < len; i++) {
+                bytes[count + i] = ascii(cbuf[off + i]);
+            }
+            count += len;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final String str, final int off, final int len) {
+            ensureCapacity(len);
+            for (int i = 0; i < len; i++) {
+                bytes[count + i] = ascii(str.charAt(off + i));
+            }
+            count += len;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final int c) {
+            ensureCapacity(1);
+            bytes[count++] = ascii((char) c);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Writer append(final CharSequence csq) {
+            final CharSequence s = csq == null ? "null" : csq;
+            return append(s, 0, s.length());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Writer append(final CharSequence csq, final int start, final int end) {
+            final CharSequence s = csq == null ? "null" : csq;
+            ensureCapacity(end - start);
+            for (int i = start; i < end; i++) {
+                bytes[count++] = ascii(s.charAt(i));
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Writer append(final char c) {
+            write(c);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void flush() {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Writer that streams the US-ASCII bytes of the characters written to it
+     * to a blocking channel through a fixed-size buffer.
+     */
+    private static final class ChannelWriter extends Writer {
+
+        /** The channel. */
+        private final WritableByteChannel channel;
+
+        /** The buffer the bytes go through. */
+        private final ByteBuffer          buffer = ByteBuffer.allocate(CHUNK_SIZE);
+
+        /**
+         * Create a writer to the channel.
+         *
+         * @param channel
+         *            the channel
+         */
+        ChannelWriter(final WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                put(cbuf[i]);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final String str, final int off, final int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                put(str.charAt(i));
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final int c) throws IOException {
+            put((char) c);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Writer append(final CharSequence csq) throws IOException {
+            final CharSequence s = csq == null ? "null" : csq;
+            return append(s, 0, s.length());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Writer append(final CharSequence csq, final int start, final int end) throws IOException {
+            final CharSequence s = csq == null ? "null" : csq;
+            for (int i = start; i < end; i++) {
+                put(s.charAt(i));
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Writer append(final char c) throws IOException {
+            put(c);
+            return this;
+        }
+
+        /**
+         * Put a character into the buffer, draining the buffer to the channel
+         * when it is full.
+         *
+         * @param c
+         *            the character
+         * @throws IOException
+         *             if the channel cannot be written to
+         */
+        private void put(final char c) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put(ascii(c));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
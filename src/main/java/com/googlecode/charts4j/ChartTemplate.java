@@ -0,0 +1,330 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import com.googlecode.charts4j.collect.Lists;
+import com.googlecode.charts4j.downsampling.Downsampler;
+import com.googlecode.charts4j.downsampling.Downsamplers;
+import com.googlecode.charts4j.parameters.DataTemplate;
+
+/**
+ * A chart compiled for rendering many times with different data. Every
+ * parameter of the chart except the data (titles, colors, fills, axes,
+ * legends, markers, etc.) is serialized once when the template is compiled.
+ * Each URL is then produced by binding new {@link Data} to the plots of the
+ * chart, so that only the data has to be encoded.
+ *
+ * <p>
+ * A line or XY line chart with a {@link Downsampler} keeps downsampling: the
+ * bound data of every line it would downsample is downsampled the same way,
+ * to the same maximum number of points.
+ * </p>
+ *
+ * <p>
+ * The template is a snapshot: later changes to the chart it was compiled from
+ * do not affect it. Templates are immutable and may be shared between
+ * threads.
+ * </p>
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see GCharts#newChartTemplate(LineChart)
+ * @see GCharts#newChartTemplate(BarChart)
+ * @see GCharts#newChartTemplate(XYLineChart)
+ */
+public final class ChartTemplate {
+
+    /** Marks a data series that may be bound to data of any size. */
+    static final int           ANY_SIZE = -1;
+
+    /** The serialized chart parameters. */
+    private final DataTemplate dataTemplate;
+
+    /** The required size of each data series, or ANY_SIZE. */
+    private final int[]        seriesSizes;
+
+    /**
+     * For x and y data pairs, whether each pair is purged of duplicate
+     * points. Null if the data series are not pairs.
+     */
+    private final boolean[]    purgedPairs;
+
+    /** Downsampler applied to the bound data, or null. */
+    private final Downsampler  downsampler;
+
+    /** Maximum number of points per downsampled plot. */
+    private final int          maxPoints;
+
+    /** Whether the data of each plot is downsampled. Null if none is. */
+    private final boolean[]    downsampledPlots;
+
+    /**
+     * Create a chart template that does not downsample.
+     *
+     * @param dataTemplate
+     *            the serialized chart parameters
+     * @param seriesSizes
+     *            the required size of each data series, or ANY_SIZE
+     * @param purgedPairs
+     *            for x and y data pairs, whether each pair is purged of
+     *            duplicate points, or null if the data series are not pairs
+     */
+    ChartTemplate(final DataTemplate dataTemplate, final int[] seriesSizes, final boolean[] purgedPairs) {
+        this(dataTemplate, seriesSizes, purgedPairs, null, 0, null);
+    }
+
+    /**
+     * Create a chart template.
+     *
+     * @param dataTemplate
+     *            the serialized chart parameters
+     * @param seriesSizes
+     *            the required size of each data series, or ANY_SIZE
+     * @param purgedPairs
+     *            for x and y data pairs, whether each pair is purged of
+     *            duplicate points, or null if the data series are not pairs
+     * @param downsampler
+     *            the downsampler applied to the bound data, or null
+     * @param maxPoints
+     *            the maximum number of points per downsampled plot
+     * @param downsampledPlots
+     *            whether the data of each plot is downsampled, or null if the
+     *            downsampler is null
+     */
+    ChartTemplate(final DataTemplate dataTemplate, final int[] seriesSizes, final boolean[] purgedPairs, final Downsampler downsampler, final int maxPoints, final boolean[] downsampledPlots) {
+        this.dataTemplate = dataTemplate;
+        this.seriesSizes = seriesSizes.clone();
+        this.purgedPairs = purgedPairs == null ? null : purgedPairs.clone();
+        this.downsampler = downsampler;
+        this.maxPoints = maxPoints;
+        this.downsampledPlots = downsampledPlots == null ? null : downsampledPlots.clone();
+    }
+
+    /**
+     * Get the number of data series that must be bound to render this
+     * template. Line and bar charts have one data series per plot. XY line
+     * charts have two per plot: the x data followed by the y data.
+     *
+     * @return the number of data series
+     */
+    public int getSeriesCount() {
+        return seriesSizes.length;
+    }
+
+    /**
+     * Get the length of the URL without the encoded data series.
+     *
+     * @return the length of the serialized parameters
+     */
+    int getStaticLength() {
+        return dataTemplate.getStaticLength();
+    }
+
+    /**
+     * Render the URL for the given data.
+     *
+     * @param data
+     *            One data series per plot, in plot order (x and y data for
+     *            each XY line). Cannot be null or contain a null.
+     * @return the Google Chart API URL
+     *
+     * @see GChart#toURLString()
+     */
+    public String toURLString(final Data... data) {
+        checkNotNull(data, "data cannot be null or contain a null.");
+        return toURLString(Arrays.asList(data));
+    }
+
+    /**
+     * Render the URL for the given data.
+     *
+     * @param data
+     *            One data series per plot, in plot order (x and y data for
+     *            each XY line). Cannot be null or contain a null.
+     * @return the Google Chart API URL
+     *
+     * @see GChart#toURLString()
+     */
+    public String toURLString(final List<? extends Data> data) {
+        final StringBuilder sb = new StringBuilder(dataTemplate.getStaticLength() + 64 * seriesSizes.length);
+        try {
+            writeURL(sb, data);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions.
+            throw new AssertionError(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Render the URL for the given data, suitable for HTML.
+     *
+     * @param data
+     *            One data series per plot, in plot order (x and y data for
+     *            each XY line). Cannot be null or contain a null.
+     * @return the Google Chart API URL with ampersands escaped
+     *
+     * @see GChart#toURLForHTML()
+     */
+    public String toURLForHTML(final List<? extends Data> data) {
+        return toURLString(data).replace("&", "&amp;");
+    }
+
+    /**
+     * Write the URL for the given data to the appendable.
+     *
+     * @param appendable
+     *            the appendable to write the URL to. Cannot be null.
+     * @param data
+     *            One data series per plot, in plot order (x and y data for
+     *            each XY line). Cannot be null or contain a null.
+     * @throws IOException
+     *             if the appendable cannot be written to
+     *
+     * @see GChart#writeURL(Appendable)
+     */
+    public void writeURL(final Appendable appendable, final List<? extends Data> data) throws IOException {
+        checkNotNull(appendable, "appendable cannot be null");
+        checkData(data);
+        dataTemplate.writeURL(appendable, prepare(data));
+    }
+
+    /**
+     * Write the URL for the given data to the appendable, encoding each data
+     * series in parallel on the executor. Worth it for series of millions of
+     * points, e.g. when the URL is posted as a form body.
+     *
+     * @param appendable
+     *            the appendable to write the URL to. Cannot be null.
+     * @param data
+     *            One data series per plot, in plot order (x and y data for
+     *            each XY line). Cannot be null or contain a null.
+     * @param executor
+     *            the executor that runs the encoding tasks. Cannot be null.
+     * @param threshold
+     *            the minimum number of values encoded by a task. Must be &gt;
+     *            0.
+     * @throws IOException
+     *             if the appendable cannot be written to
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             data to be encoded
+     *
+     * @see DataEncoding#encode(Data, Appendable, Executor, int)
+     */
+    public void writeURL(final Appendable appendable, final List<? extends Data> data, final Executor executor, final int threshold) throws IOException, InterruptedException {
+        checkNotNull(appendable, "appendable cannot be null");
+        checkNotNull(executor, "executor cannot be null");
+        checkArgument(threshold > 0, "threshold must be > 0: %s", threshold);
+        checkData(data);
+        dataTemplate.writeURL(appendable, prepare(data), executor, threshold);
+    }
+
+    /**
+     * Check that the data series match the plots of the chart.
+     *
+     * @param data
+     *            the data series
+     */
+    private void checkData(final List<? extends Data> data) {
+        checkContentsNotNull(data, "data cannot be null or contain a null.");
+        checkArgument(data.size() == seriesSizes.length, "expected %s data series: %s", seriesSizes.length, data.size());
+        for (int i = 0; i < seriesSizes.length; i++) {
+            checkArgument(seriesSizes[i] == ANY_SIZE || seriesSizes[i] == data.get(i).getSize(), "data series %s must have %s points, one per colored bar", i, seriesSizes[i]);
+        }
+    }
+
+    /**
+     * Prepare bound data for encoding as the chart would: purge XY data of
+     * duplicate points, then downsample it.
+     *
+     * @param data
+     *            the bound data series
+     * @return the data series to encode
+     */
+    List<? extends Data> prepare(final List<? extends Data> data) {
+        final List<? extends Data> purged = purgedPairs != null ? removeDuplicatePoints(data) : data;
+        return downsampler != null ? downsample(purged) : purged;
+    }
+
+    /**
+     * Downsample the data of each downsampled plot, as {@link LineChart} and
+     * {@link XYLineChart} do.
+     *
+     * @param data
+     *            the data series
+     * @return the downsampled data series
+     */
+    private List<Data> downsample(final List<? extends Data> data) {
+        final List<Data> downsampled = Lists.newArrayList();
+        if (purgedPairs == null) {
+            for (int i = 0; i < data.size(); i++) {
+                downsampled.add(downsampledPlots[i] ? Downsamplers.downsample(downsampler, data.get(i), maxPoints) : data.get(i));
+            }
+            return downsampled;
+        }
+        for (int i = 0; i < data.size(); i += 2) {
+            final Data x = data.get(i);
+            final Data y = data.get(i + 1);
+            if (downsampledPlots[i / 2] && x.getSize() == y.getSize() && x.getSize() > maxPoints) {
+                final int[] indices = Downsamplers.select(downsampler, x, y, maxPoints);
+                downsampled.add(Downsamplers.keep(x, indices));
+                downsampled.add(Downsamplers.keep(y, indices));
+            } else {
+                downsampled.add(x);
+                downsampled.add(y);
+            }
+        }
+        return downsampled;
+    }
+
+    /**
+     * Purge each pair of x and y data of duplicate points, as
+     * {@link XYLineChart} does.
+     *
+     * @param data
+     *            the x and y data pairs
+     * @return the purged data pairs
+     */
+    private List<Data> removeDuplicatePoints(final List<? extends Data> data) {
+        final List<Data> purged = Lists.newArrayList();
+        for (int i = 0; i < data.size(); i += 2) {
+            final PlotImpl pair = new PlotImpl(data.get(i), data.get(i + 1));
+            pair.setDuplicatePointsRemoved(purgedPairs[i / 2]);
+            final PlotImpl xy = XYLineChart.removeDuplicatePoints(pair);
+            purged.add(xy.getXData());
+            purged.add(xy.getYData());
+        }
+        return purged;
+    }
+}
@@ -27,493 +27,521 @@ package com.googlecode.charts4j;
 
 import static com.googlecode.charts4j.collect.Preconditions.*;
 
-import java.util.Locale;
-
 /**
  * RGB Color for all charts. There are many predefined colors defined herein
  * (e.g. Color.AQUA). You can also construct a color with the usual hexdecimal
- * notation (e.g. F0F8FF). You can also set the opacity.
+ * notation (e.g. F0F8FF) or from RGB ints (e.g. 0xF0F8FF). You can also set the
+ * opacity. Colors are immutable values and are shared from a small pool, so
+ * constructing a color that was recently constructed does not allocate.
  *
  * @author Julien Chastang (julien.c.chastang at gmail dot com)
  */
 public class Color {
 
+    /**
+     * Number of colors in the flyweight pool. The pool is declared before the
+     * named colors, which are pooled too.
+     **/
+    private static final int     POOL_SIZE   = 4096;
+
+    /**
+     * Flyweight pool of colors indexed by a hash of their RGBA value. A slot
+     * holds the last color created for it, so the pool never grows. Colors are
+     * immutable, so racing writes only lose a cache entry.
+     **/
+    private static final Color[] POOL        = new Color[POOL_SIZE];
+
+    /** Hexadecimal digits of color strings. **/
+    private static final char[]  HEX_DIGITS  = "0123456789ABCDEF".toCharArray();
+
+    /** Alpha of an opaque color. **/
+    private static final int     OPAQUE      = 0xFF;
+
+    /** Max opacity. **/
+    private static final int     MAX_OPACITY = 100;
+
+    /** Min opacity. **/
+    private static final int     MIN_OPACITY = 0;
+
     /** ALICEBLUE. */
-    public static final Color ALICEBLUE            = new Color("F0F8FF");
+    public static final Color ALICEBLUE            = newColor("F0F8FF");
 
     /** ANTIQUEWHITE. */
-    public static final Color ANTIQUEWHITE         = new Color("FAEBD7");
+    public static final Color ANTIQUEWHITE         = newColor("FAEBD7");
 
     /** AQUA. */
-    public static final Color AQUA                 = new Color("00FFFF");
+    public static final Color AQUA                 = newColor("00FFFF");
 
     /** AQUAMARINE. */
-    public static final Color AQUAMARINE           = new Color("7FFFD4");
+    public static final Color AQUAMARINE           = newColor("7FFFD4");
 
     /** AZURE. */
-    public static final Color AZURE                = new Color("F0FFFF");
+    public static final Color AZURE                = newColor("F0FFFF");
 
     /** BEIGE. */
-    public static final Color BEIGE                = new Color("F5F5DC");
+    public static final Color BEIGE                = newColor("F5F5DC");
 
     /** BISQUE. */
-    public static final Color BISQUE               = new Color("FFE4C4");
+    public static final Color BISQUE               = newColor("FFE4C4");
 
     /** BLACK. */
-    public static final Color BLACK                = new Color("000000");
+    public static final Color BLACK                = newColor("000000");
 
     /** BLANCHEDALMOND. */
-    public static final Color BLANCHEDALMOND       = new Color("FFEBCD");
+    public static final Color BLANCHEDALMOND       = newColor("FFEBCD");
 
     /** BLUE. */
-    public static final Color BLUE                 = new Color("0000FF");
+    public static final Color BLUE                 = newColor("0000FF");
 
     /** BLUEVIOLET. */
-    public static final Color BLUEVIOLET           = new Color("8A2BE2");
+    public static final Color BLUEVIOLET           = newColor("8A2BE2");
 
     /** BROWN. */
-    public static final Color BROWN                = new Color("A52A2A");
+    public static final Color BROWN                = newColor("A52A2A");
 
     /** BURLYWOOD. */
-    public static final Color BURLYWOOD            = new Color("DEB887");
+    public static final Color BURLYWOOD            = newColor("DEB887");
 
     /** CADETBLUE. */
-    public static final Color CADETBLUE            = new Color("5F9EA0");
+    public static final Color CADETBLUE            = newColor("5F9EA0");
 
     /** CHARTREUSE. */
-    public static final Color CHARTREUSE           = new Color("7FFF00");
+    public static final Color CHARTREUSE           = newColor("7FFF00");
 
     /** CHOCOLATE. */
-    public static final Color CHOCOLATE            = new Color("D2691E");
+    public static final Color CHOCOLATE            = newColor("D2691E");
 
     /** CORAL. */
-    public static final Color CORAL                = new Color("FF7F50");
+    public static final Color CORAL                = newColor("FF7F50");
 
     /** CORNFLOWERBLUE. */
-    public static final Color CORNFLOWERBLUE       = new Color("6495ED");
+    public static final Color CORNFLOWERBLUE       = newColor("6495ED");
 
     /** CORNSILK. */
-    public static final Color CORNSILK             = new Color("FFF8DC");
+    public static final Color CORNSILK             = newColor("FFF8DC");
 
     /** CRIMSON. */
-    public static final Color CRIMSON              = new Color("DC143C");
+    public static final Color CRIMSON              = newColor("DC143C");
 
     /** CYAN. */
-    public static final Color CYAN                 = new Color("00FFFF");
+    public static final Color CYAN                 = newColor("00FFFF");
 
     /** DARKBLUE. */
-    public static final Color DARKBLUE             = new Color("00008B");
+    public static final Color DARKBLUE             = newColor("00008B");
 
     /** DARKCYAN. */
-    public static final Color DARKCYAN             = new Color("008B8B");
+    public static final Color DARKCYAN             = newColor("008B8B");
 
     /** DARKGOLDENROD. */
-    public static final Color DARKGOLDENROD        = new Color("B8860B");
+    public static final Color DARKGOLDENROD        = newColor("B8860B");
 
     /** DARKGRAY. */
-    public static final Color DARKGRAY             = new Color("A9A9A9");
+    public static final Color DARKGRAY             = newColor("A9A9A9");
 
     /** DARKGREEN. */
-    public static final Color DARKGREEN            = new Color("006400");
+    public static final Color DARKGREEN            = newColor("006400");
 
     /** DARKKHAKI. */
-    public static final Color DARKKHAKI            = new Color("BDB76B");
+    public static final Color DARKKHAKI            = newColor("BDB76B");
 
     /** DARKMAGENTA. */
-    public static final Color DARKMAGENTA          = new Color("8B008B");
+    public static final Color DARKMAGENTA          = newColor("8B008B");
 
     /** DARKOLIVEGREEN. */
-    public static final Color DARKOLIVEGREEN       = new Color("556B2F");
+    public static final Color DARKOLIVEGREEN       = newColor("556B2F");
 
     /** DARKORANGE. */
-    public static final Color DARKORANGE           = new Color("FF8C00");
+    public static final Color DARKORANGE           = newColor("FF8C00");
 
     /** DARKORCHID. */
-    public static final Color DARKORCHID           = new Color("9932CC");
+    public static final Color DARKORCHID           = newColor("9932CC");
 
     /** DARKRED. */
-    public static final Color DARKRED              = new Color("8B0000");
+    public static final Color DARKRED              = newColor("8B0000");
 
     /** DARKSALMON. */
-    public static final Color DARKSALMON           = new Color("E9967A");
+    public static final Color DARKSALMON           = newColor("E9967A");
 
     /** DARKSEAGREEN. */
-    public static final Color DARKSEAGREEN         = new Color("8FBC8F");
+    public static final Color DARKSEAGREEN         = newColor("8FBC8F");
 
     /** DARKSLATEBLUE. */
-    public static final Color DARKSLATEBLUE        = new Color("483D8B");
+    public static final Color DARKSLATEBLUE        = newColor("483D8B");
 
     /** DARKSLATEGRAY. */
-    public static final Color DARKSLATEGRAY        = new Color("2F4F4F");
+    public static final Color DARKSLATEGRAY        = newColor("2F4F4F");
 
     /** DARKTURQUOISE. */
-    public static final Color DARKTURQUOISE        = new Color("00CED1");
+    public static final Color DARKTURQUOISE        = newColor("00CED1");
 
     /** DARKVIOLET. */
-    public static final Color DARKVIOLET           = new Color("9400D3");
+    public static final Color DARKVIOLET           = newColor("9400D3");
 
     /** DEEPPINK. */
-    public static final Color DEEPPINK             = new Color("FF1493");
+    public static final Color DEEPPINK             = newColor("FF1493");
 
     /** DEEPSKYBLUE. */
-    public static final Color DEEPSKYBLUE          = new Color("00BFFF");
+    public static final Color DEEPSKYBLUE          = newColor("00BFFF");
 
     /** DIMGRAY. */
-    public static final Color DIMGRAY              = new Color("696969");
+    public static final Color DIMGRAY              = newColor("696969");
 
     /** DODGERBLUE. */
-    public static final Color DODGERBLUE           = new Color("1E90FF");
+    public static final Color DODGERBLUE           = newColor("1E90FF");
 
     /** FIREBRICK. */
-    public static final Color FIREBRICK            = new Color("B22222");
+    public static final Color FIREBRICK            = newColor("B22222");
 
     /** FLORALWHITE. */
-    public static final Color FLORALWHITE          = new Color("FFFAF0");
+    public static final Color FLORALWHITE          = newColor("FFFAF0");
 
     /** FORESTGREEN. */
-    public static final Color FORESTGREEN          = new Color("228B22");
+    public static final Color FORESTGREEN          = newColor("228B22");
 
     /** FUCHSIA. */
-    public static final Color FUCHSIA              = new Color("FF00FF");
+    public static final Color FUCHSIA              = newColor("FF00FF");
 
     /** GAINSBORO. */
-    public static final Color GAINSBORO            = new Color("DCDCDC");
+    public static final Color GAINSBORO            = newColor("DCDCDC");
 
     /** GHOSTWHITE. */
-    public static final Color GHOSTWHITE           = new Color("F8F8FF");
+    public static final Color GHOSTWHITE           = newColor("F8F8FF");
 
     /** GOLD. */
-    public static final Color GOLD                 = new Color("FFD700");
+    public static final Color GOLD                 = newColor("FFD700");
 
     /** GOLDENROD. */
-    public static final Color GOLDENROD            = new Color("DAA520");
+    public static final Color GOLDENROD            = newColor("DAA520");
 
     /** GRAY. */
-    public static final Color GRAY                 = new Color("808080");
+    public static final Color GRAY                 = newColor("808080");
 
     /** GREEN. */
-    public static final Color GREEN                = new Color("008000");
+    public static final Color GREEN                = newColor("008000");
 
     /** GREENYELLOW. */
-    public static final Color GREENYELLOW          = new Color("ADFF2F");
+    public static final Color GREENYELLOW          = newColor("ADFF2F");
 
     /** HONEYDEW. */
-    public static final Color HONEYDEW             = new Color("F0FFF0");
+    public static final Color HONEYDEW             = newColor("F0FFF0");
 
     /** HOTPINK. */
-    public static final Color HOTPINK              = new Color("FF69B4");
+    public static final Color HOTPINK              = newColor("FF69B4");
 
     /** INDIANRED. */
-    public static final Color INDIANRED            = new Color("CD5C5C");
+    public static final Color INDIANRED            = newColor("CD5C5C");
 
     /** INDIGO. */
-    public static final Color INDIGO               = new Color("4B0082");
+    public static final Color INDIGO               = newColor("4B0082");
 
     /** IVORY. */
-    public static final Color IVORY                = new Color("FFFFF0");
+    public static final Color IVORY                = newColor("FFFFF0");
 
     /** KHAKI. */
-    public static final Color KHAKI                = new Color("F0E68C");
+    public static final Color KHAKI                = newColor("F0E68C");
 
     /** LAVENDER. */
-    public static final Color LAVENDER             = new Color("E6E6FA");
+    public static final Color LAVENDER             = newColor("E6E6FA");
 
     /** LAVENDERBLUSH. */
-    public static final Color LAVENDERBLUSH        = new Color("FFF0F5");
+    public static final Color LAVENDERBLUSH        = newColor("FFF0F5");
 
     /** LAWNGREEN. */
-    public static final Color LAWNGREEN            = new Color("7CFC00");
+    public static final Color LAWNGREEN            = newColor("7CFC00");
 
     /** LEMONCHIFFON. */
-    public static final Color LEMONCHIFFON         = new Color("FFFACD");
+    public static final Color LEMONCHIFFON         = newColor("FFFACD");
 
     /** LIGHTBLUE. */
-    public static final Color LIGHTBLUE            = new Color("ADD8E6");
+    public static final Color LIGHTBLUE            = newColor("ADD8E6");
 
     /** LIGHTCORAL. */
-    public static final Color LIGHTCORAL           = new Color("F08080");
+    public static final Color LIGHTCORAL           = newColor("F08080");
 
     /** LIGHTCYAN. */
-    public static final Color LIGHTCYAN            = new Color("E0FFFF");
+    public static final Color LIGHTCYAN            = newColor("E0FFFF");
 
     /** LIGHTGOLDENRODYELLOW. */
-    public static final Color LIGHTGOLDENRODYELLOW = new Color("FAFAD2");
+    public static final Color LIGHTGOLDENRODYELLOW = newColor("FAFAD2");
 
     /** LIGHTGREEN. */
-    public static final Color LIGHTGREEN           = new Color("90EE90");
+    public static final Color LIGHTGREEN           = newColor("90EE90");
 
     /** LIGHTGREY. */
-    public static final Color LIGHTGREY            = new Color("D3D3D3");
+    public static final Color LIGHTGREY            = newColor("D3D3D3");
 
     /** LIGHTPINK. */
-    public static final Color LIGHTPINK            = new Color("FFB6C1");
+    public static final Color LIGHTPINK            = newColor("FFB6C1");
 
     /** LIGHTSALMON. */
-    public static final Color LIGHTSALMON          = new Color("FFA07A");
+    public static final Color LIGHTSALMON          = newColor("FFA07A");
 
     /** LIGHTSEAGREEN. */
-    public static final Color LIGHTSEAGREEN        = new Color("20B2AA");
+    public static final Color LIGHTSEAGREEN        = newColor("20B2AA");
 
     /** LIGHTSKYBLUE. */
-    public static final Color LIGHTSKYBLUE         = new Color("87CEFA");
+    public static final Color LIGHTSKYBLUE         = newColor("87CEFA");
 
     /** LIGHTSLATEGRAY. */
-    public static final Color LIGHTSLATEGRAY       = new Color("778899");
+    public static final Color LIGHTSLATEGRAY       = newColor("778899");
 
     /** LIGHTSTEELBLUE. */
-    public static final Color LIGHTSTEELBLUE       = new Color("B0C4DE");
+    public static final Color LIGHTSTEELBLUE       = newColor("B0C4DE");
 
     /** LIGHTYELLOW. */
-    public static final Color LIGHTYELLOW          = new Color("FFFFE0");
+    public static final Color LIGHTYELLOW          = newColor("FFFFE0");
 
     /** LIME. */
-    public static final Color LIME                 = new Color("00FF00");
+    public static final Color LIME                 = newColor("00FF00");
 
     /** LIMEGREEN. */
-    public static final Color LIMEGREEN            = new Color("32CD32");
+    public static final Color LIMEGREEN            = newColor("32CD32");
 
     /** LINEN. */
-    public static final Color LINEN                = new Color("FAF0E6");
+    public static final Color LINEN                = newColor("FAF0E6");
 
     /** MAGENTA. */
-    public static final Color MAGENTA              = new Color("FF00FF");
+    public static final Color MAGENTA              = newColor("FF00FF");
 
     /** MAROON. */
-    public static final Color MAROON               = new Color("800000");
+    public static final Color MAROON               = newColor("800000");
 
     /** MEDIUMAQUAMARINE. */
-    public static final Color MEDIUMAQUAMARINE     = new Color("66CDAA");
+    public static final Color MEDIUMAQUAMARINE     = newColor("66CDAA");
 
     /** MEDIUMBLUE. */
-    public static final Color MEDIUMBLUE           = new Color("0000CD");
+    public static final Color MEDIUMBLUE           = newColor("0000CD");
 
     /** MEDIUMORCHID. */
-    public static final Color MEDIUMORCHID         = new Color("BA55D3");
+    public static final Color MEDIUMORCHID         = newColor("BA55D3");
 
     /** MEDIUMPURPLE. */
-    public static final Color MEDIUMPURPLE         = new Color("9370DB");
+    public static final Color MEDIUMPURPLE         = newColor("9370DB");
 
     /** MEDIUMSEAGREEN. */
-    public static final Color MEDIUMSEAGREEN       = new Color("3CB371");
+    public static final Color MEDIUMSEAGREEN       = newColor("3CB371");
 
     /** MEDIUMSLATEBLUE. */
-    public static final Color MEDIUMSLATEBLUE      = new Color("7B68EE");
+    public static final Color MEDIUMSLATEBLUE      = newColor("7B68EE");
 
     /** MEDIUMSPRINGGREEN. */
-    public static final Color MEDIUMSPRINGGREEN    = new Color("00FA9A");
+    public static final Color MEDIUMSPRINGGREEN    = newColor("00FA9A");
 
     /** MEDIUMTURQUOISE. */
-    public static final Color MEDIUMTURQUOISE      = new Color("48D1CC");
+    public static final Color MEDIUMTURQUOISE      = newColor("48D1CC");
 
     /** MEDIUMVIOLETRED. */
-    public static final Color MEDIUMVIOLETRED      = new Color("C71585");
+    public static final Color MEDIUMVIOLETRED      = newColor("C71585");
 
     /** MIDNIGHTBLUE. */
-    public static final Color MIDNIGHTBLUE         = new Color("191970");
+    public static final Color MIDNIGHTBLUE         = newColor("191970");
 
     /** MINTCREAM. */
-    public static final Color MINTCREAM            = new Color("F5FFFA");
+    public static final Color MINTCREAM            = newColor("F5FFFA");
 
     /** MISTYROSE. */
-    public static final Color MISTYROSE            = new Color("FFE4E1");
+    public static final Color MISTYROSE            = newColor("FFE4E1");
 
     /** MOCCASIN. */
-    public static final Color MOCCASIN             = new Color("FFE4B5");
+    public static final Color MOCCASIN             = newColor("FFE4B5");
 
     /** NAVAJOWHITE. */
-    public static final Color NAVAJOWHITE          = new Color("FFDEAD");
+    public static final Color NAVAJOWHITE          = newColor("FFDEAD");
 
     /** NAVY. */
-    public static final Color NAVY                 = new Color("000080");
+    public static final Color NAVY                 = newColor("000080");
 
     /** OLDLACE. */
-    public static final Color OLDLACE              = new Color("FDF5E6");
+    public static final Color OLDLACE              = newColor("FDF5E6");
 
     /** OLIVE. */
-    public static final Color OLIVE                = new Color("808000");
+    public static final Color OLIVE                = newColor("808000");
 
     /** OLIVEDRAB. */
-    public static final Color OLIVEDRAB            = new Color("6B8E23");
+    public static final Color OLIVEDRAB            = newColor("6B8E23");
 
     /** ORANGE. */
-    public static final Color ORANGE               = new Color("FFA500");
+    public static final Color ORANGE               = newColor("FFA500");
 
     /** ORANGERED. */
-    public static final Color ORANGERED            = new Color("FF4500");
+    public static final Color ORANGERED            = newColor("FF4500");
 
     /** ORCHID. */
-    public static final Color ORCHID               = new Color("DA70D6");
+    public static final Color ORCHID               = newColor("DA70D6");
 
     /** PALEGOLDENROD. */
-    public static final Color PALEGOLDENROD        = new Color("EEE8AA");
+    public static final Color PALEGOLDENROD        = newColor("EEE8AA");
 
     /** PALEGREEN. */
-    public static final Color PALEGREEN            = new Color("98FB98");
+    public static final Color PALEGREEN            = newColor("98FB98");
 
     /** PALETURQUOISE. */
-    public static final Color PALETURQUOISE        = new Color("AFEEEE");
+    public static final Color PALETURQUOISE        = newColor("AFEEEE");
 
     /** PALEVIOLETRED. */
-    public static final Color PALEVIOLETRED        = new Color("DB7093");
+    public static final Color PALEVIOLETRED        = newColor("DB7093");
 
     /** PAPAYAWHIP. */
-    public static final Color PAPAYAWHIP           = new Color("FFEFD5");
+    public static final Color PAPAYAWHIP           = newColor("FFEFD5");
 
     /** PEACHPUFF. */
-    public static final Color PEACHPUFF            = new Color("FFDAB9");
+    public static final Color PEACHPUFF            = newColor("FFDAB9");
 
     /** PERU. */
-    public static final Color PERU                 = new Color("CD853F");
+    public static final Color PERU                 = newColor("CD853F");
 
     /** PINK. */
-    public static final Color PINK                 = new Color("FFC0CB");
+    public static final Color PINK                 = newColor("FFC0CB");
 
     /** PLUM. */
-    public static final Color PLUM                 = new Color("DDA0DD");
+    public static final Color PLUM                 = newColor("DDA0DD");
 
     /** POWDERBLUE. */
-    public static final Color POWDERBLUE           = new Color("B0E0E6");
+    public static final Color POWDERBLUE           = newColor("B0E0E6");
 
     /** PURPLE. */
-    public static final Color PURPLE               = new Color("800080");
+    public static final Color PURPLE               = newColor("800080");
 
     /** RED. */
-    public static final Color RED                  = new Color("FF0000");
+    public static final Color RED                  = newColor("FF0000");
 
     /** ROSYBROWN. */
-    public static final Color ROSYBROWN            = new Color("BC8F8F");
+    public static final Color ROSYBROWN            = newColor("BC8F8F");
 
     /** ROYALBLUE. */
-    public static final Color ROYALBLUE            = new Color("4169E1");
+    public static final Color ROYALBLUE            = newColor("4169E1");
 
     /** SADDLEBROWN. */
-    public static final Color SADDLEBROWN          = new Color("8B4513");
+    public static final Color SADDLEBROWN          = newColor("8B4513");
 
     /** SALMON. */
-    public static final Color SALMON               = new Color("FA8072");
+    public static final Color SALMON               = newColor("FA8072");
 
     /** SANDYBROWN. */
-    public static final Color SANDYBROWN           = new Color("F4A460");
+    public static final Color SANDYBROWN           = newColor("F4A460");
 
     /** SEAGREEN. */
-    public static final Color SEAGREEN             = new Color("2E8B57");
+    public static final Color SEAGREEN             = newColor("2E8B57");
 
     /** SEASHELL. */
-    public static final Color SEASHELL             = new Color("FFF5EE");
+    public static final Color SEASHELL             = newColor("FFF5EE");
 
     /** SIENNA. */
-    public static final Color SIENNA               = new Color("A0522D");
+    public static final Color SIENNA               = newColor("A0522D");
 
     /** SILVER. */
-    public static final Color SILVER               = new Color("C0C0C0");
+    public static final Color SILVER               = newColor("C0C0C0");
 
     /** SKYBLUE. */
-    public static final Color SKYBLUE              = new Color("87CEEB");
+    public static final Color SKYBLUE              = newColor("87CEEB");
 
     /** SLATEBLUE. */
-    public static final Color SLATEBLUE            = new Color("6A5ACD");
+    public static final Color SLATEBLUE            = newColor("6A5ACD");
 
     /** SLATEGRAY. */
-    public static final Color SLATEGRAY            = new Color("708090");
+    public static final Color SLATEGRAY            = newColor("708090");
 
     /** SNOW. */
-    public static final Color SNOW                 = new Color("FFFAFA");
+    public static final Color SNOW                 = newColor("FFFAFA");
 
     /** SPRINGGREEN. */
-    public static final Color SPRINGGREEN          = new Color("00FF7F");
+    public static final Color SPRINGGREEN          = newColor("00FF7F");
 
     /** STEELBLUE. */
-    public static final Color STEELBLUE            = new Color("4682B4");
+    public static final Color STEELBLUE            = newColor("4682B4");
 
     /** TAN. */
-    public static final Color TAN                  = new Color("D2B48C");
+    public static final Color TAN                  = newColor("D2B48C");
 
     /** TEAL. */
-    public static final Color TEAL                 = new Color("008080");
+    public static final Color TEAL                 = newColor("008080");
 
     /** THISTLE. */
-    public static final Color THISTLE              = new Color("D8BFD8");
+    public static final Color THISTLE              = newColor("D8BFD8");
 
     /** TOMATO. */
-    public static final Color TOMATO               = new Color("FF6347");
+    public static final Color TOMATO               = newColor("FF6347");
 
     /** TURQUOISE. */
-    public static final Color TURQUOISE            = new Color("40E0D0");
+    public static final Color TURQUOISE            = newColor("40E0D0");
 
     /** VIOLET. */
-    public static final Color VIOLET               = new Color("EE82EE");
+    public static final Color VIOLET               = newColor("EE82EE");
 
     /** WHEAT. */
-    public static final Color WHEAT                = new Color("F5DEB3");
+    public static final Color WHEAT                = newColor("F5DEB3");
 
     /** WHITE. */
-    public static final Color WHITE                = new Color("FFFFFF");
+    public static final Color WHITE                = newColor("FFFFFF");
 
     /** WHITESMOKE. */
-    public static final Color WHITESMOKE           = new Color("F5F5F5");
+    public static final Color WHITESMOKE           = newColor("F5F5F5");
 
     /** YELLOW. */
-    public static final Color YELLOW               = new Color("FFFF00");
+    public static final Color YELLOW               = newColor("FFFF00");
 
     /** YELLOWGREEN. */
-    public static final Color YELLOWGREEN          = new Color("9ACD32");
-
-    /** Max opacity. **/
-    private static final int  MAX_OPACITY          = 100;
-
-    /** Min opacity. **/
-    private static final int  MIN_OPACITY          = 0;
+    public static final Color YELLOWGREEN          = newColor("9ACD32");
 
-    /** Color string hex. **/
-    private final String      color;
+    /** Color packed as RRGGBBAA. **/
+    private final int    rgba;
 
-    /** Opacity string hex. **/
-    private final String      opacity;
+    /** Color string hex, computed once. **/
+    private final String hex;
 
     /**
      * The Constructor.
      *
-     * @param color
-     *            the color
+     * @param rgba
+     *            the color packed as RRGGBBAA
      *
      * @see #newColor(String)
      */
-    Color(final String color) {
-        checkNotNull(color, "color cannot be null.");
-        this.color = validateColor(color);
-        opacity = "FF";
+    private Color(final int rgba) {
+        this.rgba = rgba;
+        final char[] chars = new char[8];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = HEX_DIGITS[(rgba >>> (28 - 4 * i)) & 0xF];
+        }
+        this.hex = new String(chars, 0, (rgba & 0xFF) == OPAQUE ? 6 : 8);
     }
 
     /**
-     * The Constructor.
+     * Get the pooled color for a packed value.
      *
-     * @param color
-     *            the color
-     * @param opacity
-     *            the opacity
+     * @param rgba
+     *            the color packed as RRGGBBAA
      *
-     * @see #newColor(String, int)
+     * @return a color from the pool, or a newly constructed color which then
+     *         takes its slot in the pool
      */
-    Color(final String color, final int opacity) {
-        checkNotNull(color, "color cannot be null.");
-        this.color = validateColor(color);
-        this.opacity = validateOpacity(opacity);
+    static Color valueOf(final int rgba) {
+        final int slot = (rgba * 0x9E3779B9) >>> (32 - 12);
+        final Color pooled = POOL[slot];
+        if (pooled != null && pooled.rgba == rgba) {
+            return pooled;
+        }
+        final Color color = new Color(rgba);
+        POOL[slot] = color;
+        return color;
     }
 
     /**
-     * The Constructor.
+     * Get the pooled colors for RGB values with the same alpha.
      *
-     * @param color
-     *            the color
-     * @param opacity
-     *            the opacity
+     * @param rgbs
+     *            the RGB values
+     * @param alpha
+     *            the alpha between 0 and 255
      *
-     * @see #newColor(Color, int)
+     * @return the colors
      */
-    Color(final Color color, final int opacity) {
-        checkNotNull(color, "color cannot be null.");
-        this.color = color.toString().substring(0, 6);
-        this.opacity = validateOpacity(opacity);
+    private static Color[] valuesOf(final int[] rgbs, final int alpha) {
+        final Color[] colors = new Color[rgbs.length];
+        for (int i = 0; i < rgbs.length; i++) {
+            colors[i] = valueOf((validateRGB(rgbs[i]) << 8) | alpha);
+        }
+        return colors;
     }
 
     /**
@@ -522,33 +550,78 @@ public class Color {
      * @param color
      *            Color to validate
      *
-     * @return Validated RGB color string.
+     * @return RGB value of the color string.
      */
-    private String validateColor(final String color) {
-        int colorInt;
-        try {
-            colorInt = Integer.parseInt(color, 16);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(color + " is not a valid color.");
-        }
-        // Bit shifting 3 bytes should yield 0 for rgb colors.
-        checkArgument((colorInt >> 24) == 0, "%s is not a valid color.", color);
+    private static int validateColor(final String color) {
+        checkNotNull(color, "color cannot be null.");
         checkArgument(color.length() == 6, "%s is not a valid color. (Must be 6 charcters long).", color);
-        return color.toUpperCase(Locale.US);
+        int rgb = 0;
+        for (int i = 0; i < 6; i++) {
+            final char c = color.charAt(i);
+            final int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                throw new IllegalArgumentException(color + " is not a valid color.");
+            }
+            rgb = (rgb << 4) | digit;
+        }
+        return rgb;
     }
 
     /**
      * Method to validate opacity.
      *
-     * @param opacityInt
+     * @param opacity
      *            opacity to validate
      *
-     * @return opacity expressed as a hexadecimal
+     * @return opacity expressed as an alpha between 0 and 255
      */
-    private String validateOpacity(final int opacityInt) {
-        checkArgument((opacityInt >= MIN_OPACITY && opacityInt <= MAX_OPACITY), "%s is not a valid opacity.", opacityInt);
-        final String s = Integer.toHexString((int) (opacityInt / 100d * (0xff))).toUpperCase(Locale.US);
-        return (s.length() == 1) ? "0" + s : s;
+    private static int validateOpacity(final int opacity) {
+        checkArgument((opacity >= MIN_OPACITY && opacity <= MAX_OPACITY), "%s is not a valid opacity.", opacity);
+        return (int) (opacity / 100d * (0xff));
+    }
+
+    /**
+     * Method to validate an RGB int.
+     *
+     * @param rgb
+     *            RGB to validate
+     *
+     * @return the RGB value
+     */
+    private static int validateRGB(final int rgb) {
+        checkArgument((rgb >>> 24) == 0, "%s is not a valid color.", Integer.toHexString(rgb));
+        return rgb;
+    }
+
+    /**
+     * Get the packed value of this color.
+     *
+     * @return the color as 0xRRGGBBAA
+     */
+    int getRGBA() {
+        return rgba;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Color && ((Color) obj).rgba == rgba;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return rgba;
     }
 
     /**
@@ -556,7 +629,7 @@ public class Color {
      */
     @Override
     public String toString() {
-        return color + ((!"FF".equals(opacity)) ? opacity : "");
+        return hex;
     }
 
     /**
@@ -565,10 +638,10 @@ public class Color {
      * @param color
      *            RGB color in hexidecimal. Cannot be null.
      *
-     * @return a newly constructed color.
+     * @return a color.
      */
     public static Color newColor(final String color) {
-        return new Color(color);
+        return valueOf((validateColor(color) << 8) | OPAQUE);
     }
 
     /**
@@ -583,10 +656,11 @@ public class Color {
      *            Supply a number between 0 and 100. 0 is completely
      *            transparent, and 100 is completely opaque.
      *
-     * @return a newly constructed color
+     * @return a color
      */
     public static Color newColor(final String color, final int opacity) {
-        return new Color(color, opacity);
+        final int rgb = validateColor(color);
+        return valueOf((rgb << 8) | validateOpacity(opacity));
     }
 
     /**
@@ -599,9 +673,52 @@ public class Color {
      *            Supply a number between 0 and 100. 0 is completely
      *            transparent, and 100 is completely opaque.
      *
-     * @return a newly constructed color
+     * @return a color
      */
     public static Color newColor(final Color color, final int opacity) {
-        return new Color(color, opacity);
+        checkNotNull(color, "color cannot be null.");
+        return valueOf((color.rgba & 0xFFFFFF00) | validateOpacity(opacity));
+    }
+
+    /**
+     * Pass in an RGB int from 0x000000 to 0xFFFFFF.
+     *
+     * @param rgb
+     *            RGB color (e.g. 0xF0F8FF)
+     *
+     * @return a color
+     */
+    public static Color newColor(final int rgb) {
+        return valueOf((validateRGB(rgb) << 8) | OPAQUE);
+    }
+
+    /**
+     * Construct colors from an array of RGB ints from 0x000000 to 0xFFFFFF.
+     *
+     * @param rgbs
+     *            RGB colors (e.g. 0xF0F8FF). Cannot be null.
+     *
+     * @return an array of colors in the order of the RGB ints
+     */
+    public static Color[] newColors(final int... rgbs) {
+        checkNotNull(rgbs, "rgbs cannot be null.");
+        return valuesOf(rgbs, OPAQUE);
+    }
+
+    /**
+     * Construct colors from an array of RGB ints from 0x000000 to 0xFFFFFF,
+     * all with the same opacity.
+     *
+     * @param rgbs
+     *            RGB colors (e.g. 0xF0F8FF). Cannot be null.
+     * @param opacity
+     *            Supply a number between 0 and 100. 0 is completely
+     *            transparent, and 100 is completely opaque.
+     *
+     * @return an array of colors in the order of the RGB ints
+     */
+    public static Color[] newColors(final int[] rgbs, final int opacity) {
+        checkNotNull(rgbs, "rgbs cannot be null.");
+        return valuesOf(rgbs, validateOpacity(opacity));
     }
 }
@@ -0,0 +1,212 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+/**
+ * A map from values to colors. The colors are interpolated once between color
+ * stops into a lookup table, so mapping a value is an index computation and
+ * mapped colors are shared rather than constructed. Construct colormaps with
+ * {@link Colormaps}.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ * @see Colormaps
+ */
+public final class Colormap {
+
+    /** Number of colors in the lookup table. **/
+    static final int      SIZE = 256;
+
+    /** Lookup table of colors packed as RRGGBBAA. **/
+    private final int[]   rgbas = new int[SIZE];
+
+    /** Lookup table of colors. **/
+    private final Color[] colors = new Color[SIZE];
+
+    /**
+     * Interpolate the lookup table between color stops.
+     *
+     * @param offsets
+     *            ascending offsets of the color stops between 0 and 100
+     * @param stops
+     *            colors of the stops
+     *
+     * @see Colormaps#newColormap(LinearGradientFill)
+     */
+    Colormap(final double[] offsets, final Color[] stops) {
+        int stop = 0;
+        for (int i = 0; i < SIZE; i++) {
+            final double offset = i * Data.MAX_VALUE / (SIZE - 1);
+            while (stop < offsets.length - 1 && offsets[stop + 1] < offset) {
+                stop++;
+            }
+            final int rgba;
+            if (offset <= offsets[0]) {
+                rgba = stops[0].getRGBA();
+            } else if (stop == offsets.length - 1) {
+                rgba = stops[stop].getRGBA();
+            } else {
+                final double width = offsets[stop + 1] - offsets[stop];
+                rgba = interpolate(stops[stop].getRGBA(), stops[stop + 1].getRGBA(), width == 0 ? 1 : (offset - offsets[stop]) / width);
+            }
+            rgbas[i] = rgba;
+            colors[i] = Color.valueOf(rgba);
+        }
+    }
+
+    /**
+     * Interpolate each channel of two packed colors.
+     *
+     * @param from
+     *            color at 0
+     * @param to
+     *            color at 1
+     * @param t
+     *            position between 0 and 1
+     * @return the interpolated color
+     */
+    private static int interpolate(final int from, final int to, final double t) {
+        int rgba = 0;
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            final int a = (from >>> shift) & 0xFF;
+            final int b = (to >>> shift) & 0xFF;
+            rgba |= ((int) Math.round(a + (b - a) * t)) << shift;
+        }
+        return rgba;
+    }
+
+    /**
+     * Get the color of a value between {@link Data#MIN_VALUE} and
+     * {@link Data#MAX_VALUE}. Values outside are clamped, and NaN is mapped
+     * like the minimum.
+     *
+     * @param value
+     *            the value
+     * @return the color
+     */
+    public Color getColor(final double value) {
+        return colors[index(value, Data.MIN_VALUE, Data.MAX_VALUE - Data.MIN_VALUE)];
+    }
+
+    /**
+     * Map values between a minimum and maximum to colors. Values outside are
+     * clamped, and NaN is mapped like the minimum.
+     *
+     * @param values
+     *            the values. Cannot be null.
+     * @param min
+     *            the value mapped to the first color
+     * @param max
+     *            the value mapped to the last color. Must be &gt; min.
+     * @return the colors, in the order of the values
+     */
+    public Color[] mapToColors(final double[] values, final double min, final double max) {
+        checkNotNull(values, "values cannot be null");
+        final double range = range(min, max);
+        final Color[] mapped = new Color[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mapped[i] = colors[index(values[i], min, range)];
+        }
+        return mapped;
+    }
+
+    /**
+     * Map data to colors. Data is between {@link Data#MIN_VALUE} and
+     * {@link Data#MAX_VALUE}, which are mapped to the first and last colors.
+     *
+     * @param data
+     *            the data. Cannot be null.
+     * @return the colors, in the order of the data
+     */
+    public Color[] mapToColors(final Data data) {
+        checkNotNull(data, "data cannot be null");
+        final double range = range(Data.MIN_VALUE, Data.MAX_VALUE);
+        final Color[] mapped = new Color[data.getSize()];
+        for (int i = 0; i < mapped.length; i++) {
+            mapped[i] = colors[index(data.get(i), Data.MIN_VALUE, range)];
+        }
+        return mapped;
+    }
+
+    /**
+     * Map values between a minimum and maximum to packed RGB colors, as taken
+     * by {@link Color#newColors(int[], int)}. Values outside are clamped, and
+     * NaN is mapped like the minimum. The opacity of the color stops is not
+     * part of the packed colors.
+     *
+     * @param values
+     *            the values. Cannot be null.
+     * @param min
+     *            the value mapped to the first color
+     * @param max
+     *            the value mapped to the last color. Must be &gt; min.
+     * @return the colors as 0xRRGGBB, in the order of the values
+     */
+    public int[] mapToRGB(final double[] values, final double min, final double max) {
+        checkNotNull(values, "values cannot be null");
+        final double range = range(min, max);
+        final int[] mapped = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mapped[i] = rgbas[index(values[i], min, range)] >>> 8;
+        }
+        return mapped;
+    }
+
+    /**
+     * Get the range of values spanning the table.
+     *
+     * @param min
+     *            the value mapped to the first color
+     * @param max
+     *            the value mapped to the last color
+     * @return the range
+     */
+    private static double range(final double min, final double max) {
+        checkArgument(max > min, "max must be > min: %s, %s", min, max);
+        return max - min;
+    }
+
+    /**
+     * Get the table index of a value.
+     *
+     * @param value
+     *            the value
+     * @param min
+     *            the value mapped to the first color
+     * @param range
+     *            the range of values spanning the table
+     * @return the table index
+     */
+    private static int index(final double value, final double min, final double range) {
+        // Dividing first keeps midpoints such as 50 of 100 exact.
+        final double position = (value - min) / range * (SIZE - 1) + 0.5;
+        // Also false for NaN.
+        if (!(position >= 1)) {
+            return 0;
+        }
+        return position >= SIZE ? SIZE - 1 : (int) position;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.googlecode.charts4j.parameters.ColorAndOffset;
+
+/**
+ * Static factory class for {@link Colormap}. Construct perceptually uniform
+ * sequential and diverging colormaps, or colormaps from your own color stops.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public final class Colormaps {
+
+    /** Stops of the viridis colormap, evenly spaced. **/
+    private static final int[] VIRIDIS = {0x440154, 0x472C7A, 0x3B518B, 0x2C718E, 0x21908D, 0x27AD81, 0x5CC863, 0xAADC32, 0xFDE725};
+
+    /** Stops of the cool to warm diverging colormap, evenly spaced. **/
+    private static final int[] COOL_WARM = {0x3B4CC0, 0xDDDDDD, 0xB40426};
+
+    /** The viridis colormap. **/
+    private static final Colormap VIRIDIS_COLORMAP = newColormap(Color.newColors(VIRIDIS));
+
+    /** The cool to warm colormap. **/
+    private static final Colormap COOL_WARM_COLORMAP = newColormap(Color.newColors(COOL_WARM));
+
+    /**
+     * Static factory class can never be instantiated.
+     */
+    private Colormaps() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Get the viridis colormap, a perceptually uniform sequential colormap
+     * from dark purple to yellow that also reads well in gray scale.
+     *
+     * @return the viridis colormap
+     */
+    public static Colormap newViridisColormap() {
+        return VIRIDIS_COLORMAP;
+    }
+
+    /**
+     * Get the cool to warm colormap, a diverging colormap from blue through
+     * light gray to red.
+     *
+     * @return the cool to warm colormap
+     */
+    public static Colormap newCoolWarmColormap() {
+        return COOL_WARM_COLORMAP;
+    }
+
+    /**
+     * Create a diverging colormap.
+     *
+     * @param low
+     *            color of the minimum. Cannot be null.
+     * @param middle
+     *            color of the midpoint. Cannot be null.
+     * @param high
+     *            color of the maximum. Cannot be null.
+     *
+     * @return a newly constructed colormap
+     */
+    public static Colormap newDivergingColormap(final Color low, final Color middle, final Color high) {
+        return newColormap(low, middle, high);
+    }
+
+    /**
+     * Create a colormap from evenly spaced colors.
+     *
+     * @param colors
+     *            colors from the minimum to the maximum. Cannot be null,
+     *            contain a null or be empty.
+     *
+     * @return a newly constructed colormap
+     */
+    public static Colormap newColormap(final Color... colors) {
+        checkContentsNotNull(Arrays.asList(colors), "colors cannot be null or contain a null");
+        checkArgument(colors.length > 0, "colors cannot be empty");
+        final double[] offsets = new double[colors.length];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = colors.length == 1 ? Data.MIN_VALUE : i * Data.MAX_VALUE / (colors.length - 1);
+        }
+        return new Colormap(offsets, colors.clone());
+    }
+
+    /**
+     * Create a colormap from the colors and offsets of a gradient fill. As in
+     * the fill, each color is pure at its offset between 0 and 100 and colors
+     * blend in between. Values before the first offset or after the last take
+     * the color of that offset.
+     *
+     * @param fill
+     *            the gradient fill. Cannot be null.
+     *
+     * @return a newly constructed colormap
+     *
+     * @see Fills#newLinearGradientFill(int, Color, double)
+     */
+    public static Colormap newColormap(final LinearGradientFill fill) {
+        checkNotNull(fill, "fill cannot be null");
+        final ColorAndOffset[] stops = fill.getColorsAndOffsets().toArray(new ColorAndOffset[0]);
+        // Stable, so stops at the same offset keep the order they were added.
+        Arrays.sort(stops, new Comparator<ColorAndOffset>() {
+            public int compare(final ColorAndOffset o1, final ColorAndOffset o2) {
+                return Double.compare(o1.getOffset(), o2.getOffset());
+            }
+        });
+        final double[] offsets = new double[stops.length];
+        final Color[] colors = new Color[stops.length];
+        for (int i = 0; i < stops.length; i++) {
+            offsets[i] = stops[i].getOffset();
+            colors[i] = stops[i].getColor();
+        }
+        return new Colormap(offsets, colors);
+    }
+}
@@ -26,11 +26,12 @@ package com.googlecode.charts4j;
 
 import static com.googlecode.charts4j.collect.Preconditions.*;
 
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.util.Arrays;
 import java.util.List;
 
-import com.googlecode.charts4j.collect.Lists;
-
 /**
  * Type that contains the numeric information that will be rendered in the
  * chart.
@@ -63,8 +64,8 @@ public class Data {
     /** Invalid data series.  **/
     public static final Data   INVALID   = newData(-1);
 
-    /** The data array that will ultimately be rendered by the chart.  **/
-    private final double[]     data;
+    /** The storage of the data that will ultimately be rendered by the chart.  **/
+    private final DataStorage  storage;
 
     /**
      * The data that will eventually be rendered by a chart. The static factory
@@ -79,7 +80,18 @@ public class Data {
      */
     public Data(final double... data) {
         checkNotNull(data, "data is null or contents of data is null.");
-        this.data = data.clone();
+        this.storage = new ArrayStorage(data.clone());
+    }
+
+    /**
+     * Data held in the given storage, e.g. a heap array it takes ownership
+     * of, compact levels or a buffer.
+     *
+     * @param storage
+     *            the storage
+     */
+    private Data(final DataStorage storage) {
+        this.storage = storage;
     }
 
     /**
@@ -87,7 +99,7 @@ public class Data {
      */
     @Override
     public String toString() {
-        return Arrays.toString(data);
+        return Arrays.toString(backingArray());
     }
 
     /**
@@ -97,7 +109,66 @@ public class Data {
      * @return copy of double array representing the data.
      */
     public final double[] getData() {
-        return data.clone();
+        return storage.toArray();
+    }
+
+    /**
+     * Get a value of the dataset without copying the backing array.
+     *
+     * @param index
+     *            Index of the value.
+     *
+     * @return The value at the index.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of range
+     */
+    public final double get(final int index) {
+        return storage.get(index);
+    }
+
+    /**
+     * Get a read-only view of the dataset. Unlike {@link #getData()}, the
+     * backing array is not copied.
+     *
+     * @return Read-only buffer over the data.
+     */
+    public final DoubleBuffer asReadOnlyBuffer() {
+        return storage.asReadOnlyBuffer();
+    }
+
+    /**
+     * <b>For Charts4J internal use only.</b> Get the backing array without
+     * copying it. Callers must not modify the array.
+     *
+     * @return the backing array
+     */
+    final double[] backingArray() {
+        return storage.backingArray();
+    }
+
+    /**
+     * <b>For Charts4J internal use only.</b> Whether the data is held in a
+     * heap array, so {@link #backingArray()} does not compute the values.
+     *
+     * @return true if the data is held in a heap array
+     */
+    final boolean hasBackingArray() {
+        return storage.hasBackingArray();
+    }
+
+    /**
+     * <b>For Charts4J internal use only.</b> Encode the data with the given
+     * encoding and write it to the appendable.
+     *
+     * @param dataEncoding
+     *            the data encoding
+     * @param appendable
+     *            the appendable to write the encoded data to
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    final void encodeTo(final DataEncoding dataEncoding, final Appendable appendable) throws IOException {
+        storage.encodeTo(dataEncoding, appendable);
     }
 
     /**
@@ -106,7 +177,7 @@ public class Data {
      * @return Size of the dataset.
      */
     public final int getSize() {
-        return data.length;
+        return storage.size();
     }
 
     /**
@@ -124,6 +195,106 @@ public class Data {
         return new Data(data);
     }
 
+    /**
+     * <b>For Charts4J internal use only.</b> Create a {@link Data} instance
+     * that takes ownership of a freshly computed array instead of copying it.
+     *
+     * @param data
+     *            Double data. The caller must not keep or modify the array.
+     *
+     * @return Data backed by the array.
+     */
+    static Data wrap(final double[] data) {
+        return new Data(new ArrayStorage(data));
+    }
+
+    /**
+     * <b>For Charts4J internal use only.</b> Create a {@link Data} instance
+     * held in the given storage.
+     *
+     * @param storage
+     *            the storage
+     *
+     * @return Data held in the storage.
+     */
+    static Data of(final DataStorage storage) {
+        return new Data(storage);
+    }
+
+    /**
+     * Static factory method for creating a {@link Data} instance that is a
+     * view of a buffer, such as a file mapped with
+     * {@link DataUtil#mapDoubles(java.io.File)}. The data is not copied onto
+     * the heap: it is streamed from the buffer when the chart is rendered.
+     *
+     * @param data
+     *            Double data. Double values must be between 0 and 100. The
+     *            remaining values of the buffer are the data. The buffer
+     *            contents must not change while the data is in use. Numbers
+     *            outside the 0 to 100 range will be considered invalid and will
+     *            be treated as invalid according to the chart type.
+     *
+     * @return Data object backed by the buffer.
+     * @see DataUtil#scale(DoubleBuffer)
+     */
+    public static Data newData(final DoubleBuffer data) {
+        checkNotNull(data, "data cannot be null");
+        return new Data(new BufferStorage(data));
+    }
+
+    /**
+     * Static factory method for creating a {@link Data} instance that is a
+     * view of a buffer, such as a file mapped with
+     * {@link DataUtil#mapFloats(java.io.File)}. The data is not copied onto
+     * the heap: it is streamed from the buffer when the chart is rendered.
+     *
+     * @param data
+     *            Float data. Float values must be between 0 and 100. The
+     *            remaining values of the buffer are the data. The buffer
+     *            contents must not change while the data is in use. Numbers
+     *            outside the 0 to 100 range will be considered invalid and will
+     *            be treated as invalid according to the chart type.
+     *
+     * @return Data object backed by the buffer.
+     * @see DataUtil#scale(FloatBuffer)
+     */
+    public static Data newData(final FloatBuffer data) {
+        checkNotNull(data, "data cannot be null");
+        return new Data(new BufferStorage(data));
+    }
+
+    /**
+     * Static factory method for creating a compact {@link Data} instance. The
+     * values are quantized at construction to the levels the given encoding
+     * renders: 12 bit levels stored as shorts for
+     * {@link DataEncoding#EXTENDED}, and 6 bit levels stored as bytes for
+     * {@link DataEncoding#SIMPLE}. The data takes a quarter or an eighth of the
+     * memory of a regular {@link Data} instance, and renders identically with
+     * its encoding, without decoding the levels.
+     *
+     * Values read back from the instance are the quantized values. Numbers
+     * outside the 0 to 100 range are considered invalid as usual, and read
+     * back as -1.
+     *
+     * @param encoding
+     *            Encoding whose levels the data is quantized to. Must be
+     *            {@link DataEncoding#EXTENDED} or {@link DataEncoding#SIMPLE}.
+     * @param data
+     *            Double data. Double values must be between 0 and 100. The
+     *            array reference the client passes is not kept.
+     *
+     * @return Freshly constructed compact Data object.
+     */
+    public static Data newQuantizedData(final DataEncoding encoding, final double... data) {
+        checkNotNull(encoding, "encoding cannot be null");
+        checkNotNull(data, "data is null or contents of data is null.");
+        if (encoding == DataEncoding.EXTENDED) {
+            return new Data(new ShortStorage(data));
+        }
+        checkArgument(encoding == DataEncoding.SIMPLE, "Data can only be quantized to simple or extended encoding : %s", encoding);
+        return new Data(new ByteStorage(data));
+    }
+
     /**
      * Static factory method for creating {@link Data} instance.
      *
@@ -136,6 +307,6 @@ public class Data {
      */
     public static Data newData(final List<? extends Number> data) {
         checkContentsNotNull(data, "data is null or contents of data is null.");
-        return new Data(DataUtil.toDoubleArray(Lists.copyOf(data)));
+        return wrap(DataUtil.toDoubleArray(data));
     }
 }
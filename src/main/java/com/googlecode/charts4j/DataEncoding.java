@@ -25,6 +25,15 @@
 
 package com.googlecode.charts4j;
 
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.concurrent.Executor;
+
+import com.googlecode.charts4j.parameters.NumberFormatter;
+
 /**
  * Specify the data encoding to supply to the Google Chart API. The only
  * advantage to the simple encoding scheme is it will ultimately result in
@@ -52,10 +61,35 @@ public enum DataEncoding {
     /**
      * Text Data Encoding.
      */
-    TEXT("t:");
+    TEXT("t:"),
+    /**
+     * Automatic Data Encoding. When the chart is rendered, this resolves to
+     * the shortest encoding that loses no visible precision at the chart's
+     * size: simple encoding when the data is drawn across at most 61 pixels
+     * (e.g. a small sparkline), otherwise extended encoding. Chart types
+     * whose data is not drawn along a pixel axis (e.g. pie charts) always
+     * use extended encoding. AUTO itself cannot encode data.
+     */
+    AUTO("");
+
+    /**
+     * The extended encoding alphabet. The first 62 characters are the simple
+     * encoding alphabet. An extended encoding value is the pair of characters
+     * at its high and low six bits.
+     */
+    private static final char[] ALPHABET        = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-.".toCharArray();
+
+    /** Largest simple encoding value. */
+    private static final int    SIMPLE_MAX      = 61;
+
+    /** Largest extended encoding value. */
+    private static final int    EXTENDED_MAX    = 4095;
+
+    /** Number of data points encoded into the scratch buffer at a time. */
+    static final int            CHUNK_SIZE      = 1024;
 
     /** Encoding parameter for Google Chart API. **/
-    private final String encoding;
+    private final String        encoding;
 
     /**
      * To provide the Google Chart API with the right parameter.
@@ -74,4 +108,336 @@ public enum DataEncoding {
     public String toString() {
         return encoding;
     }
+
+    /**
+     * Resolve this encoding for data drawn across the given number of pixels.
+     * AUTO resolves to simple encoding if its 62 levels cover every pixel,
+     * and to extended encoding otherwise. Other encodings resolve to
+     * themselves.
+     *
+     * @param pixels
+     *            the number of pixels the data is drawn across
+     * @return the concrete encoding
+     */
+    DataEncoding resolve(final int pixels) {
+        if (this != AUTO) {
+            return this;
+        }
+        return pixels <= SIMPLE_MAX ? SIMPLE : EXTENDED;
+    }
+
+    /**
+     * Encode a data series with this encoding and write it to the appendable.
+     * Only the encoded values are written: neither the encoding prefix (e.g.
+     * <code>e:</code>) nor series separators. Data outside of
+     * {@link Data#MIN_VALUE} and {@link Data#MAX_VALUE} are encoded as missing
+     * values. This method can be used to encode large series without building
+     * a chart.
+     *
+     * @param data
+     *            the data series. Cannot be null.
+     * @param appendable
+     *            the appendable to write the encoded data to. Cannot be null.
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public void encode(final double[] data, final Appendable appendable) throws IOException {
+        checkNotNull(data, "data cannot be null");
+        checkNotNull(appendable, "appendable cannot be null");
+        checkState(this != AUTO, "AUTO must be resolved to a concrete encoding before encoding data");
+        if (this == TEXT) {
+            textEncoding(data, data.length, false, appendable);
+            return;
+        }
+        final char[] buffer = new char[Math.min(data.length, CHUNK_SIZE) * (this == SIMPLE ? 1 : 2)];
+        for (int from = 0; from < data.length; from += CHUNK_SIZE) {
+            final int length = encode(data, from, Math.min(from + CHUNK_SIZE, data.length), buffer, 0);
+            append(appendable, buffer, length);
+        }
+    }
+
+    /**
+     * Encode a data series with this encoding and write it to the appendable,
+     * as {@link #encode(double[], Appendable)} does. The data is read in
+     * place, without copying it.
+     *
+     * @param data
+     *            the data series. Cannot be null.
+     * @param appendable
+     *            the appendable to write the encoded data to. Cannot be null.
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public void encode(final Data data, final Appendable appendable) throws IOException {
+        checkNotNull(data, "data cannot be null");
+        checkNotNull(appendable, "appendable cannot be null");
+        checkState(this != AUTO, "AUTO must be resolved to a concrete encoding before encoding data");
+        data.encodeTo(this, appendable);
+    }
+
+    /**
+     * Parallel variant of {@link #encode(Data, Appendable)}. The simple and
+     * extended encodings encode every value into a fixed number of
+     * characters, so the data is split into ranges of at least
+     * <code>threshold</code> values that are encoded as separate tasks on the
+     * executor, each into its own region of one character buffer. The buffer
+     * is then written to the appendable. Text encoding, and data that is not
+     * held in a heap array (e.g. quantized or buffer-backed data), are
+     * encoded on the calling thread.
+     *
+     * @param data
+     *            the data series. Cannot be null.
+     * @param appendable
+     *            the appendable to write the encoded data to. Cannot be null.
+     * @param executor
+     *            the executor that runs the encoding tasks. Cannot be null.
+     * @param threshold
+     *            the minimum number of values encoded by a task. Must be &gt;
+     *            0.
+     * @throws IOException
+     *             if the appendable cannot be written to
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             data to be encoded
+     */
+    public void encode(final Data data, final Appendable appendable, final Executor executor, final int threshold) throws IOException, InterruptedException {
+        checkNotNull(data, "data cannot be null");
+        checkNotNull(appendable, "appendable cannot be null");
+        checkNotNull(executor, "executor cannot be null");
+        checkArgument(threshold > 0, "threshold must be > 0: %s", threshold);
+        checkState(this != AUTO, "AUTO must be resolved to a concrete encoding before encoding data");
+        if (this == TEXT || !data.hasBackingArray()) {
+            data.encodeTo(this, appendable);
+            return;
+        }
+        final double[] values = data.backingArray();
+        final int width = this == SIMPLE ? 1 : 2;
+        final char[] buffer = new char[values.length * width];
+        ParallelRanges.run(values.length, threshold, executor, new ParallelRanges.RangeTask() {
+            public void run(final int index, final int from, final int to) {
+                encode(values, from, to, buffer, from * width);
+            }
+        });
+        append(appendable, buffer, buffer.length);
+    }
+
+    /**
+     * Quantize a value to the level this encoding renders it at. Only the
+     * simple and extended encodings have levels.
+     *
+     * @param datum
+     *            the value
+     * @return the level, or -1 if the value is outside of
+     *         {@link Data#MIN_VALUE} and {@link Data#MAX_VALUE}
+     */
+    int quantize(final double datum) {
+        if (!(datum >= Data.MIN_VALUE && datum <= Data.MAX_VALUE)) {
+            return -1;
+        }
+        // The following cast to int is safe.
+        return (int) Math.round((datum / Data.MAX_VALUE) * maxLevel());
+    }
+
+    /**
+     * Get the value a level of this encoding stands for. Quantizing the value
+     * again yields the same level.
+     *
+     * @param level
+     *            the level, or -1 for a missing value
+     * @return the value, or -1 for a missing value
+     */
+    double dequantize(final int level) {
+        return level < 0 ? -1 : level * Data.MAX_VALUE / maxLevel();
+    }
+
+    /**
+     * Get the largest level of this encoding.
+     *
+     * @return the largest level
+     */
+    private int maxLevel() {
+        if (this == SIMPLE) {
+            return SIMPLE_MAX;
+        } else if (this == EXTENDED) {
+            return EXTENDED_MAX;
+        }
+        throw new UnsupportedOperationException("Only simple and extended encodings have levels.");
+    }
+
+    /**
+     * Encode extended encoding levels, as quantized by {@link #quantize(double)},
+     * and write them to the appendable.
+     *
+     * @param levels
+     *            the levels. Negative levels are missing values.
+     * @param appendable
+     *            the appendable to write the encoded data to
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    static void encodeExtended(final short[] levels, final Appendable appendable) throws IOException {
+        final char[] buffer = new char[Math.min(levels.length, CHUNK_SIZE) * 2];
+        for (int from = 0; from < levels.length; from += CHUNK_SIZE) {
+            final int to = Math.min(from + CHUNK_SIZE, levels.length);
+            int pos = 0;
+            for (int i = from; i < to; i++) {
+                final int level = levels[i];
+                if (level >= 0) {
+                    buffer[pos++] = ALPHABET[level >> 6];
+                    buffer[pos++] = ALPHABET[level & 63];
+                } else {
+                    buffer[pos++] = '_';
+                    buffer[pos++] = '_';
+                }
+            }
+            append(appendable, buffer, pos);
+        }
+    }
+
+    /**
+     * Encode simple encoding levels, as quantized by {@link #quantize(double)},
+     * and write them to the appendable.
+     *
+     * @param levels
+     *            the levels. Negative levels are missing values.
+     * @param appendable
+     *            the appendable to write the encoded data to
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    static void encodeSimple(final byte[] levels, final Appendable appendable) throws IOException {
+        final char[] buffer = new char[Math.min(levels.length, CHUNK_SIZE)];
+        for (int from = 0; from < levels.length; from += CHUNK_SIZE) {
+            final int to = Math.min(from + CHUNK_SIZE, levels.length);
+            int pos = 0;
+            for (int i = from; i < to; i++) {
+                final int level = levels[i];
+                buffer[pos++] = level >= 0 ? ALPHABET[level] : '_';
+            }
+            append(appendable, buffer, pos);
+        }
+    }
+
+    /**
+     * Encode a chunk of a data series that is streamed through a scratch array
+     * and write it to the appendable. Chunks are encoded in order, and only
+     * the first one has <code>continued</code> set to false.
+     *
+     * @param chunk
+     *            the scratch array holding the chunk
+     * @param length
+     *            the number of values in the chunk
+     * @param continued
+     *            whether chunks of the same series were encoded before this one
+     * @param appendable
+     *            the appendable to write the encoded data to
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    void encodeChunk(final double[] chunk, final int length, final boolean continued, final Appendable appendable) throws IOException {
+        if (this == TEXT) {
+            textEncoding(chunk, length, continued, appendable);
+            return;
+        }
+        final char[] buffer = new char[length * (this == SIMPLE ? 1 : 2)];
+        append(appendable, buffer, encode(chunk, 0, length, buffer, 0));
+    }
+
+    /**
+     * Encode a range of a data series into a character array. Only the simple
+     * and extended encodings are supported: they encode every value into one
+     * and two characters respectively, so the destination can be sized up
+     * front.
+     *
+     * @param data
+     *            the data series
+     * @param from
+     *            index of the first value to encode, inclusive
+     * @param to
+     *            index of the last value to encode, exclusive
+     * @param dest
+     *            the destination array
+     * @param offset
+     *            the index in the destination of the first character
+     * @return the number of characters written
+     */
+    int encode(final double[] data, final int from, final int to, final char[] dest, final int offset) {
+        int pos = offset;
+        if (this == SIMPLE) {
+            for (int i = from; i < to; i++) {
+                final double datum = data[i];
+                // The following cast to int is safe.
+                dest[pos++] = (datum >= Data.MIN_VALUE && datum <= Data.MAX_VALUE) ? ALPHABET[(int) Math.round((datum / Data.MAX_VALUE) * SIMPLE_MAX)] : '_';
+            }
+        } else if (this == EXTENDED) {
+            for (int i = from; i < to; i++) {
+                final double datum = data[i];
+                if (datum >= Data.MIN_VALUE && datum <= Data.MAX_VALUE) {
+                    // The following cast to int is safe.
+                    final int index = (int) Math.round((datum / Data.MAX_VALUE) * EXTENDED_MAX);
+                    dest[pos++] = ALPHABET[index >> 6];
+                    dest[pos++] = ALPHABET[index & 63];
+                } else {
+                    dest[pos++] = '_';
+                    dest[pos++] = '_';
+                }
+            }
+        } else if (this == TEXT) {
+            throw new UnsupportedOperationException("Text encoding does not have a fixed width.");
+        } else {
+            throw new UnsupportedOperationException("AUTO must be resolved to a concrete encoding before encoding data.");
+        }
+        return pos - offset;
+    }
+
+    /**
+     * Text encoding with one decimal, comma separated.
+     *
+     * @param data
+     *            the data series
+     * @param length
+     *            the number of values to encode
+     * @param continued
+     *            whether values of the same series were encoded before these
+     * @param appendable
+     *            the appendable to write the encoded data to
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    private static void textEncoding(final double[] data, final int length, final boolean continued, final Appendable appendable) throws IOException {
+        for (int i = 0; i < length; i++) {
+            final double datum = data[i];
+            appendable.append(continued || i > 0 ? "," : "");
+            if (datum >= Data.MIN_VALUE && datum <= Data.MAX_VALUE) {
+                NumberFormatter.appendFixed(appendable, datum, 1);
+            } else {
+                appendable.append("-1");
+            }
+        }
+    }
+
+    /**
+     * Bulk append characters, avoiding per character calls for the common
+     * appendables.
+     *
+     * @param appendable
+     *            the appendable
+     * @param chars
+     *            the characters
+     * @param length
+     *            the number of characters to append
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    private static void append(final Appendable appendable, final char[] chars, final int length) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(chars, 0, length);
+        } else if (appendable instanceof StringBuffer) {
+            ((StringBuffer) appendable).append(chars, 0, length);
+        } else if (appendable instanceof Writer) {
+            ((Writer) appendable).write(chars, 0, length);
+        } else {
+            appendable.append(CharBuffer.wrap(chars, 0, length));
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+
+/**
+ * How the values of a {@link Data} instance are stored. {@link Data} delegates
+ * to its storage, so compact and buffer backed data share the public
+ * accessors of {@link Data}, which cannot be overridden.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+abstract class DataStorage {
+
+    /**
+     * Get the number of values.
+     *
+     * @return the number of values
+     */
+    abstract int size();
+
+    /**
+     * Get a value.
+     *
+     * @param index
+     *            Index of the value.
+     * @return The value at the index.
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of range
+     */
+    abstract double get(int index);
+
+    /**
+     * Get the values in a new array.
+     *
+     * @return the values
+     */
+    abstract double[] toArray();
+
+    /**
+     * Get a read-only view of the values.
+     *
+     * @return Read-only buffer over the values.
+     */
+    abstract DoubleBuffer asReadOnlyBuffer();
+
+    /**
+     * Get the values as an array that callers must not modify. Storages that
+     * hold a heap array return it without copying it.
+     *
+     * @return the values
+     */
+    double[] backingArray() {
+        return toArray();
+    }
+
+    /**
+     * Whether the values are held in a heap array, so
+     * {@link #backingArray()} does not compute them.
+     *
+     * @return true if the values are held in a heap array
+     */
+    boolean hasBackingArray() {
+        return false;
+    }
+
+    /**
+     * Encode the values with the given encoding and write them to the
+     * appendable.
+     *
+     * @param dataEncoding
+     *            the data encoding
+     * @param appendable
+     *            the appendable to write the encoded values to
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    abstract void encodeTo(DataEncoding dataEncoding, Appendable appendable) throws IOException;
+}
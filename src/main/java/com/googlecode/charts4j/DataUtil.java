@@ -29,12 +29,18 @@ import static com.googlecode.charts4j.collect.Preconditions.checkArgument;
 import static com.googlecode.charts4j.collect.Preconditions.checkContentsNotNull;
 import static com.googlecode.charts4j.collect.Preconditions.checkNotNull;
 
-import java.util.Collections;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
 import java.util.List;
+import java.util.concurrent.Executor;
 
-import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
-import com.googlecode.charts4j.collect.PrimitiveArrays;
 
 /**
  * Perusing the <a href="http://groups.google.com/group/google-chart-api">
@@ -81,7 +87,64 @@ public final class DataUtil {
      */
     public static Data scaleWithinRange(final double min, final double max, final double[] data) {
         checkArgument(max - min > 0, "min >= max!");
-        return Data.newData(privateScale(data, min, max));
+        return Data.wrap(privateScale(data, min, max));
+    }
+
+    /**
+     * Static factory method that will scale data between the min and max, as
+     * {@link #scaleWithinRange(double, double, double[])} does.
+     *
+     * @param min
+     *            The minimum value in the scaling range.
+     * @param max
+     *            The maximum value in the scaling range.
+     * @param data
+     *            The data
+     * @return A Data object scaled between min and max.
+     *
+     * @see Data
+     */
+    public static Data scaleWithinRange(final double min, final double max, final int[] data) {
+        checkArgument(max - min > 0, "min >= max!");
+        return Data.wrap(privateScale(data, min, max));
+    }
+
+    /**
+     * Static factory method that will scale data between the min and max, as
+     * {@link #scaleWithinRange(double, double, double[])} does.
+     *
+     * @param min
+     *            The minimum value in the scaling range.
+     * @param max
+     *            The maximum value in the scaling range.
+     * @param data
+     *            The data
+     * @return A Data object scaled between min and max.
+     *
+     * @see Data
+     */
+    public static Data scaleWithinRange(final double min, final double max, final long[] data) {
+        checkArgument(max - min > 0, "min >= max!");
+        return Data.wrap(privateScale(data, min, max));
+    }
+
+    /**
+     * Static factory method that will scale data between the min and max, as
+     * {@link #scaleWithinRange(double, double, double[])} does.
+     *
+     * @param min
+     *            The minimum value in the scaling range.
+     * @param max
+     *            The maximum value in the scaling range.
+     * @param data
+     *            The data
+     * @return A Data object scaled between min and max.
+     *
+     * @see Data
+     */
+    public static Data scaleWithinRange(final double min, final double max, final float[] data) {
+        checkArgument(max - min > 0, "min >= max!");
+        return Data.wrap(privateScale(data, min, max));
     }
 
     /**
@@ -106,12 +169,14 @@ public final class DataUtil {
      * @see Data
      */
     public static Data scaleWithinRange(final double min, final double max, final List<? extends Number> data) {
-        return scaleWithinRange(min, max, toDoubleArray(Lists.copyOf(data)));
+        checkContentsNotNull(data, "data is null or contents of data is null.");
+        return scaleWithinRange(min, max, toDoubleArray(data));
     }
 
     /**
      * Static factory method that will simply scale between the minimum and
-     * maximum values in the data.
+     * maximum values in the data. NaN values are ignored when finding the
+     * minimum and maximum, and remain NaN, i.e. invalid, in the scaled data.
      *
      * @param data
      *            Provide a data series that will be scaled by this method.
@@ -122,10 +187,103 @@ public final class DataUtil {
      */
     public static Data scale(final double... data) {
         checkNotNull(data, "data is null or contents of data is null.");
-        final double min = Collections.min(PrimitiveArrays.asList(data));
-        final double max = Collections.max(PrimitiveArrays.asList(data));
+        checkArgument(data.length > 0, "Cannot scale empty data.");
+        // NaN values compare false, so they are skipped and stay NaN.
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double datum : data) {
+            if (datum < min) {
+                min = datum;
+            }
+            if (datum > max) {
+                max = datum;
+            }
+        }
         checkArgument(min < max, "Cannot scale this data. It is ill conditioned.");
-        return Data.newData(privateScale(data, min, max));
+        return Data.wrap(privateScale(data, min, max));
+    }
+
+    /**
+     * Static factory method that will simply scale between the minimum and
+     * maximum values in the data.
+     *
+     * @param data
+     *            Provide a data series that will be scaled by this method.
+     *
+     * @return A Data object scaled between minimum and maximum in the provided
+     *         data series.
+     * @see Data
+     */
+    public static Data scale(final int[] data) {
+        checkNotNull(data, "data is null or contents of data is null.");
+        checkArgument(data.length > 0, "Cannot scale empty data.");
+        int min = data[0];
+        int max = data[0];
+        for (int datum : data) {
+            if (datum < min) {
+                min = datum;
+            } else if (datum > max) {
+                max = datum;
+            }
+        }
+        checkArgument(min < max, "Cannot scale this data. It is ill conditioned.");
+        return Data.wrap(privateScale(data, min, max));
+    }
+
+    /**
+     * Static factory method that will simply scale between the minimum and
+     * maximum values in the data.
+     *
+     * @param data
+     *            Provide a data series that will be scaled by this method.
+     *
+     * @return A Data object scaled between minimum and maximum in the provided
+     *         data series.
+     * @see Data
+     */
+    public static Data scale(final long[] data) {
+        checkNotNull(data, "data is null or contents of data is null.");
+        checkArgument(data.length > 0, "Cannot scale empty data.");
+        long min = data[0];
+        long max = data[0];
+        for (long datum : data) {
+            if (datum < min) {
+                min = datum;
+            } else if (datum > max) {
+                max = datum;
+            }
+        }
+        checkArgument(min < max, "Cannot scale this data. It is ill conditioned.");
+        return Data.wrap(privateScale(data, min, max));
+    }
+
+    /**
+     * Static factory method that will simply scale between the minimum and
+     * maximum values in the data.
+     *
+     * @param data
+     *            Provide a data series that will be scaled by this method.
+     *
+     * @return A Data object scaled between minimum and maximum in the provided
+     *         data series.
+     * @see Data
+     */
+    public static Data scale(final float[] data) {
+        checkNotNull(data, "data is null or contents of data is null.");
+        checkArgument(data.length > 0, "Cannot scale empty data.");
+        // NaN values compare false, so they are skipped and stay NaN.
+        float min = Float.POSITIVE_INFINITY;
+        float max = Float.NEGATIVE_INFINITY;
+        for (float datum : data) {
+            if (datum < min) {
+                min = datum;
+            }
+            if (datum > max) {
+                max = datum;
+            }
+        }
+        checkArgument(min < max, "Cannot scale this data. It is ill conditioned.");
+        return Data.wrap(privateScale(data, min, max));
     }
 
     /**
@@ -143,7 +301,164 @@ public final class DataUtil {
      */
     public static Data scale(final List<? extends Number> data) {
         checkContentsNotNull(data, "data is null or contents of data is null.");
-        return scale(toDoubleArray(Lists.copyOf(data)));
+        return scale(toDoubleArray(data));
+    }
+
+    /**
+     * Static factory method that will scale data between the min and max, as
+     * {@link #scaleWithinRange(double, double, double[])} does. The data is
+     * not loaded onto the heap: the returned {@link Data} scales the values as
+     * they are streamed from the buffer when the chart is rendered.
+     *
+     * @param min
+     *            The minimum value in the scaling range.
+     * @param max
+     *            The maximum value in the scaling range.
+     * @param data
+     *            The data, e.g. a file mapped with {@link #mapDoubles(File)}.
+     *            The remaining values of the buffer are the data. The buffer
+     *            contents must not change while the returned data is in use.
+     * @return A Data object scaled between min and max.
+     *
+     * @see Data#newData(DoubleBuffer)
+     */
+    public static Data scaleWithinRange(final double min, final double max, final DoubleBuffer data) {
+        checkNotNull(data, "data cannot be null");
+        checkArgument(max - min > 0, "min >= max!");
+        return Data.of(new BufferStorage(data).scale(min, max));
+    }
+
+    /**
+     * Static factory method that will scale data between the min and max, as
+     * {@link #scaleWithinRange(double, double, DoubleBuffer)} does.
+     *
+     * @param min
+     *            The minimum value in the scaling range.
+     * @param max
+     *            The maximum value in the scaling range.
+     * @param data
+     *            The data, e.g. a file mapped with {@link #mapFloats(File)}.
+     *            The remaining values of the buffer are the data. The buffer
+     *            contents must not change while the returned data is in use.
+     * @return A Data object scaled between min and max.
+     *
+     * @see Data#newData(FloatBuffer)
+     */
+    public static Data scaleWithinRange(final double min, final double max, final FloatBuffer data) {
+        checkNotNull(data, "data cannot be null");
+        checkArgument(max - min > 0, "min >= max!");
+        return Data.of(new BufferStorage(data).scale(min, max));
+    }
+
+    /**
+     * Static factory method that will simply scale between the minimum and
+     * maximum values in the data. The minimum and maximum are found in one
+     * pass over the buffer, and the data is not loaded onto the heap: the
+     * returned {@link Data} scales the values as they are streamed from the
+     * buffer when the chart is rendered.
+     *
+     * @param data
+     *            The data, e.g. a file mapped with {@link #mapDoubles(File)}.
+     *            The remaining values of the buffer are the data. The buffer
+     *            contents must not change while the returned data is in use.
+     *
+     * @return A Data object scaled between minimum and maximum in the provided
+     *         data series.
+     * @see Data#newData(DoubleBuffer)
+     */
+    public static Data scale(final DoubleBuffer data) {
+        checkNotNull(data, "data cannot be null");
+        return scale(new BufferStorage(data));
+    }
+
+    /**
+     * Static factory method that will simply scale between the minimum and
+     * maximum values in the data, as {@link #scale(DoubleBuffer)} does.
+     *
+     * @param data
+     *            The data, e.g. a file mapped with {@link #mapFloats(File)}.
+     *            The remaining values of the buffer are the data. The buffer
+     *            contents must not change while the returned data is in use.
+     *
+     * @return A Data object scaled between minimum and maximum in the provided
+     *         data series.
+     * @see Data#newData(FloatBuffer)
+     */
+    public static Data scale(final FloatBuffer data) {
+        checkNotNull(data, "data cannot be null");
+        return scale(new BufferStorage(data));
+    }
+
+    /**
+     * Scale a buffer view between its minimum and maximum.
+     *
+     * @param data
+     *            the unscaled buffer view
+     * @return the scaled buffer view
+     */
+    private static Data scale(final BufferStorage data) {
+        final double[] range = data.range();
+        checkArgument(range[0] < range[1], "Cannot scale this data. It is ill conditioned.");
+        return Data.of(data.scale(range[0], range[1]));
+    }
+
+    /**
+     * Map a file of raw little-endian doubles, such as a metric dump, into
+     * memory. The file is mapped read-only, so the series is paged in by the
+     * operating system as it is read rather than loaded onto the heap. Pass
+     * the buffer to {@link #scale(DoubleBuffer)} or
+     * {@link Data#newData(DoubleBuffer)}. A single mapping is limited to 2GB;
+     * larger files can be mapped in regions with
+     * {@link FileChannel#map(FileChannel.MapMode, long, long)}.
+     *
+     * @param file
+     *            The file. Its length must be a multiple of 8 bytes.
+     * @return a read-only buffer of the doubles in the file.
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    public static DoubleBuffer mapDoubles(final File file) throws IOException {
+        return map(file, 8).asDoubleBuffer();
+    }
+
+    /**
+     * Map a file of raw little-endian floats into memory, as
+     * {@link #mapDoubles(File)} does.
+     *
+     * @param file
+     *            The file. Its length must be a multiple of 4 bytes.
+     * @return a read-only buffer of the floats in the file.
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    public static FloatBuffer mapFloats(final File file) throws IOException {
+        return map(file, 4).asFloatBuffer();
+    }
+
+    /**
+     * Map a whole file read-only in little-endian byte order.
+     *
+     * @param file
+     *            the file
+     * @param width
+     *            the size in bytes of a value in the file
+     * @return the mapped file
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    private static ByteBuffer map(final File file, final int width) throws IOException {
+        checkNotNull(file, "file cannot be null");
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = raf.getChannel();
+            final long size = channel.size();
+            checkArgument(size % width == 0, "file length must be a multiple of %s bytes : %s", width, size);
+            checkArgument(size <= Integer.MAX_VALUE, "file must be mapped in regions of at most 2GB : %s", size);
+            // The mapping stays valid after the file is closed.
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+        } finally {
+            raf.close();
+        }
     }
 
     /**
@@ -162,15 +477,21 @@ public final class DataUtil {
      */
     public static List<Data> scale(final double data[][]) {
         checkNotNull(data, "data cannot be null");
-        final List<Double> allData = Lists.newLinkedList();
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
         for (double[] d : data) {
-            for (double doub : d) {
-                allData.add(doub);
+            checkNotNull(d, "data cannot be null");
+            for (double datum : d) {
+                if (datum < min) {
+                    min = datum;
+                }
+                if (datum > max) {
+                    max = datum;
+                }
             }
         }
-        final double min = Collections.min(allData);
-        final double max = Collections.max(allData);
-        final List<Data> list = Lists.newLinkedList();
+        checkArgument(min <= max, "Cannot scale empty data.");
+        final List<Data> list = Lists.newArrayList();
         for (double[] d : data) {
             list.add(scaleWithinRange(min, max, d));
         }
@@ -196,29 +517,230 @@ public final class DataUtil {
         int j = 0;
         for (List<? extends Number> datum : data) {
             checkContentsNotNull(datum, "data is null or contents of data is null.");
-            double[] plotData = new double[datum.size()];
-            int i = 0;
-            for (Number n : datum) {
-                plotData[i++] = n.doubleValue();
-            }
-            d[j++] = plotData;
+            d[j++] = toDoubleArray(datum);
         }
         return scale(d);
     }
 
+    /**
+     * Parallel variant of {@link #scaleWithinRange(double, double, double[])}.
+     * The data is split into ranges of at least <code>threshold</code> values
+     * that are scaled as separate tasks on the executor. Data shorter than
+     * the threshold is scaled on the calling thread.
+     *
+     * @param min
+     *            The minimum value in the scaling range.
+     * @param max
+     *            The maximum value in the scaling range.
+     * @param data
+     *            The data
+     * @param executor
+     *            The executor that runs the scaling tasks. Cannot be null.
+     * @param threshold
+     *            The minimum number of values scaled by a task. Must be &gt; 0.
+     *            A few tens of thousands amortizes the cost of a task.
+     * @return A Data object scaled between min and max.
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             data to be scaled
+     *
+     * @see Data
+     */
+    public static Data scaleWithinRange(final double min, final double max, final double[] data, final Executor executor, final int threshold) throws InterruptedException {
+        checkNotNull(data, "data cannot be null");
+        checkNotNull(executor, "executor cannot be null");
+        checkArgument(threshold > 0, "threshold must be > 0: %s", threshold);
+        checkArgument(max - min > 0, "min >= max!");
+        return Data.wrap(parallelScale(data, min, max, executor, threshold));
+    }
+
+    /**
+     * Parallel variant of {@link #scale(double...)}. The minimum and maximum
+     * are reduced in parallel, then the data is scaled in parallel, as
+     * {@link #scaleWithinRange(double, double, double[], Executor, int)}
+     * does.
+     *
+     * @param data
+     *            Provide a data series that will be scaled by this method.
+     * @param executor
+     *            The executor that runs the scaling tasks. Cannot be null.
+     * @param threshold
+     *            The minimum number of values processed by a task. Must be
+     *            &gt; 0.
+     * @return A Data object scaled between minimum and maximum in the provided
+     *         data series.
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             data to be scaled
+     * @see Data
+     */
+    public static Data scale(final double[] data, final Executor executor, final int threshold) throws InterruptedException {
+        checkNotNull(data, "data is null or contents of data is null.");
+        checkNotNull(executor, "executor cannot be null");
+        checkArgument(threshold > 0, "threshold must be > 0: %s", threshold);
+        final double[] range = parallelRange(data, executor, threshold);
+        checkArgument(range[0] < range[1], "Cannot scale this data. It is ill conditioned.");
+        return Data.wrap(parallelScale(data, range[0], range[1], executor, threshold));
+    }
+
+    /**
+     * Parallel variant of {@link #scale(double[][])}. Every data series is
+     * reduced and scaled in parallel, as
+     * {@link #scale(double[], Executor, int)} does.
+     *
+     * @param data
+     *            the data. The first index is the data series index. The second
+     *            is the data series.
+     * @param executor
+     *            The executor that runs the scaling tasks. Cannot be null.
+     * @param threshold
+     *            The minimum number of values processed by a task. Must be
+     *            &gt; 0.
+     * @return the list of Data objects that can then be plotted.
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             data to be scaled
+     */
+    public static List<Data> scale(final double data[][], final Executor executor, final int threshold) throws InterruptedException {
+        checkNotNull(data, "data cannot be null");
+        checkNotNull(executor, "executor cannot be null");
+        checkArgument(threshold > 0, "threshold must be > 0: %s", threshold);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double[] d : data) {
+            checkNotNull(d, "data cannot be null");
+            final double[] range = parallelRange(d, executor, threshold);
+            min = Math.min(min, range[0]);
+            max = Math.max(max, range[1]);
+        }
+        checkArgument(min <= max, "Cannot scale empty data.");
+        checkArgument(max - min > 0, "min >= max!");
+        final List<Data> list = Lists.newArrayList();
+        for (double[] d : data) {
+            list.add(Data.wrap(parallelScale(d, min, max, executor, threshold)));
+        }
+        return list;
+    }
+
+    /**
+     * Parallel variant of {@link #scaleDataList(List)}. The numbers are
+     * unboxed on the calling thread, then scaled as
+     * {@link #scale(double[][], Executor, int)} does.
+     *
+     * @param data
+     *            the data.
+     * @param executor
+     *            The executor that runs the scaling tasks. Cannot be null.
+     * @param threshold
+     *            The minimum number of values processed by a task. Must be
+     *            &gt; 0.
+     * @return the list of Data objects that can then be plotted.
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             data to be scaled
+     */
+    public static List<Data> scaleDataList(final List<? extends List<? extends Number>> data, final Executor executor, final int threshold) throws InterruptedException {
+        checkContentsNotNull(data, "data is null or contents of data is null.");
+        final double[][] d = new double[data.size()][];
+        int j = 0;
+        for (List<? extends Number> datum : data) {
+            checkContentsNotNull(datum, "data is null or contents of data is null.");
+            d[j++] = toDoubleArray(datum);
+        }
+        return scale(d, executor, threshold);
+    }
+
+    /**
+     * Find the minimum and maximum of the data with a parallel reduction:
+     * every range is reduced by its own task, and the partial results are
+     * combined on the calling thread.
+     *
+     * @param data
+     *            the data
+     * @param executor
+     *            the executor
+     * @param threshold
+     *            the minimum number of values reduced by a task
+     * @return the minimum and maximum, or positive and negative infinity if
+     *         the data is empty
+     * @throws InterruptedException
+     *             if the calling thread is interrupted
+     */
+    private static double[] parallelRange(final double[] data, final Executor executor, final int threshold) throws InterruptedException {
+        final int count = ParallelRanges.count(data.length, threshold);
+        final double[] mins = new double[count];
+        final double[] maxs = new double[count];
+        ParallelRanges.run(data.length, threshold, executor, new ParallelRanges.RangeTask() {
+            public void run(final int index, final int from, final int to) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = from; i < to; i++) {
+                    final double datum = data[i];
+                    if (datum < min) {
+                        min = datum;
+                    }
+                    if (datum > max) {
+                        max = datum;
+                    }
+                }
+                mins[index] = min;
+                maxs[index] = max;
+            }
+        });
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, mins[i]);
+            max = Math.max(max, maxs[i]);
+        }
+        return new double[] { min, max };
+    }
+
+    /**
+     * Scale the data in parallel. Every task writes a disjoint range of the
+     * scaled array.
+     *
+     * @param data
+     *            the data
+     * @param min
+     *            Minimum range for scaled data.
+     * @param max
+     *            Maximum range of scaled data.
+     * @param executor
+     *            the executor
+     * @param threshold
+     *            the minimum number of values scaled by a task
+     * @return scaled double array
+     * @throws InterruptedException
+     *             if the calling thread is interrupted
+     */
+    private static double[] parallelScale(final double[] data, final double min, final double max, final Executor executor, final int threshold) throws InterruptedException {
+        final double[] scaledData = new double[data.length];
+        ParallelRanges.run(data.length, threshold, executor, new ParallelRanges.RangeTask() {
+            public void run(final int index, final int from, final int to) {
+                for (int j = from; j < to; j++) {
+                    scaledData[j] = ((data[j] - min) / (max - min)) * Data.MAX_VALUE;
+                }
+            }
+        });
+        return scaledData;
+    }
+
     /**
      * Convert a list of numbers to a double array. Numbers that fall outside
      * the {@link Double.MAX_VALUE} and {@link Double.MIN_VALUE} should not be
      * used.
      *
      * @param data
-     *            List of numbers
+     *            List of numbers. Iterated once, so linked lists are
+     *            converted in linear time.
      * @return a double a array.
      */
-    static double[] toDoubleArray(final ImmutableList<? extends Number> data) {
+    static double[] toDoubleArray(final List<? extends Number> data) {
         final double[] d = new double[data.size()];
-        for (int i = 0; i < d.length; i++) {
-            d[i] = data.get(i).doubleValue();
+        int i = 0;
+        for (Number n : data) {
+            d[i++] = n.doubleValue();
         }
         return d;
     }
@@ -243,4 +765,67 @@ public final class DataUtil {
         }
         return scaledData;
     }
+
+    /**
+     * Method that scales the data.
+     *
+     * @param intArray
+     *            Data to be scaled. Cannot be null.
+     * @param min
+     *            Minimum range for scaled data.
+     * @param max
+     *            Maximum range of scaled data.
+     * @return scaled double array
+     */
+    private static double[] privateScale(final int[] intArray, final double min, final double max) {
+        checkNotNull(intArray, "intArray cannot be null");
+        checkArgument(max - min > 0, "min > max!");
+        final double[] scaledData = new double[intArray.length];
+        for (int j = 0; j < intArray.length; j++) {
+            scaledData[j] = ((intArray[j] - min) / (max - min)) * Data.MAX_VALUE;
+        }
+        return scaledData;
+    }
+
+    /**
+     * Method that scales the data.
+     *
+     * @param longArray
+     *            Data to be scaled. Cannot be null.
+     * @param min
+     *            Minimum range for scaled data.
+     * @param max
+     *            Maximum range of scaled data.
+     * @return scaled double array
+     */
+    private static double[] privateScale(final long[] longArray, final double min, final double max) {
+        checkNotNull(longArray, "longArray cannot be null");
+        checkArgument(max - min > 0, "min > max!");
+        final double[] scaledData = new double[longArray.length];
+        for (int j = 0; j < longArray.length; j++) {
+            scaledData[j] = ((longArray[j] - min) / (max - min)) * Data.MAX_VALUE;
+        }
+        return scaledData;
+    }
+
+    /**
+     * Method that scales the data.
+     *
+     * @param floatArray
+     *            Data to be scaled. Cannot be null.
+     * @param min
+     *            Minimum range for scaled data.
+     * @param max
+     *            Maximum range of scaled data.
+     * @return scaled double array
+     */
+    private static double[] privateScale(final float[] floatArray, final double min, final double max) {
+        checkNotNull(floatArray, "floatArray cannot be null");
+        checkArgument(max - min > 0, "min > max!");
+        final double[] scaledData = new double[floatArray.length];
+        for (int j = 0; j < floatArray.length; j++) {
+            scaledData[j] = ((floatArray[j] - min) / (max - min)) * Data.MAX_VALUE;
+        }
+        return scaledData;
+    }
 }
@@ -0,0 +1,263 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.util.Map;
+
+import com.googlecode.charts4j.parameters.ParameterManager;
+
+/**
+ * A POST request for a chart. Large charts can exceed the URL length limits
+ * of GET requests, but the Google Chart API also accepts the chart
+ * parameters as an <code>application/x-www-form-urlencoded</code> POST body.
+ * The chart is rendered once, when the request is created. The content length
+ * is computed from that rendering, without building the body, and the same
+ * rendering is then streamed straight to the request, so the body always
+ * matches the content length even if the chart is modified in between.
+ *
+ * <p>
+ * For charts embedded in web pages, {@link #toHTMLForm()} generates an HTML
+ * form that POSTs the chart parameters from the browser.
+ * </p>
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see <a href="http://code.google.com/apis/chart/docs/post_requests.html">POST Requests</a>
+ */
+public final class FormPost {
+
+    /** The content type of the request body. */
+    public static final String CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+    /** US-ASCII character set. */
+    private static final String US_ASCII    = "US-ASCII";
+
+    /** UTF-8 character set. */
+    private static final String UTF_8       = "UTF-8";
+
+    /** Size of the buffer used to stream the body. */
+    private static final int    BUFFER_SIZE = 8192;
+
+    /** The chart URL endpoint. */
+    private final String           action;
+
+    /** The chart parameters, as rendered when the request was created. */
+    private final ParameterManager parameters;
+
+    /** The length of the request body. */
+    private final long             contentLength;
+
+    /**
+     * Create a POST request for the chart.
+     *
+     * @param chart
+     *            the chart
+     */
+    private FormPost(final GChart chart) {
+        this.action = chart.getURLEndpoint();
+        this.parameters = render(chart);
+        this.contentLength = parameters.getFormBodyLength();
+    }
+
+    /**
+     * Create a POST request for a chart. The request holds the chart
+     * parameters as they are now: later changes to the chart do not affect
+     * it.
+     *
+     * @param chart
+     *            the chart. Cannot be null. Must be created with
+     *            {@link GCharts}.
+     * @return the POST request
+     */
+    public static FormPost newFormPost(final GChart chart) {
+        checkNotNull(chart, "chart cannot be null");
+        return new FormPost(chart);
+    }
+
+    /**
+     * Get the URL the request must be posted to.
+     *
+     * @return the chart URL endpoint
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * Get the content type of the request body.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    /**
+     * Get the length of the request body in bytes.
+     *
+     * @return the content length
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Stream the request body to the output stream as US-ASCII bytes. The
+     * output stream is flushed but not closed.
+     *
+     * @param outputStream
+     *            the output stream, e.g. of an HTTP connection. Cannot be
+     *            null.
+     * @throws IOException
+     *             if the output stream cannot be written to
+     */
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        checkNotNull(outputStream, "outputStream cannot be null");
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, US_ASCII), BUFFER_SIZE);
+        parameters.writeFormBody(writer);
+        writer.flush();
+    }
+
+    /**
+     * Generate an HTML form that POSTs the chart parameters to the chart URL
+     * endpoint. Each parameter is a hidden input. The form has a submit
+     * button, and can also be submitted from script.
+     *
+     * @return the HTML form
+     */
+    public String toHTMLForm() {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            writeHTMLForm(sb);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions.
+            throw new AssertionError(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Write an HTML form that POSTs the chart parameters to the chart URL
+     * endpoint to the appendable.
+     *
+     * @param appendable
+     *            the appendable to write the form to. Cannot be null.
+     * @throws IOException
+     *             if the appendable cannot be written to
+     *
+     * @see #toHTMLForm()
+     */
+    public void writeHTMLForm(final Appendable appendable) throws IOException {
+        checkNotNull(appendable, "appendable cannot be null");
+        appendable.append("<form action=\"");
+        appendHTMLEscaped(appendable, getAction());
+        appendable.append("\" method=\"POST\">\n");
+        for (Map.Entry<String, String> entry : parameters.getParameterMap().entrySet()) {
+            // The browser form-encodes the values itself, so they are written
+            // decoded.
+            appendable.append("<input type=\"hidden\" name=\"").append(entry.getKey()).append("\" value=\"");
+            appendHTMLEscaped(appendable, urlDecode(entry.getValue()));
+            appendable.append("\"/>\n");
+        }
+        appendable.append("<input type=\"submit\"/>\n</form>");
+    }
+
+    /**
+     * Render a chart into a new parameter manager.
+     *
+     * @param chart
+     *            the chart
+     * @return the parameter manager holding the chart parameters
+     */
+    private static ParameterManager render(final GChart chart) {
+        if (chart instanceof RadarChart) {
+            return ((RadarChart) chart).render();
+        }
+        checkArgument(chart instanceof AbstractGChart, "unsupported chart: %s", chart.getClass().getName());
+        return ((AbstractGChart) chart).render();
+    }
+
+    /**
+     * Decode a URL encoded parameter value.
+     *
+     * @param s
+     *            the encoded value
+     * @return the decoded value
+     */
+    private static String urlDecode(final String s) {
+        try {
+            return URLDecoder.decode(s, UTF_8);
+        } catch (UnsupportedEncodingException e) {
+            return s;
+        }
+    }
+
+    /**
+     * Append a string, escaping the characters that are special in HTML
+     * attribute values.
+     *
+     * @param appendable
+     *            the appendable
+     * @param s
+     *            the string
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    private static void appendHTMLEscaped(final Appendable appendable, final String s) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            switch (c) {
+            case '&':
+                appendable.append("&amp;");
+                break;
+            case '<':
+                appendable.append("&lt;");
+                break;
+            case '>':
+                appendable.append("&gt;");
+                break;
+            case '"':
+                appendable.append("&quot;");
+                break;
+            case '\'':
+                appendable.append("&#39;");
+                break;
+            default:
+                appendable.append(c);
+                break;
+            }
+        }
+    }
+}
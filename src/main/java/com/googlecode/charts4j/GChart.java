@@ -25,12 +25,22 @@
 
 package com.googlecode.charts4j;
 
+import java.io.IOException;
 import java.util.Map;
 
 /**
  * Top level interface for all charts. Herein is functionality common to all
  * charts.
  *
+ * <p>
+ * Charts are not thread-safe while they are being configured. Once a chart is
+ * fully configured and safely published, however, the methods that render it
+ * ({@link #toURLString()}, {@link #toURLForHTML()}, {@link #getParameters()}
+ * {@link #writeURL(Appendable)} and {@link #writeFormBody(Appendable)}) may
+ * be called from many threads at once
+ * without external locking.
+ * </p>
+ *
  * @author Julien Chastang (julien.c.chastang at gmail dot com)
  */
 public interface GChart {
@@ -85,6 +95,57 @@ public interface GChart {
      */
     String toURLForHTML();
 
+    /**
+     * Write the URL string given the information supplied to this chart to
+     * the appendable. This produces the same URL as {@link #toURLString()},
+     * but streams it straight into a caller supplied buffer or writer (e.g. a
+     * {@link StringBuilder} or a servlet {@link java.io.Writer}) without
+     * building intermediate strings.
+     *
+     * @param appendable
+     *            the appendable to write the URL to. Cannot be null.
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    void writeURL(final Appendable appendable) throws IOException;
+
+    /**
+     * Write the parameters of this chart to the appendable as an
+     * <code>application/x-www-form-urlencoded</code> body, suitable for a POST
+     * request to the chart URL endpoint. The body is the query string of
+     * {@link #toURLString()}, without the endpoint and the <code>?</code>.
+     *
+     * @param appendable
+     *            the appendable to write the body to. Cannot be null.
+     * @throws IOException
+     *             if the appendable cannot be written to
+     * @see <a href="http://code.google.com/apis/chart/docs/post_requests.html">POST Requests</a>
+     */
+    void writeFormBody(final Appendable appendable) throws IOException;
+
+    /**
+     * Get the length of the body written by
+     * {@link #writeFormBody(Appendable)}, which is also its length in bytes
+     * since the body is ASCII. This can be sent as the Content-Length of a
+     * POST request before the body is streamed. The body is not built in
+     * memory to compute its length.
+     *
+     * @return the form body length
+     */
+    long getFormBodyLength();
+
+    /**
+     * The URL string and parameters are cached until the chart is modified, so
+     * repeated calls to {@link #toURLString()}, {@link #toURLForHTML()},
+     * {@link #getParameters()} and {@link #writeURL(Appendable)} on an
+     * unchanged chart do not rebuild them. This returns the number of calls
+     * answered from the cache, which is useful to monitor the effectiveness of
+     * the cache.
+     *
+     * @return the number of cache hits
+     */
+    long getCacheHitCount();
+
     /**
      * Specify background fill.
      *
@@ -110,11 +171,12 @@ public interface GChart {
      * scheme is it will ultimately result in shorter URLs, but at the cost of
      * lower resolution. charts4j defaults to the extended encoding, but if
      * you have lots of data and if you are willing to sacrifice resolution, the
-     * simple encoding may be right for you.
+     * simple encoding may be right for you. {@link DataEncoding#AUTO} picks the
+     * simple encoding when it loses no visible precision at the chart size.
      *
      * @param dataEncoding
-     *            Supply the data encoding, either simple or extended. Cannot be
-     *            null.
+     *            Supply the data encoding, either simple, extended, text or
+     *            auto. Cannot be null.
      */
     void setDataEncoding(final DataEncoding dataEncoding);
 
@@ -152,4 +214,14 @@ public interface GChart {
      * @see <a href="http://www.jfree.org/eastwood/">JFreeChart Eastwood Servlet</a>
      */
    public void setURLEndpoint(final String urlEndpoint);
+
+    /**
+     * Get the URL endpoint of the chart. This is the address that chart URLs
+     * point to and that POST requests are sent to.
+     *
+     * @return the chart url endpoint
+     *
+     * @see #setURLEndpoint(String)
+     */
+    String getURLEndpoint();
 }
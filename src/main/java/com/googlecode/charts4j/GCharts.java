@@ -29,8 +29,11 @@ import static com.googlecode.charts4j.Color.*;
 import static com.googlecode.charts4j.collect.Preconditions.*;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
+import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 
 /**
@@ -448,4 +451,130 @@ public final class GCharts {
         mapChart.setColorGradient(WHITE, BEIGE, FORESTGREEN);
         return mapChart;
     }
+
+    /**
+     * Compile a {@link LineChart} into a {@link ChartTemplate}. The template
+     * renders the chart with new data, one data series per line.
+     *
+     * @param chart
+     *            The configured line chart. Cannot be null.
+     * @return a chart template
+     *
+     * @see ChartTemplate
+     */
+    public static ChartTemplate newChartTemplate(final LineChart chart) {
+        checkNotNull(chart, "chart cannot be null");
+        return chart.compileTemplate();
+    }
+
+    /**
+     * Compile a {@link BarChart} into a {@link ChartTemplate}. The template
+     * renders the chart with new data, one data series per bar chart plot.
+     * Plots with individually colored bars must be bound to data with the
+     * same number of bars. Plots colored by a colormap are not supported,
+     * since their colors are computed from the data.
+     *
+     * @param chart
+     *            The configured bar chart. Cannot be null, and cannot have a
+     *            plot colored with {@link BarChartPlot#setColors(Colormap)}.
+     * @return a chart template
+     *
+     * @see ChartTemplate
+     */
+    public static ChartTemplate newChartTemplate(final BarChart chart) {
+        checkNotNull(chart, "chart cannot be null");
+        return chart.compileTemplate();
+    }
+
+    /**
+     * Compile an {@link XYLineChart} into a {@link ChartTemplate}. The
+     * template renders the chart with new data, an x and a y data series per
+     * XY line.
+     *
+     * @param chart
+     *            The configured XY line chart. Cannot be null.
+     * @return a chart template
+     *
+     * @see ChartTemplate
+     */
+    public static ChartTemplate newChartTemplate(final XYLineChart chart) {
+        checkNotNull(chart, "chart cannot be null");
+        return chart.compileTemplate();
+    }
+
+    /**
+     * Render a {@link LineChart} with a URL no longer than the given budget.
+     * If the full URL is too long, the lines are downsampled, keeping the
+     * minimum and maximum of each stretch of points, until the URL fits. The
+     * chart itself is not modified.
+     *
+     * @param chart
+     *            The line chart to render. Cannot be null.
+     * @param maxURLLength
+     *            The maximum URL length. Must be &gt; 0.
+     * @return the URL with a report of the downsampling
+     *
+     * @see BudgetedURL
+     */
+    public static BudgetedURL renderWithinBudget(final LineChart chart, final int maxURLLength) {
+        checkNotNull(chart, "chart cannot be null");
+        checkArgument(maxURLLength > 0, "maxURLLength must be > 0: %s", maxURLLength);
+        return BudgetedURL.render(chart.compileTemplate(), chart.getDataSeries(), false, maxURLLength);
+    }
+
+    /**
+     * Render an {@link XYLineChart} with a URL no longer than the given
+     * budget. If the full URL is too long, the XY lines are downsampled,
+     * keeping the points with the minimum and maximum y value of each stretch
+     * of points, until the URL fits. The chart itself is not modified.
+     *
+     * @param chart
+     *            The XY line chart to render. Cannot be null.
+     * @param maxURLLength
+     *            The maximum URL length. Must be &gt; 0.
+     * @return the URL with a report of the downsampling
+     *
+     * @see BudgetedURL
+     */
+    public static BudgetedURL renderWithinBudget(final XYLineChart chart, final int maxURLLength) {
+        checkNotNull(chart, "chart cannot be null");
+        checkArgument(maxURLLength > 0, "maxURLLength must be > 0: %s", maxURLLength);
+        return BudgetedURL.render(chart.compileTemplate(), chart.getDataSeries(), true, maxURLLength);
+    }
+
+    /**
+     * Render a batch of charts, spreading the work over the given executor.
+     * The charts are split into ranges that are rendered as separate tasks,
+     * the last of them on the calling thread.
+     * The results are returned in the iteration order of the collection.
+     * Each chart is rendered independently: if rendering a chart throws a
+     * runtime exception, its result records the exception and the other
+     * charts are still rendered. The charts must not be modified while they
+     * are being rendered.
+     *
+     * @param charts
+     *            The charts to render. Cannot be null or contain a null.
+     * @param executor
+     *            The executor that runs the rendering tasks. Cannot be null.
+     * @return the render results, in the same order as the charts
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             charts to be rendered
+     *
+     * @see RenderResult
+     */
+    public static ImmutableList<RenderResult> renderAll(final Collection<? extends GChart> charts, final Executor executor) throws InterruptedException {
+        checkContentsNotNull(charts, "charts cannot be null or contain a null.");
+        checkNotNull(executor, "executor cannot be null");
+        final GChart[] chartArray = charts.toArray(new GChart[charts.size()]);
+        final RenderResult[] results = new RenderResult[chartArray.length];
+        ParallelRanges.run(chartArray.length, 1, executor, new ParallelRanges.RangeTask() {
+            public void run(final int index, final int from, final int to) {
+                for (int i = from; i < to; i++) {
+                    results[i] = RenderResult.render(chartArray[i]);
+                }
+            }
+        });
+        return Lists.copyOf(Arrays.asList(results));
+    }
 }
@@ -32,6 +32,7 @@ import java.util.List;
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.parameters.ChartType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  *
@@ -76,8 +77,8 @@ public class GoogleOMeter extends AbstractGraphChart {
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
         parameterManager.addData(Data.newData(data));
 
         final List<ImmutableList<Color>> colorList = Lists.newArrayList();
@@ -25,9 +25,17 @@
 
 package com.googlecode.charts4j;
 
+import static com.googlecode.charts4j.collect.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
+import com.googlecode.charts4j.downsampling.Downsampler;
+import com.googlecode.charts4j.downsampling.Downsamplers;
 import com.googlecode.charts4j.parameters.ChartType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Line chart constructed with the {@link GCharts} static factory class.
@@ -45,6 +53,12 @@ public class LineChart extends AbstractLineChart {
     /** Is this a sparkline chart? **/
     private boolean isSparkline = false;
 
+    /** Downsampler applied to the lines when rendering, or null. **/
+    private Downsampler downsampler;
+
+    /** Maximum number of points per line, or 0 for the chart width. **/
+    private int downsampledPoints;
+
     /**
      * @see GCharts#newLineChart(java.util.List)
      */
@@ -63,18 +77,114 @@ public class LineChart extends AbstractLineChart {
      */
     public final void setSparkline(final boolean isSparkline) {
         this.isSparkline = isSparkline;
+        markModified();
+    }
+
+    /**
+     * Downsample every line to the chart width when the chart is rendered,
+     * so no more points are encoded than the chart can show. The lines
+     * themselves are not modified. Lines with markers at specific data
+     * points are not downsampled, since the markers refer to the indices of
+     * the original points.
+     *
+     * @param downsampler
+     *            The downsampler, or null to render all points (the default).
+     *
+     * @see com.googlecode.charts4j.downsampling.Downsamplers
+     */
+    public final void setDownsampler(final Downsampler downsampler) {
+        setDownsampler(downsampler, 0);
+    }
+
+    /**
+     * Downsample every line to at most the given number of points when the
+     * chart is rendered, as {@link #setDownsampler(Downsampler)} does.
+     *
+     * @param downsampler
+     *            The downsampler, or null to render all points (the default).
+     * @param maxPoints
+     *            The maximum number of points per line, or 0 for the chart
+     *            width. Must be &gt;= 0.
+     */
+    public final void setDownsampler(final Downsampler downsampler, final int maxPoints) {
+        checkArgument(maxPoints >= 0, "maxPoints must be >= 0: %s", maxPoints);
+        this.downsampler = downsampler;
+        this.downsampledPoints = maxPoints;
+        markModified();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
+        final int maxPoints = getMaxPoints();
         for (Plot l : lines) {
             final PlotImpl line = (PlotImpl) l;
-            parameterManager.addData(line.getData());
+            if (isDownsampled(line)) {
+                parameterManager.addData(Downsamplers.downsample(downsampler, line.getData(), maxPoints));
+            } else {
+                parameterManager.addData(line.getData());
+            }
         }
         parameterManager.setChartTypeParameter(isSparkline ? ChartType.SPARKLINE_CHART : ChartType.LINE_CHART);
     }
+
+    /**
+     * Get the maximum number of points per downsampled line.
+     *
+     * @return the maximum number of points
+     */
+    private int getMaxPoints() {
+        return downsampledPoints > 0 ? downsampledPoints : getWidth();
+    }
+
+    /**
+     * Is the line downsampled when the chart is rendered?
+     *
+     * @param line
+     *            the line
+     * @return true if the line is downsampled
+     */
+    private boolean isDownsampled(final PlotImpl line) {
+        return downsampler != null && line.getMarkedPointsList().isEmpty();
+    }
+
+    /**
+     * Compile this chart into a template whose data series are bound per URL.
+     * The bound data is downsampled as the lines of this chart are.
+     *
+     * @return the chart template
+     */
+    final ChartTemplate compileTemplate() {
+        final int[] seriesSizes = new int[lines.size()];
+        Arrays.fill(seriesSizes, ChartTemplate.ANY_SIZE);
+        final boolean[] downsampledPlots = new boolean[lines.size()];
+        for (int i = 0; i < downsampledPlots.length; i++) {
+            downsampledPlots[i] = isDownsampled((PlotImpl) lines.get(i));
+        }
+        return new ChartTemplate(render().compileDataTemplate(), seriesSizes, null, downsampler, getMaxPoints(), downsampledPlots);
+    }
+
+    /**
+     * Get the data series of this chart, one per line.
+     *
+     * @return the data series
+     */
+    final ImmutableList<Data> getDataSeries() {
+        final List<Data> series = Lists.newArrayList();
+        for (Plot l : lines) {
+            series.add(((PlotImpl) l).getData());
+        }
+        return Lists.copyOf(series);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getDataResolution(final int width, final int height) {
+        return height;
+    }
 }
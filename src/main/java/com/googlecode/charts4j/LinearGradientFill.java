@@ -43,7 +43,7 @@ import com.googlecode.charts4j.parameters.ColorAndOffset;
 public class LinearGradientFill extends AbstractLinearFill {
 
     /** Colors and offsets list. **/
-    private final List<ColorAndOffset> colorsAndOffsets = Lists.newLinkedList();
+    private final List<ColorAndOffset> colorsAndOffsets = Lists.newArrayList();
 
     /**
      * @see Fills#newLinearGradientFill(int, Color, double)
@@ -42,7 +42,7 @@ import com.googlecode.charts4j.parameters.ColorAndWidth;
 public class LinearStripesFill extends AbstractLinearFill {
 
     /** Color and widths list for this fill. **/
-    private final List<ColorAndWidth> colorsAndWidths = Lists.newLinkedList();
+    private final List<ColorAndWidth> colorsAndWidths = Lists.newArrayList();
 
     /**
      * @see Fills#newLinearStripesFill(int, Color, double)
@@ -32,6 +32,7 @@ import java.util.List;
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.parameters.ChartType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Map chart constructed with the {@link GCharts} static factory class.
@@ -69,10 +70,10 @@ public class MapChart extends AbstractGChart {
     static final int                      DEFAULT_HEIGHT    = 220;
 
     /** The list of US States and countries to render.  **/
-    private final List<PoliticalBoundary> pBoundaries       = Lists.newLinkedList();
+    private final List<PoliticalBoundary> pBoundaries       = Lists.newArrayList();
 
     /** The color gradient to use to render the US State and countries.  **/
-    private final List<Color>             colorGradientList = Lists.newLinkedList();
+    private final List<Color>             colorGradientList = Lists.newArrayList();
 
     /**  The part of the world this map should focus on. **/
     private final GeographicalArea        geographicalArea;
@@ -95,8 +96,8 @@ public class MapChart extends AbstractGChart {
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
         parameterManager.setGeographicalAreaParameter(geographicalArea);
 
         final List<ImmutableList<Color>> colors = Lists.newArrayList();
@@ -112,7 +113,7 @@ public class MapChart extends AbstractGChart {
             countryColors[cnt++] = pb.getColor();
         }
         if (cnt > 0) {
-            parameterManager.addData(Data.newData(countryColors));
+            parameterManager.addData(Data.wrap(countryColors));
         } else {
             parameterManager.addData(Data.INVALID);
         }
@@ -134,6 +135,7 @@ public class MapChart extends AbstractGChart {
         colorGradientList.clear();
         colorGradientList.add(defaultColor);
         colorGradientList.addAll(Lists.of(colorGradient));
+        markModified();
     }
 
     /**
@@ -144,6 +146,7 @@ public class MapChart extends AbstractGChart {
      */
     public final void addPoliticalBoundary(final PoliticalBoundary politicalBoundary) {
         pBoundaries.add(politicalBoundary);
+        markModified();
     }
 
     /**
@@ -155,6 +158,7 @@ public class MapChart extends AbstractGChart {
      */
     public final void addPoliticalBoundaries(final PoliticalBoundary... politicalBoundaries) {
         pBoundaries.addAll(Lists.of(politicalBoundaries));
+        markModified();
     }
 
     /**
@@ -166,6 +170,7 @@ public class MapChart extends AbstractGChart {
      */
     public final void addPoliticalBoundaries(final List<? extends PoliticalBoundary> politicalBoundaries) {
         pBoundaries.addAll(politicalBoundaries);
+        markModified();
     }
 
     /**
@@ -0,0 +1,151 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import com.googlecode.charts4j.collect.Lists;
+
+/**
+ * Splits an index range into contiguous ranges that are processed as separate
+ * tasks on an executor. Used by the parallel scaling, encoding and rendering
+ * methods.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+final class ParallelRanges {
+
+    /**
+     * Upper bound on the number of ranges, so each processor gets a few ranges
+     * to balance the load.
+     */
+    private static final int MAX_RANGES = 4 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Work done on one range.
+     */
+    interface RangeTask {
+
+        /**
+         * Process a range.
+         *
+         * @param index
+         *            index of the range, from 0 to {@link ParallelRanges#count}
+         *            exclusive
+         * @param from
+         *            first index of the range, inclusive
+         * @param to
+         *            last index of the range, exclusive
+         */
+        void run(int index, int from, int to);
+    }
+
+    /**
+     * Constructor must never be called.
+     */
+    private ParallelRanges() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Get the size of the ranges.
+     *
+     * @param length
+     *            the length of the whole range
+     * @param threshold
+     *            the minimum size of a range
+     * @return the size of every range but the last
+     */
+    private static int size(final int length, final int threshold) {
+        return Math.max(threshold, (length + MAX_RANGES - 1) / MAX_RANGES);
+    }
+
+    /**
+     * Get the number of ranges a range is split into.
+     *
+     * @param length
+     *            the length of the whole range
+     * @param threshold
+     *            the minimum size of a range
+     * @return the number of ranges, at least 1
+     */
+    static int count(final int length, final int threshold) {
+        final int size = size(length, threshold);
+        return Math.max(1, (length + size - 1) / size);
+    }
+
+    /**
+     * Split [0, length) into ranges of at least threshold indices and run the
+     * task on each of them. Ranges are run on the executor, except the last,
+     * which is run on the calling thread. A range shorter than the threshold
+     * is run entirely on the calling thread. This method returns when all
+     * ranges are processed.
+     *
+     * @param length
+     *            the length of the whole range
+     * @param threshold
+     *            the minimum size of a range
+     * @param executor
+     *            the executor
+     * @param task
+     *            the task run on every range
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             ranges to be processed
+     */
+    static void run(final int length, final int threshold, final Executor executor, final RangeTask task) throws InterruptedException {
+        final int size = size(length, threshold);
+        final int count = count(length, threshold);
+        final List<FutureTask<Object>> tasks = Lists.newArrayList();
+        for (int i = 0; i < count - 1; i++) {
+            final int index = i;
+            final FutureTask<Object> future = new FutureTask<Object>(new Runnable() {
+                public void run() {
+                    task.run(index, index * size, (index + 1) * size);
+                }
+            }, null);
+            tasks.add(future);
+            executor.execute(future);
+        }
+        task.run(count - 1, (count - 1) * size, length);
+        for (FutureTask<Object> future : tasks) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ package com.googlecode.charts4j;
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.parameters.ChartType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Pie chart constructed with the {@link GCharts} static factory class.
@@ -63,6 +64,7 @@ public class PieChart extends AbstractGraphChart {
      */
     public void setOrientation(final double radians) {
         this.orientation = radians;
+        markModified();
     }
 
     /**
@@ -96,14 +98,15 @@ public class PieChart extends AbstractGraphChart {
      */
     public final void setThreeD(final boolean threeD) {
         this.threeD = threeD;
+        markModified();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
         final double[] d = new double[slices.size()];
         int i = 0;
         boolean hasLegend = false;
@@ -127,7 +130,7 @@ public class PieChart extends AbstractGraphChart {
         if (!Double.isNaN(orientation)) {
             parameterManager.addPieChartOrientation(orientation);
         }
-        parameterManager.addData(Data.newData(d));
+        parameterManager.addData(Data.wrap(d));
         parameterManager.setChartTypeParameter(threeD ? ChartType.THREE_D_PIE_CHART : ChartType.PIE_CHART);
     }
 }
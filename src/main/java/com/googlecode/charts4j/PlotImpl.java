@@ -28,9 +28,11 @@ package com.googlecode.charts4j;
 import static com.googlecode.charts4j.collect.Preconditions.checkArgument;
 import static com.googlecode.charts4j.collect.Preconditions.checkNotNull;
 
+import java.util.Arrays;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.ImmutableList;
+import com.googlecode.charts4j.collect.IntList;
 import com.googlecode.charts4j.collect.Lists;
 
 /**
@@ -49,13 +51,19 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     private final Data               yData;
 
     /** List of marked points for this plot. **/
-    private final List<MarkedPoints> markedPointsList = Lists.newLinkedList();
+    private final List<MarkedPoints> markedPointsList = Lists.newArrayList();
 
     /** List of markers to be added to all point on this plot. **/
-    private final List<Marker> markers = Lists.newLinkedList();
+    private final List<Marker> markers = Lists.newArrayList();
 
-    /** Individual colors for bars in bar chart. **/
-    private final List<BarColor>           barColors = Lists.newLinkedList();
+    /** Indices of individually colored bars in bar chart. **/
+    private final IntList barColorIndices = new IntList(0);
+
+    /** Individual colors for bars in bar chart, in step with the indices. **/
+    private final List<Color> barColors = Lists.newArrayList();
+
+    /** Colormap coloring every bar in bar chart. Could be null. **/
+    private Colormap barColormap;
 
     /** Color of this plot. **/
     private Color                    color;
@@ -81,6 +89,15 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     /** The priority for this plot. **/
     private Priority                 priority;
 
+    /** Whether XY line charts remove duplicate points of this plot. **/
+    private boolean                  duplicatePointsRemoved = true;
+
+    /** This plot purged of duplicate points, computed on first use. **/
+    private volatile PlotImpl        uniquePoints;
+
+    /** Incremented by every modification of this plot. **/
+    private volatile int             modCount;
+
     /**
      * Construct a plot with x and y data.
      *
@@ -107,13 +124,8 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         if (data.getSize() > 1) {
             inc = ((int)Data.MAX_VALUE) * 100 / (data.getSize() - 1);
         }
-        final List<Number> xVals = Lists.newLinkedList();
-        double x = Data.MIN_VALUE;
-        for (int i = (int) Data.MIN_VALUE; i < data.getSize(); i++) {
-            xVals.add(x / 100);
-            x = x + inc;
-        }
-        this.xData = Data.newData(xVals);
+        // Evenly spaced x data, computed only if a chart reads it.
+        this.xData = Data.of(new ProgressionStorage(data.getSize(), inc));
     }
 
     /**
@@ -126,7 +138,9 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         xData = plotImpl.xData;
         yData = plotImpl.yData;
         markedPointsList.addAll(plotImpl.markedPointsList);
+        barColorIndices.addAll(plotImpl.barColorIndices);
         barColors.addAll(plotImpl.barColors);
+        barColormap = plotImpl.barColormap;
         markers.addAll(plotImpl.markers);
         color = plotImpl.color;
         legend = plotImpl.legend;
@@ -136,6 +150,9 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         dataLine = plotImpl.dataLine;
         lineStyle = plotImpl.lineStyle;
         priority = plotImpl.priority;
+        duplicatePointsRemoved = plotImpl.duplicatePointsRemoved;
+        // The data is shared, so the purged data is too.
+        uniquePoints = plotImpl.uniquePoints;
     }
 
     public Plot klone() {
@@ -185,6 +202,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     public void setLegend(final String legend) {
         checkNotNull(legend, "legend cannot be null");
         this.legend = legend;
+        markModified();
     }
 
     /**
@@ -202,15 +220,50 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     public void setColor(final Color color) {
         checkNotNull(color, "color cannot be null");
         this.color = color;
+        markModified();
+    }
+
+    /**
+     * Are individual bars colored in a bar chart?
+     *
+     * @return true if individual bars are colored.
+     */
+    boolean hasBarColors() {
+        return barColormap != null || !barColorIndices.isEmpty();
     }
 
     /**
-     * Get the individually colored bars in a bar chart.
+     * Are the bars colored by a colormap, i.e. by their values?
      *
-     * @return a list of individually colored bars.
+     * @return true if the bars are colored by a colormap.
      */
-    public ImmutableList<BarColor> getBarColors() {
-        return Lists.copyOf(barColors);
+    boolean hasBarColormap() {
+        return barColormap != null;
+    }
+
+    /**
+     * Get the color of every bar in a bar chart.
+     *
+     * @param defaultColor
+     *            color of bars that are neither colored individually nor by a
+     *            colormap
+     * @return an immutable list with the color of every bar.
+     */
+    ImmutableList<Color> getBarColors(final Color defaultColor) {
+        final Color[] colors;
+        if (barColormap != null) {
+            colors = barColormap.mapToColors(yData);
+        } else {
+            colors = new Color[yData.getSize()];
+            Arrays.fill(colors, defaultColor);
+        }
+        for (int i = 0; i < barColorIndices.size(); i++) {
+            final int index = barColorIndices.get(i);
+            if (index < colors.length) {
+                colors[index] = barColors.get(i);
+            }
+        }
+        return Lists.of(colors);
     }
 
     /**
@@ -220,7 +273,18 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         checkNotNull(color, "color cannot be null");
         checkArgument(index >= 0, "index must be >= 0");
         checkArgument(index < yData.getSize(), "index out of bounds");
-        barColors.add(new BarColor(color,index));
+        barColorIndices.add(index);
+        barColors.add(color);
+        markModified();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setColors(final Colormap colormap) {
+        checkNotNull(colormap, "colormap cannot be null");
+        this.barColormap = colormap;
+        markModified();
     }
 
     /**
@@ -238,6 +302,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     public void setFillAreaColor(final Color color) {
         checkNotNull(color, "color cannot be null");
         this.fillAreaColor = color;
+        markModified();
     }
 
     /**
@@ -267,6 +332,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         checkArgument(index >= 0, "index must be >= 0");
         checkArgument(index < yData.getSize(), "index is out of bounds");
         markedPointsList.add(new MarkedPoints(Markers.newShapeMarker(shape, color, size), index));
+        markModified();
     }
 
     /**
@@ -278,6 +344,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         checkArgument(index >= 0, "index must be >= 0");
         checkArgument(index < yData.getSize(), "index is out of bounds");
         markedPointsList.add(new MarkedPoints(Markers.newTextMarker(text, color, size), index));
+        markModified();
     }
 
     /**
@@ -287,6 +354,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         checkNotNull(shape, "shape cannot be null");
         checkNotNull(color, "color cannot be null");
         markers.add(Markers.newShapeMarker(shape, color, size));
+        markModified();
     }
 
     /**
@@ -296,6 +364,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         checkNotNull(marker, "marker cannot be null");
         checkArgument(index >= 0, "index must be >= 0");
         markedPointsList.add(new MarkedPoints(marker, index));
+        markModified();
     }
 
     /**
@@ -304,6 +373,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     public void addMarkers(final Marker marker) {
         checkNotNull(marker, "marker cannot be null");
         markers.add(marker);
+        markModified();
     }
 
     /**
@@ -316,6 +386,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         checkArgument(endIndex > startIndex, "end index must be > start index");
         checkArgument(n > 0, "n must be > 0");
         markedPointsList.add(new MarkedPoints(marker, startIndex, endIndex, n));
+        markModified();
     }
 
     /**
@@ -340,6 +411,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         checkNotNull(priority, "priority cannot be null");
         checkArgument(dataLineSize >= 0, "data line size must be >= 0");
         dataLine = new DataLine(dataLineSize, color, priority);
+        markModified();
     }
 
     /**
@@ -366,6 +438,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     public void setZeroLine(final double zeroLine) {
         checkArgument(zeroLine >= Data.MIN_VALUE && zeroLine <= Data.MAX_VALUE, "Zero line must be between " + Data.MIN_VALUE + " and " + Data.MAX_VALUE);
         this.zeroLine = zeroLine;
+        markModified();
     }
 
     /**
@@ -374,6 +447,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     public void setPriority(final Priority priority) {
         checkNotNull(priority, "priority cannot be null");
         this.priority = priority;
+        markModified();
     }
 
     /**
@@ -382,6 +456,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     public void setLineStyle(final LineStyle lineStyle) {
         checkNotNull(lineStyle, "line style cannot be null");
         this.lineStyle = lineStyle;
+        markModified();
     }
 
     /**
@@ -399,6 +474,7 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
     public void setPointSizes(final Data pointSizes) {
         checkNotNull(pointSizes, "point sizes cannot be null");
         this.pointSizes = pointSizes;
+        markModified();
     }
 
     /**
@@ -410,6 +486,76 @@ final class PlotImpl implements BarChartPlot, Line, RadarPlot, ScatterPlotData,
         return pointSizes;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public void setDuplicatePointsRemoved(final boolean duplicatePointsRemoved) {
+        this.duplicatePointsRemoved = duplicatePointsRemoved;
+        markModified();
+    }
+
+    /**
+     * Whether XY line charts remove duplicate points of this plot.
+     *
+     * @return true if duplicate points are removed
+     */
+    boolean isDuplicatePointsRemoved() {
+        return duplicatePointsRemoved;
+    }
+
+    /**
+     * Record a modification of this plot, so that charts holding it render
+     * it again.
+     */
+    private void markModified() {
+        modCount++;
+    }
+
+    /**
+     * Get the number of modifications of this plot.
+     *
+     * @return the number of modifications of this plot
+     */
+    int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Get the total number of modifications of plots. It grows whenever one
+     * of the plots is modified.
+     *
+     * @param plots
+     *            the plots
+     * @return the total number of modifications
+     */
+    static long getModCount(final List<? extends Plot> plots) {
+        long count = 0;
+        for (Plot plot : plots) {
+            count += ((PlotImpl) plot).getModCount();
+        }
+        return count;
+    }
+
+    /**
+     * Get this plot purged of duplicate points, if it was computed before.
+     *
+     * @return the purged plot, or null
+     */
+    PlotImpl getUniquePoints() {
+        return uniquePoints;
+    }
+
+    /**
+     * Cache this plot purged of duplicate points. The data of a plot cannot
+     * change, so the purged plot stays valid.
+     *
+     * @param uniquePoints
+     *            the purged plot
+     */
+    void setUniquePoints(final PlotImpl uniquePoints) {
+        this.uniquePoints = uniquePoints;
+    }
+
     /**
      * Get the priority for this plot.
      *
@@ -31,6 +31,8 @@ import java.util.List;
 
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
+import com.googlecode.charts4j.downsampling.Downsampler;
+import com.googlecode.charts4j.downsampling.Downsamplers;
 
 /**
  * Static factory class for {@link Plot} hierarchy. The plots can then be
@@ -219,6 +221,28 @@ public final class Plots {
         return line;
     }
 
+    /**
+     * Define a line from downsampled data. This data will be rendered by a
+     * {@link LineChart}. The data is downsampled up front, so markers added
+     * to the line refer to the indices of the kept points. To downsample
+     * every line of a chart to the chart width instead, see
+     * {@link LineChart#setDownsampler(Downsampler)}.
+     *
+     * @param data
+     *            Data for this line. Cannot be null.
+     * @param downsampler
+     *            Downsampler for the data. Cannot be null.
+     * @param maxPoints
+     *            Maximum number of points of the line, e.g. the chart width.
+     *            Must be &gt; 0.
+     * @see Downsamplers
+     * @return line plot
+     */
+    public static Line newLine(final Data data, final Downsampler downsampler, final int maxPoints) {
+        checkNotNull(data, "data cannot be null.");
+        return new PlotImpl(Downsamplers.downsample(downsampler, data, maxPoints));
+    }
+
     /**
      * Define a xy line. This data will be rendered by a {@link XYLineChart}.
      *
@@ -287,6 +311,33 @@ public final class Plots {
         return xyLine;
     }
 
+    /**
+     * Define a xy line from downsampled data. This data will be rendered by a
+     * {@link XYLineChart}. The data is downsampled up front, so markers added
+     * to the line refer to the indices of the kept points. To downsample
+     * every line of a chart to the chart width instead, see
+     * {@link XYLineChart#setDownsampler(Downsampler)}.
+     *
+     * @param xData
+     *            Data for this xy line, preferably increasing. Cannot be null.
+     * @param yData
+     *            Data for this xy line. Cannot be null.
+     * @param downsampler
+     *            Downsampler for the data. Cannot be null.
+     * @param maxPoints
+     *            Maximum number of points of the line, e.g. the chart width.
+     *            Must be &gt; 0.
+     * @see Downsamplers
+     * @return xy line plot
+     */
+    public static XYLine newXYLine(final Data xData, final Data yData, final Downsampler downsampler, final int maxPoints) {
+        final int[] indices = Downsamplers.select(downsampler, xData, yData, maxPoints);
+        if (indices.length == xData.getSize()) {
+            return new PlotImpl(xData, yData);
+        }
+        return new PlotImpl(Downsamplers.keep(xData, indices), Downsamplers.keep(yData, indices));
+    }
+
     /**
      * Define a radar plot. This data will be rendered by a {@link RadarPlot}.
      *
@@ -412,7 +463,7 @@ public final class Plots {
      * @return An a new immutable list of plots.
      */
     static ImmutableList<Plot> copyOf(final List<? extends Plot> plots) {
-        final List<Plot> plotList = Lists.newLinkedList();
+        final List<Plot> plotList = Lists.newArrayList();
         for (Plot p : plots) {
             plotList.add(p.klone());
         }
@@ -28,6 +28,7 @@ package com.googlecode.charts4j;
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.parameters.ChartType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Private radar chart. Not part of API. See RadarChart for public API.
@@ -56,8 +57,8 @@ class PrivateRadarChart extends AbstractLineChart {
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
 
         for (Plot p : plots) {
             final PlotImpl plot = (PlotImpl) p;
@@ -71,5 +72,14 @@ class PrivateRadarChart extends AbstractLineChart {
      */
     void setSpline(final boolean isSpline) {
         this.isSpline = isSpline;
+        markModified();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getDataResolution(final int width, final int height) {
+        return Math.min(width, height) / 2;
     }
 }
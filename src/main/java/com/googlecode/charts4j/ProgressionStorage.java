@@ -0,0 +1,125 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+
+/**
+ * {@link Data} storage for an arithmetic progression, such as the evenly
+ * spaced implicit x data of a line. The values are computed when they are
+ * read, so no array is allocated unless the values are asked for as an array.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+final class ProgressionStorage extends DataStorage {
+
+    /** Divisor applied to the multiples of the step. **/
+    private static final double DIVISOR = 100;
+
+    /** Number of values. **/
+    private final int           size;
+
+    /** Step between the values, multiplied by the divisor. **/
+    private final int           step;
+
+    /**
+     * Progression from zero whose i-th value is i * step / 100. The step is
+     * scaled by 100 so that integer steps give fractional values without
+     * accumulating rounding error.
+     *
+     * @param size
+     *            the number of values
+     * @param step
+     *            the step between the values, multiplied by 100
+     */
+    ProgressionStorage(final int size, final int step) {
+        this.size = size;
+        this.step = step;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double[] toArray() {
+        final double[] data = new double[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = get(i);
+        }
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " is out of range: " + size);
+        }
+        // The product is exact in a double for any int size and step.
+        return ((double) index * step) / DIVISOR;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    DoubleBuffer asReadOnlyBuffer() {
+        return DoubleBuffer.wrap(toArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    double[] backingArray() {
+        return toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void encodeTo(final DataEncoding dataEncoding, final Appendable appendable) throws IOException {
+        final double[] chunk = new double[Math.min(size, DataEncoding.CHUNK_SIZE)];
+        for (int from = 0; from < size; from += chunk.length) {
+            final int length = Math.min(chunk.length, size - from);
+            for (int i = 0; i < length; i++) {
+                chunk[i] = ((double) (from + i) * step) / DIVISOR;
+            }
+            dataEncoding.encodeChunk(chunk, length, from > 0, appendable);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int size() {
+        return size;
+    }
+}
@@ -25,9 +25,11 @@
 
 package com.googlecode.charts4j;
 
+import java.io.IOException;
 import java.util.Map;
 
 import com.googlecode.charts4j.collect.ImmutableList;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Radar chart constructed with the {@link GCharts} static factory class.
@@ -70,6 +72,34 @@ public final class RadarChart implements GChart, GraphChart, TitledChart, GridCh
         return radarChart.toURLString();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public void writeURL(final Appendable appendable) throws IOException {
+        radarChart.writeURL(appendable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void writeFormBody(final Appendable appendable) throws IOException {
+        radarChart.writeFormBody(appendable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getFormBodyLength() {
+        return radarChart.getFormBodyLength();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getCacheHitCount() {
+        return radarChart.getCacheHitCount();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -217,4 +247,20 @@ public final class RadarChart implements GChart, GraphChart, TitledChart, GridCh
     public void setURLEndpoint(final String urlEndpoint) {
         radarChart.setURLEndpoint(urlEndpoint);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getURLEndpoint() {
+        return radarChart.getURLEndpoint();
+    }
+
+    /**
+     * Render the chart into a new parameter manager.
+     *
+     * @return the parameter manager holding the chart parameters
+     */
+    ParameterManager render() {
+        return radarChart.render();
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+/**
+ * The outcome of rendering one chart in a batch. A result either holds the
+ * URL of the chart or the exception that was thrown while rendering it, so
+ * that one bad chart does not fail the whole batch.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see GCharts#renderAll(java.util.Collection, java.util.concurrent.Executor)
+ */
+public final class RenderResult {
+
+    /** The rendered chart. */
+    private final GChart           chart;
+
+    /** The chart URL, or null if rendering failed. */
+    private final String           url;
+
+    /** The exception thrown while rendering, or null if rendering succeeded. */
+    private final RuntimeException exception;
+
+    /**
+     * Create a render result.
+     *
+     * @param chart
+     *            the rendered chart
+     * @param url
+     *            the chart URL, or null if rendering failed
+     * @param exception
+     *            the exception thrown while rendering, or null
+     */
+    private RenderResult(final GChart chart, final String url, final RuntimeException exception) {
+        this.chart = chart;
+        this.url = url;
+        this.exception = exception;
+    }
+
+    /**
+     * Render a chart, capturing any exception thrown while rendering.
+     *
+     * @param chart
+     *            the chart to render
+     * @return the render result
+     */
+    static RenderResult render(final GChart chart) {
+        try {
+            return new RenderResult(chart, chart.toURLString(), null);
+        } catch (RuntimeException e) {
+            return new RenderResult(chart, null, e);
+        }
+    }
+
+    /**
+     * Get the chart that was rendered.
+     *
+     * @return the chart
+     */
+    public GChart getChart() {
+        return chart;
+    }
+
+    /**
+     * Was the chart rendered successfully?
+     *
+     * @return true if the chart was rendered
+     */
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    /**
+     * Get the chart URL.
+     *
+     * @return the chart URL, or null if rendering failed
+     *
+     * @see GChart#toURLString()
+     */
+    public String getURL() {
+        return url;
+    }
+
+    /**
+     * Get the exception thrown while rendering the chart.
+     *
+     * @return the exception, or null if the chart was rendered successfully
+     */
+    public RuntimeException getException() {
+        return exception;
+    }
+}
@@ -28,6 +28,7 @@ package com.googlecode.charts4j;
 import java.util.List;
 
 import com.googlecode.charts4j.parameters.ChartType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Scatter plot constructed with the {@link GCharts} static factory class.
@@ -54,8 +55,16 @@ public class ScatterPlot extends AbstractMarkableChart {
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    final long getContentVersion() {
+        return ((PlotImpl) sPlotData).getModCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
         final PlotImpl scatterPlotData = (PlotImpl) sPlotData;
         parameterManager.addData(scatterPlotData.getXData());
         parameterManager.addData(scatterPlotData.getYData());
@@ -82,4 +91,12 @@ public class ScatterPlot extends AbstractMarkableChart {
         }
         parameterManager.setChartTypeParameter(ChartType.SCATTER_CHART);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getDataResolution(final int width, final int height) {
+        return Math.max(width, height);
+    }
 }
@@ -50,7 +50,9 @@ public final class UrlUtil {
     /**
      * A method that reformats the URL so that the parameters appear in
      * alphabetical order. This is useful for comparing URL strings in unit
-     * tests, for instance.
+     * tests, for instance. URLs generated by charts4j are already in this
+     * order, so normalizing them is a no-op; this method remains useful for
+     * URLs from other sources.
      *
      * @param s
      *            String to be normalized
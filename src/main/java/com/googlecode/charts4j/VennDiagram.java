@@ -33,6 +33,7 @@ import java.util.List;
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.parameters.ChartType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * Venn diagram constructed with the
@@ -97,6 +98,7 @@ public class VennDiagram extends AbstractGraphChart {
         this.circle1Color = circle1Color;
         this.circle2Color = circle2Color;
         this.circle3Color = circle3Color;
+        markModified();
     }
 
     /**
@@ -116,14 +118,15 @@ public class VennDiagram extends AbstractGraphChart {
         this.circle1Legend = circle1Legend;
         this.circle2Legend = circle2Legend;
         this.circle3Legend = circle3Legend;
+        markModified();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
         if (circle1Color != null && circle2Color != null && circle3Color != null) {
 
             final List<ImmutableList<Color>> colors = Lists.newArrayList();
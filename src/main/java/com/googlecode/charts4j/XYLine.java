@@ -36,4 +36,15 @@ package com.googlecode.charts4j;
  * @see XYLineChart
  */
 public interface XYLine extends LinePlot {
+
+    /**
+     * Set whether the {@link XYLineChart} removes repeated points of this
+     * line before encoding it. Removing them is the default. Lines known to
+     * have no repeated points, or whose repeated points are intended (e.g. a
+     * path that comes back on itself), can opt out.
+     *
+     * @param duplicatePointsRemoved
+     *            Defaults to true.
+     */
+    void setDuplicatePointsRemoved(boolean duplicatePointsRemoved);
 }
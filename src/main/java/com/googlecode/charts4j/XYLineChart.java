@@ -25,12 +25,17 @@
 
 package com.googlecode.charts4j;
 
-import java.util.Set;
+import static com.googlecode.charts4j.collect.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
 
 import com.googlecode.charts4j.collect.ImmutableList;
 import com.googlecode.charts4j.collect.Lists;
-import com.googlecode.charts4j.collect.Sets;
+import com.googlecode.charts4j.downsampling.Downsampler;
+import com.googlecode.charts4j.downsampling.Downsamplers;
 import com.googlecode.charts4j.parameters.ChartType;
+import com.googlecode.charts4j.parameters.ParameterManager;
 
 /**
  * XY Line chart constructed with the {@link GCharts} static factory class.
@@ -45,6 +50,12 @@ public class XYLineChart extends AbstractLineChart {
     /** List of lines to be ploted this chart. **/
     private final ImmutableList<Plot> xylines;
 
+    /** Downsampler applied to the lines when rendering, or null. **/
+    private Downsampler downsampler;
+
+    /** Maximum number of points per line, or 0 for the chart width. **/
+    private int downsampledPoints;
+
     /**
      * Create a XY line chart.
      *
@@ -57,103 +68,238 @@ public class XYLineChart extends AbstractLineChart {
         this.xylines = Lists.copyOf(xylines);
     }
 
+    /**
+     * Downsample every XY line to the chart width when the chart is
+     * rendered, so no more points are encoded than the chart can show. The
+     * lines themselves are not modified. Downsamplers work best on lines
+     * whose x data is increasing. Lines with markers at specific data points
+     * are not downsampled, since the markers refer to the indices of the
+     * original points.
+     *
+     * @param downsampler
+     *            The downsampler, or null to render all points (the default).
+     *
+     * @see com.googlecode.charts4j.downsampling.Downsamplers
+     */
+    public final void setDownsampler(final Downsampler downsampler) {
+        setDownsampler(downsampler, 0);
+    }
+
+    /**
+     * Downsample every XY line to at most the given number of points when
+     * the chart is rendered, as {@link #setDownsampler(Downsampler)} does.
+     *
+     * @param downsampler
+     *            The downsampler, or null to render all points (the default).
+     * @param maxPoints
+     *            The maximum number of points per line, or 0 for the chart
+     *            width. Must be &gt;= 0.
+     */
+    public final void setDownsampler(final Downsampler downsampler, final int maxPoints) {
+        checkArgument(maxPoints >= 0, "maxPoints must be >= 0: %s", maxPoints);
+        this.downsampler = downsampler;
+        this.downsampledPoints = maxPoints;
+        markModified();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void prepareData() {
-        super.prepareData();
+    protected void prepareData(final ParameterManager parameterManager) {
+        super.prepareData(parameterManager);
+        final int maxPoints = getMaxPoints();
         for (Plot xyl : xylines) {
             final PlotImpl xyline = (PlotImpl) xyl;
             final PlotImpl xy = removeDuplicatePoints(xyline);
-            parameterManager.addData(xy.getXData());
-            parameterManager.addData(xy.getYData());
+            if (isDownsampled(xyline) && xy.getXData().getSize() > maxPoints) {
+                final int[] indices = Downsamplers.select(downsampler, xy.getXData(), xy.getYData(), maxPoints);
+                parameterManager.addData(Downsamplers.keep(xy.getXData(), indices));
+                parameterManager.addData(Downsamplers.keep(xy.getYData(), indices));
+            } else {
+                parameterManager.addData(xy.getXData());
+                parameterManager.addData(xy.getYData());
+            }
         }
         parameterManager.setChartTypeParameter(ChartType.XY_LINE_CHART);
     }
 
     /**
-     * Method that purges duplicate points.
+     * Get the maximum number of points per downsampled line.
+     *
+     * @return the maximum number of points
+     */
+    private int getMaxPoints() {
+        return downsampledPoints > 0 ? downsampledPoints : getWidth();
+    }
+
+    /**
+     * Is the XY line downsampled when the chart is rendered?
      *
      * @param xyline
-     *            plot that will be purged of duplicate lines.
-     * @return plot purged of duplicates
+     *            the XY line
+     * @return true if the XY line is downsampled
      */
-    private PlotImpl removeDuplicatePoints(final PlotImpl xyline) {
-        final double[] xData = xyline.getXData().getData();
-        final double[] yData = xyline.getYData().getData();
+    private boolean isDownsampled(final PlotImpl xyline) {
+        return downsampler != null && xyline.getMarkedPointsList().isEmpty();
+    }
 
-        if (xData.length != yData.length) {
-            return xyline;
+    /**
+     * Compile this chart into a template whose data series are bound per URL.
+     * The bound data is purged and downsampled as the XY lines of this chart
+     * are.
+     *
+     * @return the chart template
+     */
+    final ChartTemplate compileTemplate() {
+        final int[] seriesSizes = new int[2 * xylines.size()];
+        Arrays.fill(seriesSizes, ChartTemplate.ANY_SIZE);
+        final boolean[] purgedPairs = new boolean[xylines.size()];
+        final boolean[] downsampledPlots = new boolean[xylines.size()];
+        for (int i = 0; i < purgedPairs.length; i++) {
+            final PlotImpl xyline = (PlotImpl) xylines.get(i);
+            purgedPairs[i] = xyline.isDuplicatePointsRemoved();
+            downsampledPlots[i] = isDownsampled(xyline);
         }
+        return new ChartTemplate(render().compileDataTemplate(), seriesSizes, purgedPairs, downsampler, getMaxPoints(), downsampledPlots);
+    }
 
-        // Removing duplicates. Can assume xData and yData are the same length.
-        final Set<XYPoint> set = Sets.newLinkedHashSet();
-        for (int i = 0; i < xData.length; i++) {
-            set.add(new XYPoint(xData[i], yData[i]));
+    /**
+     * Get the data series of this chart, the x and then the y data of each
+     * XY line.
+     *
+     * @return the data series
+     */
+    final ImmutableList<Data> getDataSeries() {
+        final List<Data> series = Lists.newArrayList();
+        for (Plot xyl : xylines) {
+            final PlotImpl xyline = (PlotImpl) xyl;
+            series.add(xyline.getXData());
+            series.add(xyline.getYData());
         }
+        return Lists.copyOf(series);
+    }
 
-        final double[] x = new double[set.size()];
-        final double[] y = new double[set.size()];
-
-        int i = 0;
-        for (XYPoint point : set) {
-            x[i] = point.x;
-            y[i] = point.y;
-            i++;
+    /**
+     * Method that purges duplicate points, keeping the first occurrence of
+     * each point in order. The purged plot is cached on the plot, since its
+     * data cannot change. Plots that opted out are returned as is.
+     *
+     * @param xyline
+     *            plot that will be purged of duplicate lines.
+     * @return plot purged of duplicates
+     */
+    static PlotImpl removeDuplicatePoints(final PlotImpl xyline) {
+        if (!xyline.isDuplicatePointsRemoved()) {
+            return xyline;
         }
-        return new PlotImpl(Data.newData(x), Data.newData(y));
+        PlotImpl unique = xyline.getUniquePoints();
+        if (unique == null) {
+            unique = purge(xyline);
+            xyline.setUniquePoints(unique);
+        }
+        return unique;
     }
 
     /**
-     * XY point.
+     * Purge a plot of duplicate points.
      *
-     * @author Julien Chastang (julien.c.chastang at gmail dot com)
+     * @param xyline
+     *            plot that will be purged of duplicate lines.
+     * @return plot purged of duplicates, or the plot itself if it has none
      */
-    private static final class XYPoint {
-        /** X.  **/
-        private final double x;
-
-        /** Y.  **/
-        private final double y;
-
-        /**
-         * Construct an XY point.
-         *
-         * @param x x
-         * @param y y
-         */
-        private XYPoint(final double x, final double y) {
-            super();
-            this.x = x;
-            this.y = y;
+    private static PlotImpl purge(final PlotImpl xyline) {
+        // Walk the data in place, since it may be held in a buffer.
+        final Data xData = xyline.getXData();
+        final Data yData = xyline.getYData();
+
+        if (xData.getSize() != yData.getSize() || isStrictlyMonotonic(xData)) {
+            return xyline;
         }
 
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean equals(final Object obj) {
-            if (this == obj) {
-                return true;
+        // Open addressing hash set of point indices, 0 marking an empty slot.
+        // Can assume xData and yData are the same length.
+        final int n = xData.getSize();
+        final int[] table = new int[Integer.highestOneBit(Math.max(1, n) * 2 - 1) << 1];
+        final int mask = table.length - 1;
+        boolean[] duplicates = null;
+        int count = n;
+        for (int i = 0; i < n; i++) {
+            final double xValue = xData.get(i);
+            final double yValue = yData.get(i);
+            // NaN is never equal to itself, so points with a NaN are gaps that are always kept.
+            if (Double.isNaN(xValue) || Double.isNaN(yValue)) {
+                continue;
             }
-            if (!(obj instanceof XYPoint)) {
-                return false;
+            final long xBits = Double.doubleToLongBits(xValue);
+            final long yBits = Double.doubleToLongBits(yValue);
+            long hash = xBits * 31 + yBits;
+            hash ^= hash >>> 32;
+            int slot = (int) (hash ^ (hash >>> 16)) & mask;
+            while (true) {
+                final int j = table[slot] - 1;
+                if (j < 0) {
+                    table[slot] = i + 1;
+                    break;
+                }
+                if (Double.doubleToLongBits(xData.get(j)) == xBits && Double.doubleToLongBits(yData.get(j)) == yBits) {
+                    if (duplicates == null) {
+                        duplicates = new boolean[n];
+                    }
+                    duplicates[i] = true;
+                    count--;
+                    break;
+                }
+                slot = (slot + 1) & mask;
             }
-            final XYPoint objA = (XYPoint) obj;
-            return (this.x == objA.x) && (this.y == objA.y);
+        }
+        if (duplicates == null) {
+            return xyline;
         }
 
-        /**
-         *
-         * {@inheritDoc}
-         */
-        @Override
-        public int hashCode() {
-            int hash = 1;
-            hash = hash * 31 + Double.valueOf(x).hashCode();
-            hash = hash * 31 + Double.valueOf(y).hashCode();
-            return hash;
+        final double[] x = new double[count];
+        final double[] y = new double[count];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (!duplicates[i]) {
+                x[k] = xData.get(i);
+                y[k] = yData.get(i);
+                k++;
+            }
+        }
+        return new PlotImpl(Data.wrap(x), Data.wrap(y));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int getDataResolution(final int width, final int height) {
+        return Math.max(width, height);
+    }
+
+    /**
+     * Whether the values are strictly increasing or strictly decreasing, in
+     * which case no two points can be the same. Time series usually are.
+     *
+     * @param values
+     *            the values
+     * @return true if the values are strictly monotonic
+     */
+    private static boolean isStrictlyMonotonic(final Data values) {
+        final int n = values.getSize();
+        if (n < 2) {
+            return true;
+        }
+        double previous = values.get(0);
+        final boolean increasing = values.get(1) > previous;
+        for (int i = 1; i < n; i++) {
+            final double value = values.get(i);
+            if (increasing ? !(value > previous) : !(value < previous)) {
+                return false;
+            }
+            previous = value;
         }
+        return true;
     }
 }
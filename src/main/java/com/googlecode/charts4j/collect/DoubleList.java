@@ -0,0 +1,232 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.collect;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+/**
+ * Growable list of double primitives. Unlike a <code>List&lt;Double&gt;</code>,
+ * values are kept in a single <code>double[]</code> and are never boxed.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public final class DoubleList {
+
+    /** Capacity of a list constructed without one. **/
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** The values. Only the first {@link #size} are in the list. **/
+    private double[]            values;
+
+    /** Number of values in the list. **/
+    private int              size;
+
+    /**
+     * Construct an empty list.
+     */
+    public DoubleList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct an empty list.
+     *
+     * @param initialCapacity
+     *            number of values the list can hold before growing. Must be
+     *            &gt;= 0.
+     */
+    public DoubleList(final int initialCapacity) {
+        checkArgument(initialCapacity >= 0, "initialCapacity must be >= 0: %s", initialCapacity);
+        this.values = new double[initialCapacity];
+    }
+
+    /**
+     * Construct a list containing the values of another list.
+     *
+     * @param list
+     *            list to copy. Cannot be null.
+     */
+    public DoubleList(final DoubleList list) {
+        checkNotNull(list, "list cannot be null");
+        this.values = list.toArray();
+        this.size = values.length;
+    }
+
+    /**
+     * Add a value to the end of the list.
+     *
+     * @param value
+     *            the value
+     */
+    public void add(final double value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Add values to the end of the list.
+     *
+     * @param values
+     *            the values. Cannot be null.
+     */
+    public void addAll(final double... values) {
+        checkNotNull(values, "values cannot be null");
+        addAll(values, values.length);
+    }
+
+    /**
+     * Add the values of another list to the end of this list.
+     *
+     * @param list
+     *            the list. Cannot be null.
+     */
+    public void addAll(final DoubleList list) {
+        checkNotNull(list, "list cannot be null");
+        addAll(list.values, list.size);
+    }
+
+    /**
+     * Add the first values of an array to the end of the list.
+     *
+     * @param array
+     *            the array
+     * @param length
+     *            number of values to add
+     */
+    private void addAll(final double[] array, final int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(array, 0, values, size, length);
+        size += length;
+    }
+
+    /**
+     * Get a value.
+     *
+     * @param index
+     *            index of the value
+     * @return the value
+     */
+    public double get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Get the number of values in the list.
+     *
+     * @return the number of values in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Is the list empty?
+     *
+     * @return true if the list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all values from the list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Get the smallest value. NaN values are ignored unless all values are
+     * NaN.
+     *
+     * @return the smallest value
+     */
+    public double min() {
+        checkState(size > 0, "list is empty");
+        double min = Double.NaN;
+        for (int i = 0; i < size; i++) {
+            if (min != min || values[i] < min) {
+                min = values[i];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Get the largest value. NaN values are ignored unless all values are NaN.
+     *
+     * @return the largest value
+     */
+    public double max() {
+        checkState(size > 0, "list is empty");
+        double max = Double.NaN;
+        for (int i = 0; i < size; i++) {
+            if (max != max || values[i] > max) {
+                max = values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Copy the values of the list.
+     *
+     * @return a new array of the values
+     */
+    public double[] toArray() {
+        final double[] array = new double[size];
+        System.arraycopy(values, 0, array, 0, size);
+        return array;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(size * 4 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            sb.append(i > 0 ? ", " : "").append(values[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Grow the array so that it holds at least a number of values.
+     *
+     * @param capacity
+     *            the number of values
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            final double[] grown = new double[Math.max(capacity, values.length * 3 / 2 + 1)];
+            System.arraycopy(values, 0, grown, 0, size);
+            values = grown;
+        }
+    }
+}
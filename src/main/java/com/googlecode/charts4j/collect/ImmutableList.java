@@ -25,137 +25,197 @@
 
 package com.googlecode.charts4j.collect;
 
+import java.util.AbstractList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
-import java.util.ListIterator;
 import java.util.RandomAccess;
 
 /**
- * Immutable list wrapper class. It is a shallow notion of immutability. It may
- * not be perfect, it is only for charts4j internal purposes anyway.
+ * Immutable list backed by an array that no one else can modify. Copying an
+ * immutable list with {@link Lists#copyOf(java.util.List)} and taking a
+ * sub list share the array instead of copying it. It is a shallow notion of
+ * immutability: the elements themselves may be mutable.
  *
  * @author Julien Chastang (julien.c.chastang at gmail dot com)
  *
  * @param <E>
  *            Type parameter of list elements.
  */
-public final class ImmutableList<E> implements List<E>, RandomAccess {
+public final class ImmutableList<E> extends AbstractList<E> implements RandomAccess {
 
-    /** List. **/
-    private final List<E> list;
+    /** The empty list. **/
+    private static final ImmutableList<Object> EMPTY = new ImmutableList<Object>(new Object[0], 0, 0);
+
+    /** Elements, shared between lists. Never modified. **/
+    private final Object[] elements;
+
+    /** Index in the elements of the first element of this list. **/
+    private final int      offset;
+
+    /** Size of this list. **/
+    private final int      size;
 
     /**
-     * Construct an immutable list with the provided list.
+     * Construct an immutable list over a range of an array.
      *
-     * @param list list to wrap in this immutable list.
+     * @param elements
+     *            the elements. The caller must not keep a reference to the
+     *            array unless it is another immutable list's.
+     * @param offset
+     *            index of the first element
+     * @param size
+     *            number of elements
      */
-    ImmutableList(final List<? extends E> list) {
-        this.list = Collections.unmodifiableList(list);
+    ImmutableList(final Object[] elements, final int offset, final int size) {
+        super();
+        this.elements = elements;
+        this.offset = offset;
+        this.size = size;
     }
 
     /**
-     * {@inheritDoc}
+     * Get the empty list.
+     *
+     * @param <E>
+     *            Type parameter of list elements.
+     * @return the empty list
      */
-    public Iterator<E> iterator() {
-        return list.iterator();
+    @SuppressWarnings("unchecked")
+    static <E> ImmutableList<E> empty() {
+        return (ImmutableList<E>) EMPTY;
     }
 
     /**
      * {@inheritDoc}
      */
-    public boolean isEmpty() {
-        return list.isEmpty();
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) elements[offset + index];
     }
 
     /**
      * {@inheritDoc}
      */
-    public boolean add(final E o) {
-        throw new UnsupportedOperationException();
+    @Override
+    public int size() {
+        return size;
     }
 
     /**
      * {@inheritDoc}
      */
-    public void add(final int index, final E element) {
-        throw new UnsupportedOperationException();
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
     }
 
     /**
      * {@inheritDoc}
      */
-    public boolean addAll(final Collection<? extends E> c) {
-        throw new UnsupportedOperationException();
+    @Override
+    public int indexOf(final Object o) {
+        for (int i = 0; i < size; i++) {
+            final Object e = elements[offset + i];
+            if (o == null ? e == null : o.equals(e)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
      * {@inheritDoc}
      */
-    public boolean addAll(final int index, final Collection<? extends E> c) {
-        throw new UnsupportedOperationException();
+    @Override
+    public int lastIndexOf(final Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            final Object e = elements[offset + i];
+            if (o == null ? e == null : o.equals(e)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
      * {@inheritDoc}
      */
-    public void clear() {
-        throw new UnsupportedOperationException();
+    @Override
+    public boolean contains(final Object o) {
+        return indexOf(o) >= 0;
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} The sub list shares the elements of this list.
      */
-    public boolean contains(final Object o) {
-        return list.contains(o);
+    @Override
+    public ImmutableList<E> subList(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        }
+        if (fromIndex == 0 && toIndex == size) {
+            return this;
+        }
+        return new ImmutableList<E>(elements, offset + fromIndex, toIndex - fromIndex);
     }
 
     /**
      * {@inheritDoc}
      */
-    public boolean containsAll(final Collection<?> c) {
-        return list.containsAll(c);
+    @Override
+    public Object[] toArray() {
+        final Object[] array = new Object[size];
+        System.arraycopy(elements, offset, array, 0, size);
+        return array;
     }
 
     /**
      * {@inheritDoc}
      */
-    public E get(final int index) {
-        return list.get(index);
+    @Override
+    public boolean add(final E o) {
+        throw new UnsupportedOperationException();
     }
 
     /**
      * {@inheritDoc}
      */
-    public int indexOf(final Object o) {
-        return list.indexOf(o);
+    @Override
+    public void add(final int index, final E element) {
+        throw new UnsupportedOperationException();
     }
 
     /**
      * {@inheritDoc}
      */
-    public int lastIndexOf(final Object o) {
-        return list.lastIndexOf(o);
+    @Override
+    public boolean addAll(final Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
     }
 
     /**
      * {@inheritDoc}
      */
-    public ListIterator<E> listIterator() {
-        return list.listIterator();
+    @Override
+    public boolean addAll(final int index, final Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
     }
 
     /**
      * {@inheritDoc}
      */
-    public ListIterator<E> listIterator(final int index) {
-        return list.listIterator(index);
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
     }
 
     /**
      * {@inheritDoc}
      */
+    @Override
     public boolean remove(final Object o) {
         throw new UnsupportedOperationException();
     }
@@ -163,6 +223,7 @@ public final class ImmutableList<E> implements List<E>, RandomAccess {
     /**
      * {@inheritDoc}
      */
+    @Override
     public E remove(final int index) {
         throw new UnsupportedOperationException();
     }
@@ -170,6 +231,7 @@ public final class ImmutableList<E> implements List<E>, RandomAccess {
     /**
      * {@inheritDoc}
      */
+    @Override
     public boolean removeAll(final Collection<?> c) {
         throw new UnsupportedOperationException();
     }
@@ -177,6 +239,7 @@ public final class ImmutableList<E> implements List<E>, RandomAccess {
     /**
      * {@inheritDoc}
      */
+    @Override
     public boolean retainAll(final Collection<?> c) {
         throw new UnsupportedOperationException();
     }
@@ -184,35 +247,8 @@ public final class ImmutableList<E> implements List<E>, RandomAccess {
     /**
      * {@inheritDoc}
      */
+    @Override
     public E set(final int index, final E element) {
         throw new UnsupportedOperationException();
     }
-
-    /**
-     * {@inheritDoc}
-     */
-    public int size() {
-        return list.size();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    public List<E> subList(final int fromIndex, final int toIndex) {
-        return list.subList(fromIndex, toIndex);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    public Object[] toArray() {
-        return list.toArray();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    public <T> T[] toArray(final T[] a) {
-        return list.toArray(a);
-    }
 }
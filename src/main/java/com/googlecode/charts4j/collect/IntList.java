@@ -0,0 +1,215 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.collect;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+/**
+ * Growable list of int primitives. Unlike a <code>List&lt;Integer&gt;</code>,
+ * values are kept in a single <code>int[]</code> and are never boxed.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public final class IntList {
+
+    /** Capacity of a list constructed without one. **/
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** The values. Only the first {@link #size} are in the list. **/
+    private int[]            values;
+
+    /** Number of values in the list. **/
+    private int              size;
+
+    /**
+     * Construct an empty list.
+     */
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct an empty list.
+     *
+     * @param initialCapacity
+     *            number of values the list can hold before growing. Must be
+     *            &gt;= 0.
+     */
+    public IntList(final int initialCapacity) {
+        checkArgument(initialCapacity >= 0, "initialCapacity must be >= 0: %s", initialCapacity);
+        this.values = new int[initialCapacity];
+    }
+
+    /**
+     * Construct a list containing the values of another list.
+     *
+     * @param list
+     *            list to copy. Cannot be null.
+     */
+    public IntList(final IntList list) {
+        checkNotNull(list, "list cannot be null");
+        this.values = list.toArray();
+        this.size = values.length;
+    }
+
+    /**
+     * Add a value to the end of the list.
+     *
+     * @param value
+     *            the value
+     */
+    public void add(final int value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Add values to the end of the list.
+     *
+     * @param values
+     *            the values. Cannot be null.
+     */
+    public void addAll(final int... values) {
+        checkNotNull(values, "values cannot be null");
+        addAll(values, values.length);
+    }
+
+    /**
+     * Add the values of another list to the end of this list.
+     *
+     * @param list
+     *            the list. Cannot be null.
+     */
+    public void addAll(final IntList list) {
+        checkNotNull(list, "list cannot be null");
+        addAll(list.values, list.size);
+    }
+
+    /**
+     * Add the first values of an array to the end of the list.
+     *
+     * @param array
+     *            the array
+     * @param length
+     *            number of values to add
+     */
+    private void addAll(final int[] array, final int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(array, 0, values, size, length);
+        size += length;
+    }
+
+    /**
+     * Get a value.
+     *
+     * @param index
+     *            index of the value
+     * @return the value
+     */
+    public int get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Get the number of values in the list.
+     *
+     * @return the number of values in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Is the list empty?
+     *
+     * @return true if the list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all values from the list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Does the list contain a value?
+     *
+     * @param value
+     *            the value
+     * @return true if the list contains the value
+     */
+    public boolean contains(final int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy the values of the list.
+     *
+     * @return a new array of the values
+     */
+    public int[] toArray() {
+        final int[] array = new int[size];
+        System.arraycopy(values, 0, array, 0, size);
+        return array;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(size * 4 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            sb.append(i > 0 ? ", " : "").append(values[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Grow the array so that it holds at least a number of values.
+     *
+     * @param capacity
+     *            the number of values
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            final int[] grown = new int[Math.max(capacity, values.length * 3 / 2 + 1)];
+            System.arraycopy(values, 0, grown, 0, size);
+            values = grown;
+        }
+    }
+}
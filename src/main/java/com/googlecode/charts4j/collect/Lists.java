@@ -27,7 +27,7 @@ package com.googlecode.charts4j.collect;
 
 import static com.googlecode.charts4j.collect.Preconditions.checkContentsNotNull;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -67,10 +67,9 @@ public final class Lists {
      * @return A newly instantiated ArrayList of type E.
      */
     public static <E> List<E> newArrayList() {
-        return new LinkedList<E>();
+        return new ArrayList<E>();
     }
 
-
     /**
      * Given a vararg, return an immutable list.
      *
@@ -81,11 +80,15 @@ public final class Lists {
      * @return an immutable list given the vararg.
      */
     public static <E> ImmutableList<E> of(final E... a) {
-        return new ImmutableList<E>(Arrays.asList(a));
+        if (a.length == 0) {
+            return ImmutableList.empty();
+        }
+        return new ImmutableList<E>(a.clone(), 0, a.length);
     }
 
     /**
-     * A shallow copy of a list.
+     * A shallow copy of a list. Immutable lists are returned as is, since they
+     * cannot change.
      *
      * @param <E>
      *            Type parameter for list.
@@ -93,12 +96,17 @@ public final class Lists {
      *            list to copy
      * @return an immutable list given the list
      */
+    @SuppressWarnings("unchecked")
     public static <E> ImmutableList<E> copyOf(final List<? extends E> list) {
         checkContentsNotNull(list, "list cannnot be null");
-        final List<E> l = Lists.newLinkedList();
-        for (E e : list) {
-            l.add(e);
+        if (list instanceof ImmutableList) {
+            // Safe, since the list cannot be added to.
+            return (ImmutableList<E>) list;
+        }
+        final Object[] elements = list.toArray();
+        if (elements.length == 0) {
+            return ImmutableList.empty();
         }
-        return new ImmutableList<E>(list);
+        return new ImmutableList<E>(elements, 0, elements.length);
     }
 }
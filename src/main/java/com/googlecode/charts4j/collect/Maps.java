@@ -27,6 +27,7 @@ package com.googlecode.charts4j.collect;
 
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -72,4 +73,18 @@ public final class Maps {
     public static <K, V> Map<K, V> newHashMap() {
         return new HashMap<K, V>();
     }
+
+    /**
+     * Static factory method to instantiate a linked hash map. Iteration order
+     * is the insertion order.
+     *
+     * @param <K>
+     *            key type parameter.
+     * @param <V>
+     *            value type parameter.
+     * @return a linked hash map.
+     */
+    public static <K, V> Map<K, V> newLinkedHashMap() {
+        return new LinkedHashMap<K, V>();
+    }
 }
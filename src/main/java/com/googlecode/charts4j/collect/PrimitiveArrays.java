@@ -50,7 +50,7 @@ public final class PrimitiveArrays {
      * @return List of Doubles.
      */
     public static List<Double> asList(final double[] values) {
-        final List<Double> list = Lists.newLinkedList();
+        final List<Double> list = Lists.newArrayList();
         for (double d : values) {
             list.add(d);
         }
@@ -0,0 +1,58 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.downsampling;
+
+/**
+ * Base class of the downsamplers in this package, which read the values of a
+ * series through {@link Values} so that they can downsample a
+ * {@link com.googlecode.charts4j.Data} without copying it.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+abstract class AbstractDownsampler implements Downsampler {
+
+    /**
+     * {@inheritDoc}
+     */
+    public final int[] select(final double[] xValues, final double[] yValues, final int maxPoints) {
+        return select(Values.of(xValues), Values.of(yValues), maxPoints);
+    }
+
+    /**
+     * Select the indices of the points to keep, as
+     * {@link #select(double[], double[], int)} does.
+     *
+     * @param xValues
+     *            the x values of the series, or null if the points are evenly
+     *            spaced
+     * @param yValues
+     *            the y values of the series
+     * @param maxPoints
+     *            the maximum number of points to keep
+     * @return the indices of the kept points, in increasing order
+     */
+    abstract int[] select(Values xValues, Values yValues, int maxPoints);
+}
@@ -0,0 +1,62 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.downsampling;
+
+/**
+ * Selects the points of a data series to keep so that a line drawn through
+ * them looks like the line drawn through the whole series. Implementations
+ * are stateless and thread safe.
+ *
+ * <p>
+ * Values outside the 0 to 100 range are invalid and render as gaps.
+ * Downsamplers ignore them when choosing the points of a bucket, unless the
+ * whole bucket is invalid, in which case one invalid point is kept so that
+ * the gap remains visible.
+ * </p>
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see Downsamplers
+ */
+public interface Downsampler {
+
+    /**
+     * Select the indices of the points to keep, at most
+     * <code>maxPoints</code> of them. The first and last points are always
+     * kept, except that only the first is kept when <code>maxPoints</code> is
+     * 1. Evenly spaced points are kept evenly spaced, so that a line chart
+     * draws every kept point at about its original position.
+     *
+     * @param xValues
+     *            the x values of the series, in increasing order, or null if
+     *            the points are evenly spaced (e.g. a line chart)
+     * @param yValues
+     *            the y values of the series. Cannot be null.
+     * @param maxPoints
+     *            the maximum number of points to keep. Must be &gt; 0.
+     * @return the indices of the kept points, in increasing order
+     */
+    int[] select(double[] xValues, double[] yValues, int maxPoints);
+}
@@ -0,0 +1,208 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.downsampling;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+import com.googlecode.charts4j.Data;
+
+/**
+ * Static factory class for {@link Downsampler}s, and helpers that apply them
+ * to {@link Data}. A downsampler can also be set on a
+ * {@link com.googlecode.charts4j.LineChart} or
+ * {@link com.googlecode.charts4j.XYLineChart} to downsample every line to the
+ * chart width when the chart is rendered, or passed to
+ * {@link com.googlecode.charts4j.Plots#newLine(Data, Downsampler, int)} to
+ * downsample a single line up front.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see Downsampler
+ */
+public final class Downsamplers {
+
+    /**
+     * Static factory class can never be instantiated.
+     */
+    private Downsamplers() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Get a Largest-Triangle-Three-Buckets downsampler. It keeps exactly the
+     * requested number of points and follows the overall shape of the line
+     * best, but may cut off narrow spikes.
+     *
+     * @return the downsampler
+     */
+    public static Downsampler newLTTBDownsampler() {
+        return LargestTriangleThreeBuckets.INSTANCE;
+    }
+
+    /**
+     * Get a min-max downsampler. It keeps the minimum and maximum of equal
+     * buckets of points, so the line reaches every peak and trough of the
+     * original line.
+     *
+     * @return the downsampler
+     */
+    public static Downsampler newMinMaxDownsampler() {
+        return MinMaxDownsampler.INSTANCE;
+    }
+
+    /**
+     * Get an M4 downsampler. It keeps the first, last, minimum and maximum
+     * points of equal x ranges. With the chart width as the number of points,
+     * the downsampled line is drawn almost exactly like the original one.
+     *
+     * @return the downsampler
+     */
+    public static Downsampler newM4Downsampler() {
+        return M4Downsampler.INSTANCE;
+    }
+
+    /**
+     * Downsample a data series whose points are evenly spaced.
+     *
+     * @param downsampler
+     *            the downsampler. Cannot be null.
+     * @param values
+     *            the values. Cannot be null.
+     * @param maxPoints
+     *            the maximum number of points to keep. Must be &gt; 0.
+     * @return the kept values
+     */
+    public static double[] downsample(final Downsampler downsampler, final double[] values, final int maxPoints) {
+        checkNotNull(downsampler, "downsampler cannot be null");
+        checkNotNull(values, "values cannot be null");
+        checkArgument(maxPoints > 0, "maxPoints must be > 0: %s", maxPoints);
+        return keep(values, downsampler.select(null, values, maxPoints));
+    }
+
+    /**
+     * Downsample a data series whose points are evenly spaced, e.g. the data
+     * of a line in a line chart.
+     *
+     * @param downsampler
+     *            the downsampler. Cannot be null.
+     * @param data
+     *            the data. Cannot be null.
+     * @param maxPoints
+     *            the maximum number of points to keep. Must be &gt; 0.
+     * @return the kept data, or the data itself if it has no more than
+     *         maxPoints points
+     */
+    public static Data downsample(final Downsampler downsampler, final Data data, final int maxPoints) {
+        checkNotNull(downsampler, "downsampler cannot be null");
+        checkNotNull(data, "data cannot be null");
+        checkArgument(maxPoints > 0, "maxPoints must be > 0: %s", maxPoints);
+        if (data.getSize() <= maxPoints) {
+            return data;
+        }
+        return keep(data, selectPoints(downsampler, null, data, maxPoints));
+    }
+
+    /**
+     * Select the points of an x and y data pair to keep, e.g. the data of an
+     * XY line. Apply the result to both with {@link #keep(Data, int[])}.
+     *
+     * @param downsampler
+     *            the downsampler. Cannot be null.
+     * @param xData
+     *            the x data, in increasing order. Cannot be null.
+     * @param yData
+     *            the y data. Cannot be null.
+     * @param maxPoints
+     *            the maximum number of points to keep. Must be &gt; 0.
+     * @return the indices of the kept points, in increasing order
+     */
+    public static int[] select(final Downsampler downsampler, final Data xData, final Data yData, final int maxPoints) {
+        checkNotNull(downsampler, "downsampler cannot be null");
+        checkNotNull(xData, "x data cannot be null");
+        checkNotNull(yData, "y data cannot be null");
+        checkArgument(xData.getSize() == yData.getSize(), "x and y data do not have the same number of elements");
+        checkArgument(maxPoints > 0, "maxPoints must be > 0: %s", maxPoints);
+        return selectPoints(downsampler, xData, yData, maxPoints);
+    }
+
+    /**
+     * Keep the values at the given indices.
+     *
+     * @param values
+     *            the values. Cannot be null.
+     * @param indices
+     *            the indices to keep. Cannot be null.
+     * @return the kept values
+     */
+    public static double[] keep(final double[] values, final int[] indices) {
+        checkNotNull(values, "values cannot be null");
+        checkNotNull(indices, "indices cannot be null");
+        final double[] result = new double[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            result[i] = values[indices[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Keep the data at the given indices.
+     *
+     * @param data
+     *            the data. Cannot be null.
+     * @param indices
+     *            the indices to keep. Cannot be null.
+     * @return the kept data
+     */
+    public static Data keep(final Data data, final int[] indices) {
+        checkNotNull(data, "data cannot be null");
+        checkNotNull(indices, "indices cannot be null");
+        final double[] result = new double[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            result[i] = data.get(indices[i]);
+        }
+        return Data.newData(result);
+    }
+
+    /**
+     * Select the points of a data series to keep. The downsamplers of this
+     * package read the data in place; other downsamplers get a copy.
+     *
+     * @param downsampler
+     *            the downsampler
+     * @param xData
+     *            the x data, or null if the points are evenly spaced
+     * @param yData
+     *            the y data
+     * @param maxPoints
+     *            the maximum number of points to keep
+     * @return the indices of the kept points, in increasing order
+     */
+    private static int[] selectPoints(final Downsampler downsampler, final Data xData, final Data yData, final int maxPoints) {
+        if (downsampler instanceof AbstractDownsampler) {
+            return ((AbstractDownsampler) downsampler).select(Values.of(xData), Values.of(yData), maxPoints);
+        }
+        return downsampler.select(xData == null ? null : xData.getData(), yData.getData(), maxPoints);
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.downsampling;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling, after Sveinn Steinarsson's
+ * thesis "Downsampling Time Series for Visual Representation". The interior
+ * points are split into one bucket per kept point. From each bucket, the
+ * point that forms the largest triangle with the point kept from the
+ * previous bucket and the average of the next bucket is kept. The result
+ * follows the shape of the line closely with exactly the requested number of
+ * points, but unlike {@link MinMaxDownsampler} it may cut off some extrema.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see Downsamplers#newLTTBDownsampler()
+ */
+final class LargestTriangleThreeBuckets extends AbstractDownsampler {
+
+    /** The downsampler is stateless, so one instance is shared. **/
+    static final LargestTriangleThreeBuckets INSTANCE = new LargestTriangleThreeBuckets();
+
+    /**
+     * Use {@link #INSTANCE}.
+     */
+    private LargestTriangleThreeBuckets() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int[] select(final Values xValues, final Values yValues, final int maxPoints) {
+        final int n = yValues.size();
+        if (n <= maxPoints) {
+            return Points.all(n);
+        }
+        final int buckets = maxPoints - 2;
+        if (buckets <= 0) {
+            return Points.ends(n, maxPoints);
+        }
+        final int interior = n - 2;
+        final int[] indices = new int[2 + buckets];
+        int count = 0;
+        indices[count++] = 0;
+        int a = 0;
+        for (int b = 0; b < buckets; b++) {
+            final int from = 1 + (int) ((long) b * interior / buckets);
+            final int to = 1 + (int) ((long) (b + 1) * interior / buckets);
+            // The next bucket is the last point after the last bucket.
+            final int nextFrom = to;
+            final int nextTo = b == buckets - 1 ? n : 1 + (int) ((long) (b + 2) * interior / buckets);
+            double avgX = 0;
+            double avgY = 0;
+            int valid = 0;
+            for (int i = nextFrom; i < nextTo; i++) {
+                if (Points.isValid(xValues, yValues, i)) {
+                    avgX += Points.x(xValues, i);
+                    avgY += yValues.get(i);
+                    valid++;
+                }
+            }
+            if (valid > 0) {
+                avgX /= valid;
+                avgY /= valid;
+            } else {
+                avgX = Points.x(xValues, nextFrom);
+                avgY = yValues.get(a);
+            }
+            final double ax = Points.x(xValues, a);
+            final double ay = yValues.get(a);
+            int selected = -1;
+            double maxArea = -1;
+            for (int i = from; i < to; i++) {
+                if (Points.isValid(xValues, yValues, i)) {
+                    // Twice the triangle area, which compares the same.
+                    final double area = Math.abs((ax - avgX) * (yValues.get(i) - ay) - (ax - Points.x(xValues, i)) * (avgY - ay));
+                    if (area > maxArea) {
+                        maxArea = area;
+                        selected = i;
+                    }
+                }
+            }
+            if (selected < 0) {
+                indices[count++] = from;
+            } else {
+                indices[count++] = selected;
+                a = selected;
+            }
+        }
+        indices[count++] = n - 1;
+        return Points.trim(indices, count);
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.downsampling;
+
+/**
+ * M4 downsampling. The x range of the series is split into equal buckets,
+ * ideally one per pixel column, and the first, last, minimum and maximum
+ * points of each bucket are kept, in their original order. These four points
+ * determine every pixel a line drawn through the bucket colors, so the
+ * downsampled line is drawn exactly like the original one when there is one
+ * bucket per pixel column. Evenly spaced points are split into buckets of
+ * equal counts instead and keep four points in every bucket, so that the kept
+ * points stay evenly spaced too.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see Downsamplers#newM4Downsampler()
+ */
+final class M4Downsampler extends AbstractDownsampler {
+
+    /** The downsampler is stateless, so one instance is shared. **/
+    static final M4Downsampler INSTANCE = new M4Downsampler();
+
+    /**
+     * Use {@link #INSTANCE}.
+     */
+    private M4Downsampler() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int[] select(final Values xValues, final Values yValues, final int maxPoints) {
+        final int n = yValues.size();
+        if (n <= maxPoints) {
+            return Points.all(n);
+        }
+        // The first and last points are kept besides the buckets.
+        final int buckets = (maxPoints - 2) / 4;
+        if (buckets <= 0) {
+            return Points.ends(n, maxPoints);
+        }
+        final int[] indices = new int[2 + 4 * buckets];
+        int count = 0;
+        indices[count++] = 0;
+        if (xValues == null) {
+            // Evenly spaced points keep four points in every bucket, so that
+            // the kept points stay evenly spaced too.
+            final int interior = n - 2;
+            for (int b = 0; b < buckets; b++) {
+                final int from = 1 + (int) ((long) b * interior / buckets);
+                final int to = 1 + (int) ((long) (b + 1) * interior / buckets);
+                final int[] bucket = bucket(xValues, yValues, from, to);
+                count = Points.addFixed(indices, count, from, to, 4, bucket);
+            }
+        } else {
+            final double x0 = Points.x(xValues, 0);
+            final double width = Points.x(xValues, n - 1) - x0;
+            int i = 1;
+            for (int b = 0; b < buckets && i < n - 1; b++) {
+                // Points from i up to the first point of the next bucket.
+                final double end = b == buckets - 1 ? Double.POSITIVE_INFINITY : x0 + width * (b + 1) / buckets;
+                final int from = i;
+                while (i < n - 1 && (i == from || Points.x(xValues, i) < end)) {
+                    i++;
+                }
+                final int[] bucket = bucket(xValues, yValues, from, i);
+                if (bucket[0] < 0) {
+                    indices[count++] = from;
+                } else {
+                    count = addSorted(indices, count, bucket[0], bucket[1], bucket[2], bucket[3]);
+                }
+            }
+        }
+        indices[count++] = n - 1;
+        return Points.trim(indices, count);
+    }
+
+    /**
+     * Find the first, last, minimum and maximum valid points of a bucket.
+     *
+     * @param xValues
+     *            the x values, or null
+     * @param yValues
+     *            the y values
+     * @param from
+     *            first index of the bucket
+     * @param to
+     *            index after the bucket
+     * @return the indices of the first, last, minimum and maximum points, all
+     *         -1 if the bucket has no valid point
+     */
+    private static int[] bucket(final Values xValues, final Values yValues, final int from, final int to) {
+        int first = -1;
+        int last = -1;
+        int min = -1;
+        int max = -1;
+        double minValue = 0;
+        double maxValue = 0;
+        for (int i = from; i < to; i++) {
+            if (Points.isValid(xValues, yValues, i)) {
+                final double v = yValues.get(i);
+                if (first < 0) {
+                    first = i;
+                }
+                last = i;
+                if (min < 0 || v < minValue) {
+                    min = i;
+                    minValue = v;
+                }
+                if (max < 0 || v > maxValue) {
+                    max = i;
+                    maxValue = v;
+                }
+            }
+        }
+        return new int[] {first, last, min, max};
+    }
+
+    /**
+     * Append the distinct indices of a bucket in increasing order.
+     *
+     * @param indices
+     *            the kept indices
+     * @param count
+     *            the number of kept indices
+     * @param first
+     *            index of the first point of the bucket
+     * @param last
+     *            index of the last point of the bucket
+     * @param min
+     *            index of the minimum of the bucket
+     * @param max
+     *            index of the maximum of the bucket
+     * @return the new number of kept indices
+     */
+    private static int addSorted(final int[] indices, final int count, final int first, final int last, final int min, final int max) {
+        // first <= min, max <= last, so only min and max may be out of order.
+        final int low = Math.min(min, max);
+        final int high = Math.max(min, max);
+        int c = count;
+        indices[c++] = first;
+        if (low != first) {
+            indices[c++] = low;
+        }
+        if (high != low && high != last) {
+            indices[c++] = high;
+        }
+        if (last != first && last != low) {
+            indices[c++] = last;
+        }
+        return c;
+    }
+}
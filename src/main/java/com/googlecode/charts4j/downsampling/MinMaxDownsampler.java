@@ -0,0 +1,102 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.downsampling;
+
+/**
+ * Downsamples data series while preserving their visual extrema. The series
+ * is split into equal buckets and the minimum and maximum of each bucket are
+ * kept, in their original order, along with the first and last points. A
+ * line drawn through the kept points therefore reaches every peak and trough
+ * of the original line. Evenly spaced points keep two points in every bucket,
+ * so that the kept points stay evenly spaced too.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see Downsamplers#newMinMaxDownsampler()
+ */
+final class MinMaxDownsampler extends AbstractDownsampler {
+
+    /** The downsampler is stateless, so one instance is shared. **/
+    static final MinMaxDownsampler INSTANCE = new MinMaxDownsampler();
+
+    /**
+     * Use {@link #INSTANCE}.
+     */
+    private MinMaxDownsampler() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int[] select(final Values xValues, final Values yValues, final int maxPoints) {
+        final int n = yValues.size();
+        if (n <= maxPoints) {
+            return Points.all(n);
+        }
+        final int buckets = (maxPoints - 2) / 2;
+        if (buckets <= 0) {
+            return Points.ends(n, maxPoints);
+        }
+        final int[] indices = new int[2 + 2 * buckets];
+        int count = 0;
+        indices[count++] = 0;
+        final int interior = n - 2;
+        for (int b = 0; b < buckets; b++) {
+            final int from = 1 + (int) ((long) b * interior / buckets);
+            final int to = 1 + (int) ((long) (b + 1) * interior / buckets);
+            int min = -1;
+            int max = -1;
+            double minValue = 0;
+            double maxValue = 0;
+            for (int i = from; i < to; i++) {
+                if (Points.isValid(xValues, yValues, i)) {
+                    final double v = yValues.get(i);
+                    if (min < 0 || v < minValue) {
+                        min = i;
+                        minValue = v;
+                    }
+                    if (max < 0 || v > maxValue) {
+                        max = i;
+                        maxValue = v;
+                    }
+                }
+            }
+            if (xValues == null) {
+                count = Points.addFixed(indices, count, from, to, 2, min, max);
+            } else if (min < 0) {
+                indices[count++] = from;
+            } else if (min == max) {
+                indices[count++] = min;
+            } else {
+                indices[count++] = Math.min(min, max);
+                indices[count++] = Math.max(min, max);
+            }
+        }
+        indices[count++] = n - 1;
+        return Points.trim(indices, count);
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.downsampling;
+
+import com.googlecode.charts4j.Data;
+
+/**
+ * Helpers shared by the downsamplers.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+final class Points {
+
+    /**
+     * Cannot be instantiated.
+     */
+    private Points() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Whether a point is valid, i.e. its values are between
+     * {@link Data#MIN_VALUE} and {@link Data#MAX_VALUE}.
+     *
+     * @param xValues
+     *            the x values, or null
+     * @param yValues
+     *            the y values
+     * @param i
+     *            the index of the point
+     * @return true if the point is valid
+     */
+    static boolean isValid(final Values xValues, final Values yValues, final int i) {
+        final double y = yValues.get(i);
+        if (!(y >= Data.MIN_VALUE && y <= Data.MAX_VALUE)) {
+            return false;
+        }
+        if (xValues == null) {
+            return true;
+        }
+        final double x = xValues.get(i);
+        return x >= Data.MIN_VALUE && x <= Data.MAX_VALUE;
+    }
+
+    /**
+     * Get the x value of a point.
+     *
+     * @param xValues
+     *            the x values, or null if the points are evenly spaced
+     * @param i
+     *            the index of the point
+     * @return the x value
+     */
+    static double x(final Values xValues, final int i) {
+        return xValues == null ? i : xValues.get(i);
+    }
+
+    /**
+     * Get the indices of all points.
+     *
+     * @param n
+     *            the number of points
+     * @return 0 to n - 1
+     */
+    static int[] all(final int n) {
+        final int[] all = new int[n];
+        for (int i = 0; i < n; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    /**
+     * Select the first and last points, or only the first point when a single
+     * point may be kept. Used when the budget is too small for any bucket.
+     *
+     * @param n
+     *            the number of points, &gt; maxPoints
+     * @param maxPoints
+     *            the maximum number of points to keep, &gt; 0
+     * @return the indices of the kept points
+     */
+    static int[] ends(final int n, final int maxPoints) {
+        return maxPoints == 1 ? new int[] {0} : new int[] {0, n - 1};
+    }
+
+    /**
+     * Append exactly <code>size</code> distinct indices of a bucket in
+     * increasing order. The picked indices come first; if there are fewer
+     * distinct ones than <code>size</code>, the first other indices of the
+     * bucket fill in. Evenly spaced points must keep the same number of points
+     * in every bucket, otherwise the line is squeezed where buckets keep
+     * fewer points and stretched where they keep more.
+     *
+     * @param indices
+     *            the kept indices
+     * @param count
+     *            the number of kept indices
+     * @param from
+     *            first index of the bucket
+     * @param to
+     *            index after the bucket, at least <code>size</code> past
+     *            <code>from</code>
+     * @param size
+     *            the number of indices to append
+     * @param picks
+     *            indices to keep, possibly repeated, or -1 for none
+     * @return the new number of kept indices
+     */
+    static int addFixed(final int[] indices, final int count, final int from, final int to, final int size, final int... picks) {
+        int c = count;
+        for (int pick : picks) {
+            if (pick >= 0 && !contains(indices, count, c, pick)) {
+                c = insert(indices, count, c, pick);
+            }
+        }
+        for (int i = from; i < to && c - count < size; i++) {
+            if (!contains(indices, count, c, i)) {
+                c = insert(indices, count, c, i);
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Whether a range of indices contains an index.
+     *
+     * @param indices
+     *            the indices
+     * @param from
+     *            start of the range
+     * @param to
+     *            end of the range, exclusive
+     * @param index
+     *            the index
+     * @return true if the range contains the index
+     */
+    private static boolean contains(final int[] indices, final int from, final int to, final int index) {
+        for (int i = from; i < to; i++) {
+            if (indices[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Insert an index into a sorted range of indices.
+     *
+     * @param indices
+     *            the indices
+     * @param from
+     *            start of the sorted range
+     * @param to
+     *            end of the sorted range, exclusive
+     * @param index
+     *            the index
+     * @return the new end of the range
+     */
+    private static int insert(final int[] indices, final int from, final int to, final int index) {
+        int i = to;
+        while (i > from && indices[i - 1] > index) {
+            indices[i] = indices[i - 1];
+            i--;
+        }
+        indices[i] = index;
+        return to + 1;
+    }
+
+    /**
+     * Trim an array of indices to its used length.
+     *
+     * @param indices
+     *            the indices
+     * @param count
+     *            the number of indices used
+     * @return the used indices
+     */
+    static int[] trim(final int[] indices, final int count) {
+        if (count == indices.length) {
+            return indices;
+        }
+        final int[] result = new int[count];
+        System.arraycopy(indices, 0, result, 0, count);
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.downsampling;
+
+import com.googlecode.charts4j.Data;
+
+/**
+ * Read-only random access to the values of a data series, backed by either an
+ * array or a {@link Data}. Downsamplers only read a few values per point, so
+ * {@link Data} held in a buffer is read in place instead of being copied onto
+ * the heap first.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+abstract class Values {
+
+    /**
+     * Get the number of values.
+     *
+     * @return the number of values
+     */
+    abstract int size();
+
+    /**
+     * Get a value.
+     *
+     * @param index
+     *            the index of the value
+     * @return the value
+     */
+    abstract double get(int index);
+
+    /**
+     * Get the values of an array.
+     *
+     * @param values
+     *            the values, or null
+     * @return the values, or null if the array is null
+     */
+    static Values of(final double[] values) {
+        if (values == null) {
+            return null;
+        }
+        return new Values() {
+            @Override
+            int size() {
+                return values.length;
+            }
+
+            @Override
+            double get(final int index) {
+                return values[index];
+            }
+        };
+    }
+
+    /**
+     * Get the values of a data series.
+     *
+     * @param data
+     *            the data, or null
+     * @return the values, or null if the data is null
+     */
+    static Values of(final Data data) {
+        if (data == null) {
+            return null;
+        }
+        return new Values() {
+            @Override
+            int size() {
+                return data.getSize();
+            }
+
+            @Override
+            double get(final int index) {
+                return data.get(index);
+            }
+        };
+    }
+}
@@ -25,9 +25,13 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
+
 /**
- * <b>For Charts4J internal use only.</b>
- * 
+ * <b>For Charts4J internal use only.</b> Parameters stream their value through
+ * {@link #writeTo(Appendable)}. The string forms are derived from it so that
+ * the value is serialized only once.
+ *
  * @author Julien Chastang (julien.c.chastang at gmail dot com)
  */
 abstract class AbstractParameter implements Parameter {
@@ -40,12 +44,34 @@ abstract class AbstractParameter implements Parameter {
     /**
      * {@inheritDoc}
      */
-    public abstract String getValue();
+    public abstract void writeTo(Appendable appendable) throws IOException;
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getValue() {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions.
+            throw new AssertionError(e);
+        }
+        return sb.toString();
+    }
 
     /**
      * {@inheritDoc}
      */
     public String toURLParameterString() {
-        return getValue().length() == 0 ? "" : getKey() + "=" + getValue();
+        final StringBuilder sb = new StringBuilder();
+        final ParameterWriter writer = new ParameterWriter(sb);
+        try {
+            writer.write(this);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions.
+            throw new AssertionError(e);
+        }
+        return sb.toString();
     }
-}
\ No newline at end of file
+}
@@ -25,9 +25,14 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
 
+import com.googlecode.charts4j.collect.DoubleList;
 import com.googlecode.charts4j.collect.ImmutableList;
+import com.googlecode.charts4j.collect.IntList;
 import com.googlecode.charts4j.collect.Lists;
 
 /**
@@ -42,7 +47,21 @@ final class AxisLabelPositionsParameter extends AbstractParameter {
     private static final String            URL_PARAMETER_KEY = "chxp";
 
     /** List containing label positions. **/
-    private final List<AxisLabelPositions> labelPositions    = Lists.newLinkedList();
+    private final List<AxisLabelPositions> labelPositions    = Lists.newArrayList();
+
+    /**
+     * Add label positions.
+     *
+     * @param index
+     *            the index
+     * @param positions
+     *            the positions of the labels
+     * @param integralPositions
+     *            indices of the positions that are written as integers
+     */
+    void addLabelPosition(final int index, final DoubleList positions, final IntList integralPositions) {
+        labelPositions.add(new AxisLabelPositions(index, positions.toArray(), integralPositions.toArray()));
+    }
 
     /**
      * Add label positions.
@@ -53,7 +72,15 @@ final class AxisLabelPositionsParameter extends AbstractParameter {
      *            the positions of the labels
      */
     void addLabelPosition(final int index, final ImmutableList<? extends Number> positions) {
-        labelPositions.add(new AxisLabelPositions(index, positions));
+        final DoubleList values = new DoubleList(positions.size());
+        final IntList integralPositions = new IntList();
+        for (Number n : positions) {
+            if (isIntegral(n)) {
+                integralPositions.add(values.size());
+            }
+            values.add(toDouble(n));
+        }
+        addLabelPosition(index, values, integralPositions);
     }
 
     /**
@@ -68,13 +95,12 @@ final class AxisLabelPositionsParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (AxisLabelPositions positions : labelPositions) {
-            sb.append(cnt++ > 0 ? "|" : "").append(positions);
+            appendable.append(cnt++ > 0 ? "|" : "");
+            positions.writeTo(appendable);
         }
-        return (!labelPositions.isEmpty()) ? sb.toString() : "";
     }
 
     /**
@@ -86,7 +112,10 @@ final class AxisLabelPositionsParameter extends AbstractParameter {
         private final int          index;
 
         /** The positions. */
-        private final ImmutableList<Number> positions;
+        private final double[]     positions;
+
+        /** Ascending indices of the positions that are written as integers. */
+        private final int[]        integralPositions;
 
         /**
          * Instantiates this container class.
@@ -95,26 +124,40 @@ final class AxisLabelPositionsParameter extends AbstractParameter {
          *            the index
          * @param positions
          *            the positions
+         * @param integralPositions
+         *            ascending indices of the positions that are written as
+         *            integers
          */
-        private AxisLabelPositions(final int index, final ImmutableList<? extends Number> positions) {
+        private AxisLabelPositions(final int index, final double[] positions, final int[] integralPositions) {
             this.index = index;
-            this.positions = Lists.copyOf(positions);
+            this.positions = positions;
+            this.integralPositions = integralPositions;
         }
 
         /**
-         * {@inheritDoc}
+         * Write the label positions to the appendable.
+         *
+         * @param appendable
+         *            the appendable
+         * @throws IOException
+         *             if the appendable cannot be written to
          */
-        @Override
-        public String toString() {
-            if (positions.isEmpty()) {
-                return "";
-            } else {
-                final StringBuilder sb = new StringBuilder(index + ",");
-                int cnt = 0;
-                for (Number n : positions) {
-                    sb.append(cnt++ > 0 ? "," : "").append(n);
+        private void writeTo(final Appendable appendable) throws IOException {
+            if (positions.length > 0) {
+                appendInt(appendable, index).append(',');
+                int integral = 0;
+                for (int i = 0; i < positions.length; i++) {
+                    appendable.append(i > 0 ? "," : "");
+                    final double p = positions[i];
+                    if (integral < integralPositions.length && integralPositions[integral] == i) {
+                        integral++;
+                        if (p == Math.rint(p) && Math.abs(p) < Long.MAX_VALUE) {
+                            appendLong(appendable, (long) p);
+                            continue;
+                        }
+                    }
+                    appendDouble(appendable, p);
                 }
-                return sb.toString();
             }
         }
     }
@@ -25,6 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.ImmutableList;
@@ -41,7 +44,7 @@ final class AxisLabelsParameter extends AbstractParameter {
     private static final String    URL_PARAMETER_KEY = "chxl";
 
     /** The axis labels. */
-    private final List<AxisLabels> axisLabels        = Lists.newLinkedList();
+    private final List<AxisLabels> axisLabels        = Lists.newArrayList();
 
     /**
      * Add an axis labels.
@@ -67,14 +70,12 @@ final class AxisLabelsParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (AxisLabels aLabels : axisLabels) {
-            sb.append(cnt++ > 0 ? "|" : "").append(aLabels);
-
+            appendable.append(cnt++ > 0 ? "|" : "");
+            aLabels.writeTo(appendable);
         }
-        return !axisLabels.isEmpty() ? sb.toString() : "";
     }
 
     /**
@@ -102,20 +103,20 @@ final class AxisLabelsParameter extends AbstractParameter {
         }
 
         /**
-         * {@inheritDoc}
+         * Write the axis labels to the appendable.
+         *
+         * @param appendable
+         *            the appendable
+         * @throws IOException
+         *             if the appendable cannot be written to
          */
-        @Override
-        public String toString() {
-            if (labels.isEmpty()) {
-                return "";
-            } else {
-                final StringBuilder sb = new StringBuilder(index + ":|");
+        private void writeTo(final Appendable appendable) throws IOException {
+            if (!labels.isEmpty()) {
+                appendInt(appendable, index).append(":|");
                 int cnt = 0;
                 for (String label : labels) {
-                    final String l = ParameterUtil.utf8Encode(label);
-                    sb.append(cnt++ > 0 ? "|" : "").append(l);
+                    appendable.append(cnt++ > 0 ? "|" : "").append(ParameterUtil.utf8Encode(label));
                 }
-                return sb.toString();
             }
         }
     }
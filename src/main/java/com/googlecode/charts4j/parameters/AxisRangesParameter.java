@@ -25,6 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.Lists;
@@ -40,7 +43,7 @@ final class AxisRangesParameter extends AbstractParameter {
     private static final String   URL_PARAMETER_KEY = "chxr";
 
     /** The axis ranges. */
-    private final List<AxisRange> axisRanges        = Lists.newLinkedList();
+    private final List<AxisRange> axisRanges        = Lists.newArrayList();
 
     /**
      * Add an axis range.
@@ -70,13 +73,12 @@ final class AxisRangesParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (AxisRange ar : axisRanges) {
-            sb.append(cnt++ > 0 ? "|" : "").append(ar);
+            appendable.append(cnt++ > 0 ? "|" : "");
+            ar.writeTo(appendable);
         }
-        return !axisRanges.isEmpty() ? sb.toString() : "";
     }
 
     /**
@@ -114,11 +116,21 @@ final class AxisRangesParameter extends AbstractParameter {
         }
 
         /**
-         * {@inheritDoc}
+         * Write the axis range to the appendable.
+         *
+         * @param appendable
+         *            the appendable
+         * @throws IOException
+         *             if the appendable cannot be written to
          */
-        @Override
-        public String toString() {
-            return index + "," + startOfRange + "," + endOfRange + (Double.isNaN(interval) ? "" : "," + interval);
+        private void writeTo(final Appendable appendable) throws IOException {
+            appendInt(appendable, index).append(',');
+            appendDouble(appendable, startOfRange).append(',');
+            appendDouble(appendable, endOfRange);
+            if (!Double.isNaN(interval)) {
+                appendable.append(',');
+                appendDouble(appendable, interval);
+            }
         }
     }
 }
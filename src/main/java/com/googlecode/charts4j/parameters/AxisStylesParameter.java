@@ -25,6 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.AxisStyle;
@@ -41,7 +44,7 @@ final class AxisStylesParameter extends AbstractParameter {
     private static final String    URL_PARAMETER_KEY = "chxs";
 
     /** The axis styles. */
-    private final List<PrivateAxisStyles> axisStyles = Lists.newLinkedList();
+    private final List<PrivateAxisStyles> axisStyles = Lists.newArrayList();
 
     /**
      * Add an axis style.
@@ -67,13 +70,12 @@ final class AxisStylesParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (PrivateAxisStyles styles : axisStyles) {
-            sb.append(cnt++ > 0 ? "|" : "").append(styles);
+            appendable.append(cnt++ > 0 ? "|" : "");
+            styles.writeTo(appendable);
         }
-        return !axisStyles.isEmpty() ? sb.toString() : "";
     }
 
     /**
@@ -107,30 +109,22 @@ final class AxisStylesParameter extends AbstractParameter {
         }
 
         /**
-         * {@inheritDoc}
-         */
-        @Override
-        public String toString() {
-            final StringBuilder sb = new StringBuilder(index + "," + axisStyle.getTextColor() + "," + axisStyle.getFontSize() + "," + axisStyle.getAlignment());
-            sb.append(getDrawingControlString(axisStyle) != null ? "," + getDrawingControlString(axisStyle) : "");
-            sb.append(axisStyle.getTickMarkColor() != null ? "," + axisStyle.getTickMarkColor() : "");
-            return sb.toString();
-        }
-
-        /**
-         * Build the drawing control string.
-         *
-         * @param axisStyle
-         *            the axis style
+         * Write the axis style to the appendable.
          *
-         * @return the drawing control string
+         * @param appendable
+         *            the appendable
+         * @throws IOException
+         *             if the appendable cannot be written to
          */
-        private String getDrawingControlString(final AxisStyle axisStyle) {
-            final StringBuilder sb = new StringBuilder();
+        private void writeTo(final Appendable appendable) throws IOException {
+            appendInt(appendable, index).append(',').append(String.valueOf(axisStyle.getTextColor())).append(',');
+            appendInt(appendable, axisStyle.getFontSize()).append(',').append(String.valueOf(axisStyle.getAlignment()));
             if (axisStyle.drawTickMarks() != null) {
-                sb.append(axisStyle.drawTickMarks() ? DRAW_AXIS_LINE + DRAW_TICK_MARKS : DRAW_AXIS_LINE);
+                appendable.append(',').append(axisStyle.drawTickMarks() ? DRAW_AXIS_LINE + DRAW_TICK_MARKS : DRAW_AXIS_LINE);
+            }
+            if (axisStyle.getTickMarkColor() != null) {
+                appendable.append(',').append(axisStyle.getTickMarkColor().toString());
             }
-            return sb.length() > 0 ? sb.toString() : null;
         }
     }
 }
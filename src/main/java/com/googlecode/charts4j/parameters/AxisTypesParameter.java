@@ -25,6 +25,7 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.Lists;
@@ -40,7 +41,7 @@ final class AxisTypesParameter extends AbstractParameter {
     private static final String   URL_PARAMETER_KEY = "chxt";
 
     /** The axis types list. */
-    private final List<AxisTypes> axisTypesList     = Lists.newLinkedList();
+    private final List<AxisTypes> axisTypesList     = Lists.newArrayList();
 
     /**
      * Add an axis type.
@@ -64,14 +65,10 @@ final class AxisTypesParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
-
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (AxisTypes axisType : axisTypesList) {
-            sb.append(cnt++ > 0 ? "," : "").append(axisType);
+            appendable.append(cnt++ > 0 ? "," : "").append(axisType.toString());
         }
-
-        return !axisTypesList.isEmpty() ? sb.toString() : "";
     }
 }
@@ -25,6 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
+
 /**
  * Class for building bar chart width and spacing parameter string for the
  * Google Chart API.
@@ -73,7 +77,14 @@ final class BarChartWidthAndSpacingParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        return  (width < 1 ? "a" : width) + "," + spaceBetweenBarsInGroup + "," + spaceBetweenGroups;
+    public void writeTo(final Appendable appendable) throws IOException {
+        if (width < 1) {
+            appendable.append('a');
+        } else {
+            appendInt(appendable, width);
+        }
+        appendable.append(',');
+        appendInt(appendable, spaceBetweenBarsInGroup).append(',');
+        appendInt(appendable, spaceBetweenGroups);
     }
 }
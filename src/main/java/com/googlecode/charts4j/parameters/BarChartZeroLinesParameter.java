@@ -25,6 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.Lists;
@@ -41,7 +44,7 @@ final class BarChartZeroLinesParameter extends AbstractParameter {
     private static final String URL_PARAMETER_KEY = "chp";
 
     /** The doubles. */
-    private final List<Double>  zeroLines         = Lists.newLinkedList();
+    private final List<Double>  zeroLines         = Lists.newArrayList();
 
     /**
      * Adds the zero line.
@@ -66,13 +69,11 @@ final class BarChartZeroLinesParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
-
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (Double d : zeroLines) {
-            sb.append(cnt++ > 0 ? "," : "").append(d);
+            appendable.append(cnt++ > 0 ? "," : "");
+            appendDouble(appendable, d);
         }
-        return !zeroLines.isEmpty() ? sb.toString() : "";
     }
 }
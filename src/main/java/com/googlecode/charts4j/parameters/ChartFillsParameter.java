@@ -25,6 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.Color;
@@ -42,7 +45,7 @@ final class ChartFillsParameter extends AbstractParameter {
     private static final String URL_PARAMETER_KEY = "chf";
 
     /** The fills. */
-    private final List<Fill>    fills             = Lists.newLinkedList();
+    private final List<Fill>    fills             = Lists.newArrayList();
 
     /**
      * Adds the solid fill.
@@ -96,19 +99,28 @@ final class ChartFillsParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (Fill f : fills) {
-            sb.append(cnt++ > 0 ? "|" : "").append(f);
+            appendable.append(cnt++ > 0 ? "|" : "");
+            f.writeTo(appendable);
         }
-        return !fills.isEmpty() ? sb.toString() : "";
     }
 
     /**
      * The Interface Fill.
      */
     private interface Fill {
+
+        /**
+         * Write the fill to the appendable.
+         *
+         * @param appendable
+         *            the appendable
+         * @throws IOException
+         *             if the appendable cannot be written to
+         */
+        void writeTo(Appendable appendable) throws IOException;
     }
 
     /**
@@ -138,9 +150,8 @@ final class ChartFillsParameter extends AbstractParameter {
         /**
          * {@inheritDoc}
          */
-        @Override
-        public String toString() {
-            return solidFillType + ",s," + color;
+        public void writeTo(final Appendable appendable) throws IOException {
+            appendable.append(String.valueOf(solidFillType)).append(",s,").append(String.valueOf(color));
         }
     }
 
@@ -177,14 +188,14 @@ final class ChartFillsParameter extends AbstractParameter {
         /**
          * {@inheritDoc}
          */
-        @Override
-        public String toString() {
-            final StringBuilder sb = new StringBuilder();
+        public void writeTo(final Appendable appendable) throws IOException {
+            appendable.append(String.valueOf(fillType)).append(",lg,");
+            appendInt(appendable, angle).append(',');
             int cnt = 0;
             for (ColorAndOffset co : colorAndOffsets) {
-                sb.append(cnt++ > 0 ? "," : "").append(co);
+                appendable.append(cnt++ > 0 ? "," : "");
+                co.writeTo(appendable);
             }
-            return fillType + ",lg," + angle + "," + sb.toString();
         }
     }
 
@@ -221,15 +232,14 @@ final class ChartFillsParameter extends AbstractParameter {
         /**
          * {@inheritDoc}
          */
-        @Override
-        public String toString() {
-            final StringBuilder sb = new StringBuilder();
+        public void writeTo(final Appendable appendable) throws IOException {
+            appendable.append(String.valueOf(fillType)).append(",ls,");
+            appendInt(appendable, angle).append(',');
             int cnt = 0;
             for (ColorAndWidth cw : colorAndWidths) {
-                sb.append(cnt++ > 0 ? ",": "").append(cw);
+                appendable.append(cnt++ > 0 ? "," : "");
+                cw.writeTo(appendable);
             }
-
-            return fillType + ",ls," + angle + "," + sb.toString();
         }
     }
 }
@@ -25,10 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
-import java.util.Locale;
 
 import com.googlecode.charts4j.Color;
 import com.googlecode.charts4j.Data;
@@ -49,7 +49,7 @@ final class ChartMarkersParameter extends AbstractParameter {
     private static final String           URL_PARAMETER_KEY = "chm";
 
     /** The markers. */
-    private final List<GoogleChartMarker> markers           = Lists.newLinkedList();
+    private final List<GoogleChartMarker> markers           = Lists.newArrayList();
 
     /**
      * Adds the fill area marker.
@@ -175,19 +175,28 @@ final class ChartMarkersParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (GoogleChartMarker m : markers) {
-            sb.append(cnt++ > 0 ? "|" : "").append(m);
+            appendable.append(cnt++ > 0 ? "|" : "");
+            m.writeTo(appendable);
         }
-        return !markers.isEmpty() ? sb.toString() : "";
     }
 
     /**
-     * The GoogleChartMarker tag interface.
+     * The GoogleChartMarker interface.
      */
     private interface GoogleChartMarker {
+
+        /**
+         * Write the marker to the appendable.
+         *
+         * @param appendable
+         *            the appendable
+         * @throws IOException
+         *             if the appendable cannot be written to
+         */
+        void writeTo(Appendable appendable) throws IOException;
     }
 
     /**
@@ -253,19 +262,18 @@ final class ChartMarkersParameter extends AbstractParameter {
         /**
          * {@inheritDoc}
          */
-        @Override
-        public String toString() {
-            final String returnString;
-            if (startIndex >= 0 && endIndex == startIndex + 1) {
-                returnString =  marker + "," + color + "," + dataSetIndex + "," + startIndex + "," + size + "," + priority;
-            }
-            else if (startIndex == -1) {
-                returnString =  marker + "," + color + "," + dataSetIndex + "," + startIndex + "," + size + "," + priority;
+        public void writeTo(final Appendable appendable) throws IOException {
+            appendable.append(marker).append(',').append(String.valueOf(color)).append(',');
+            appendInt(appendable, dataSetIndex).append(',');
+            appendInt(appendable, startIndex);
+            if (!(startIndex >= 0 && endIndex == startIndex + 1) && startIndex != -1) {
+                //(endIndex - 1)  ---> The GCA is end point inclusive.
+                appendable.append(':');
+                appendInt(appendable, endIndex - 1).append(':');
+                appendInt(appendable, n);
             }
-            else {//(endIndex - 1)  ---> The GCA is end point inclusive.
-                returnString =  marker + "," + color + "," + dataSetIndex + "," + startIndex + ":" + (endIndex - 1) + ":" + n + "," + size + "," + priority;
-            }
-            return returnString;
+            appendable.append(',');
+            appendInt(appendable, size).append(',').append(String.valueOf(priority));
         }
     }
 
@@ -380,9 +388,10 @@ final class ChartMarkersParameter extends AbstractParameter {
         /**
          * {@inheritDoc}
          */
-        @Override
-        public String toString() {
-            return fillAreaType + "," + color + "," + startLineIndex + "," + endLineIndex + ",0";
+        public void writeTo(final Appendable appendable) throws IOException {
+            appendable.append(String.valueOf(fillAreaType)).append(',').append(String.valueOf(color)).append(',');
+            appendInt(appendable, startLineIndex).append(',');
+            appendInt(appendable, endLineIndex).append(",0");
         }
     }
 
@@ -403,9 +412,6 @@ final class ChartMarkersParameter extends AbstractParameter {
         /** The end point. */
         private final double    endPoint;
 
-        /** The decimal formatter. */
-        private final DecimalFormat   decimalFormatter = new DecimalFormat("0.00", new DecimalFormatSymbols(Locale.US));
-
         /**
          * Instantiates a new range marker.
          *
@@ -428,9 +434,10 @@ final class ChartMarkersParameter extends AbstractParameter {
         /**
          * {@inheritDoc}
          */
-        @Override
-        public String toString() {
-            return rangeType + "," + color + ",0," + decimalFormatter.format(startPoint) + "," + decimalFormatter.format(endPoint);
+        public void writeTo(final Appendable appendable) throws IOException {
+            appendable.append(String.valueOf(rangeType)).append(',').append(String.valueOf(color)).append(",0,");
+            appendFixed(appendable, startPoint, 2).append(',');
+            appendFixed(appendable, endPoint, 2);
         }
     }
 
@@ -467,19 +474,38 @@ final class ChartMarkersParameter extends AbstractParameter {
         /**
          * {@inheritDoc}
          */
-        @Override
-        public String toString() {
-            final String s;
+        public void writeTo(final Appendable appendable) throws IOException {
             if (marker instanceof TextMarker) {
                 final TextMarker m = (TextMarker) marker;
-                s = "@" + (m.isFlagged() ? "f" : "t") + m.getText() + "," + m.getColor() + ",0," + xPos / Data.MAX_VALUE + ":" + yPos / Data.MAX_VALUE  + "," + m.getSize()  + "," + m.getPriority();
+                appendable.append('@').append(m.isFlagged() ? 'f' : 't').append(m.getText());
+                writePositionTo(appendable, m.getColor(), m.getSize(), m.getPriority());
             } else if (marker instanceof ShapeMarker) {
                 final ShapeMarker m = (ShapeMarker) marker;
-                s = "@" + m.getShape().toString() + "," + m.getColor() + ",0," + xPos / Data.MAX_VALUE + ":" + yPos / Data.MAX_VALUE  + "," + m.getSize() + "," + m.getPriority();
-            } else {
-                s = "";
+                appendable.append('@').append(m.getShape().toString());
+                writePositionTo(appendable, m.getColor(), m.getSize(), m.getPriority());
             }
-            return s;
+        }
+
+        /**
+         * Write the color, position, size and priority of the marker.
+         *
+         * @param appendable
+         *            the appendable
+         * @param color
+         *            the marker color
+         * @param size
+         *            the marker size
+         * @param priority
+         *            the marker priority
+         * @throws IOException
+         *             if the appendable cannot be written to
+         */
+        private void writePositionTo(final Appendable appendable, final Color color, final int size, final Priority priority) throws IOException {
+            appendable.append(',').append(String.valueOf(color)).append(",0,");
+            appendDouble(appendable, xPos / Data.MAX_VALUE).append(':');
+            appendDouble(appendable, yPos / Data.MAX_VALUE);
+            appendable.append(',');
+            appendInt(appendable, size).append(',').append(String.valueOf(priority));
         }
     }
 }
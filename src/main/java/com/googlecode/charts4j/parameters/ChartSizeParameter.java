@@ -25,6 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
+
 /**
  * Class for building chart size parameter string for the Google Chart API.
  *
@@ -66,7 +70,8 @@ final class ChartSizeParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        return width + "x" + height;
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendInt(appendable, width).append('x');
+        appendInt(appendable, height);
     }
 }
@@ -25,6 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
+
 import com.googlecode.charts4j.Color;
 
 /**
@@ -69,7 +73,8 @@ final class ChartTitleColorAndSizeParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        return color + "," + fontSize;
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendable.append(String.valueOf(color)).append(',');
+        appendInt(appendable, fontSize);
     }
 }
@@ -25,6 +25,8 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
+
 /**
  * Class for building chart title parameter string for the Google Chart API.
  *
@@ -60,7 +62,7 @@ final class ChartTitleParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        return ParameterUtil.utf8Encode(title);
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendable.append(ParameterUtil.utf8Encode(title));
     }
 }
@@ -25,6 +25,8 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
+
 /**
  * Class for building chart type parameter string for the Google Chart API.
  *
@@ -60,7 +62,7 @@ final class ChartTypeParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        return chartType + "";
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendable.append(String.valueOf(chartType));
     }
 }
@@ -25,6 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
+
 import com.googlecode.charts4j.Color;
 import com.googlecode.charts4j.Data;
 
@@ -55,6 +59,38 @@ public class ColorAndOffset {
         this.offset = offset;
     }
 
+    /**
+     * Get the color.
+     *
+     * @return the color
+     */
+    public Color getColor() {
+        return color;
+    }
+
+    /**
+     * Get the offset between 0 and 100.
+     *
+     * @return the offset
+     */
+    public double getOffset() {
+        return offset;
+    }
+
+    /**
+     * Write this color and offset to the appendable.
+     *
+     * @param appendable
+     *            the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    void writeTo(final Appendable appendable) throws IOException {
+        //The Google Chart API expect a value between 0 and 1
+        appendable.append(String.valueOf(color)).append(',');
+        appendDouble(appendable, offset / Data.MAX_VALUE);
+    }
+
     /**
      * {@inheritDoc}
      */
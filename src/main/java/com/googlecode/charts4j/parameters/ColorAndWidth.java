@@ -25,6 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
+
 import com.googlecode.charts4j.Color;
 import com.googlecode.charts4j.Data;
 
@@ -55,6 +59,20 @@ public class ColorAndWidth {
         this.width = width;
     }
 
+    /**
+     * Write this color and width to the appendable.
+     *
+     * @param appendable
+     *            the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    void writeTo(final Appendable appendable) throws IOException {
+        //The Google Chart API expect a value between 0 and 1
+        appendable.append(String.valueOf(color)).append(',');
+        appendDouble(appendable, width / Data.MAX_VALUE);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -25,6 +25,7 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.Color;
@@ -42,7 +43,7 @@ final class ColorsParameter extends AbstractParameter {
     private static final String URL_PARAMETER_KEY = "chco";
 
     /** The colors. */
-    private final List<List<Color>>   colors            = Lists.newLinkedList();
+    private final List<List<Color>>   colors            = Lists.newArrayList();
 
     /**
      * Add the colors. This is a 2D data structure because in some cases
@@ -55,7 +56,7 @@ final class ColorsParameter extends AbstractParameter {
      */
     void addColors(final ImmutableList<? extends ImmutableList<? extends Color>> colors) {
         for (ImmutableList<? extends Color> listOfColors : colors) {
-            final List<Color> l = Lists.newLinkedList();
+            final List<Color> l = Lists.newArrayList();
             l.addAll(listOfColors);
             this.colors.add(l);
         }
@@ -73,16 +74,14 @@ final class ColorsParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (List<Color> l : colors) {
-            sb.append(cnt++ > 0 ? "," : "");
+            appendable.append(cnt++ > 0 ? "," : "");
             int i = 0;
             for (Color color : l) {
-                sb.append(i++ > 0 ? "|" : "").append(color);
+                appendable.append(i++ > 0 ? "|" : "").append(String.valueOf(color));
             }
         }
-        return !colors.isEmpty() ? sb.toString() : "";
     }
 }
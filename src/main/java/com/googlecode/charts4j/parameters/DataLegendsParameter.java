@@ -25,6 +25,7 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.ImmutableList;
@@ -41,7 +42,7 @@ final class DataLegendsParameter extends AbstractParameter {
     private static final String URL_PARAMETER_KEY = "chdl";
 
     /** The legends. */
-    private final List<String>  legends           = Lists.newLinkedList();
+    private final List<String>  legends           = Lists.newArrayList();
 
     /**
      * Adds the legends.
@@ -65,13 +66,10 @@ final class DataLegendsParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (String legend : legends) {
-            final String l = ParameterUtil.utf8Encode(legend);
-            sb.append(cnt++ > 0 ? "|" : "").append(l);
+            appendable.append(cnt++ > 0 ? "|" : "").append(ParameterUtil.utf8Encode(legend));
         }
-        return !legends.isEmpty() ? sb.toString() : "";
     }
 }
@@ -25,10 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
+import java.io.IOException;
 import java.util.List;
-import java.util.Locale;
+import java.util.concurrent.Executor;
 
 import com.googlecode.charts4j.Data;
 import com.googlecode.charts4j.DataEncoding;
@@ -42,44 +41,13 @@ import com.googlecode.charts4j.collect.Lists;
 final class DataParameter extends AbstractParameter {
 
     /** The Google Chart API data parameter. */
-    private static final String   URL_PARAMETER_KEY       = "chd";
-
-    /** The decimal formatter. */
-    private final DecimalFormat   decimalFormatter        = new DecimalFormat("##0.0", new DecimalFormatSymbols(Locale.US));
-
-
-    /** The Constant EXTENDED_ENCODING_CHARS. */
-    private static final char[]   EXTENDED_ENCODING_CHARS = {'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z', 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i',
-            'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '-', '.'};
-
-    /** The Constant SIMPLE_ENCODING_CHARS. */
-    private static final char[]   SIMPLE_ENCODING_CHARS   = {'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z', 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i',
-            'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9'};
-
-    /** The Constant EXTENDED_ENCODING. */
-    private static final String[] EXTENDED_ENCODING       = new String[4096];
-
-    /** The Constant SIMPLE_ENCODING. */
-    private static final String[] SIMPLE_ENCODING         = new String[62];
-
-    static { // Fill the encoding arrays in static block.
-        int cnt = 0;
-        for (int i = 0; i < EXTENDED_ENCODING_CHARS.length; i++) {
-            for (int j = 0; j < EXTENDED_ENCODING_CHARS.length; j++) {
-                EXTENDED_ENCODING[cnt++] = EXTENDED_ENCODING_CHARS[i] + "" + EXTENDED_ENCODING_CHARS[j];
-            }
-        }
-        cnt = 0;
-        for (int i = 0; i < SIMPLE_ENCODING_CHARS.length; i++) {
-            SIMPLE_ENCODING[cnt++] = SIMPLE_ENCODING_CHARS[i] + "";
-        }
-    }
+    private static final String URL_PARAMETER_KEY = "chd";
 
     /** The datas. */
-    private final List<Data>      datas                   = Lists.newLinkedList();
+    private final List<Data>    datas             = Lists.newArrayList();
 
     /** The data encoding. */
-    private DataEncoding          dataEncoding            = DataEncoding.EXTENDED;
+    private DataEncoding        dataEncoding      = DataEncoding.EXTENDED;
 
     /**
      * Instantiates a new data parameter.
@@ -118,90 +86,74 @@ final class DataParameter extends AbstractParameter {
     }
 
     /**
-     * Extended encoding.
-     *
-     * @param data
-     *            the data
-     *
-     * @return the string
+     * {@inheritDoc}
      */
-    private String extendedEncoding(final double[] data) {
-
-        if (data == null || data.length == 0) {
-            return "";
-        }
-
-        final StringBuilder encodedData = new StringBuilder();
-        for (double datum : data) { // The following cast to int is safe.
-            final int index = (int) ((datum >= Data.MIN_VALUE && datum <= Data.MAX_VALUE) ? Math.round((datum / Data.MAX_VALUE) * (EXTENDED_ENCODING.length - 1)) : -1);
-            encodedData.append((index < 0 || index > (EXTENDED_ENCODING.length - 1)) ? "__" : EXTENDED_ENCODING[index]);
-        }
-        return encodedData.toString();
+    @Override
+    public String getKey() {
+        return URL_PARAMETER_KEY;
     }
 
     /**
-     * Simple encoding.
-     *
-     * @param data
-     *            the data
-     *
-     * @return the string
+     * {@inheritDoc}
      */
-    private String simpleEncoding(final double[] data) {
-
-        if (data == null || data.length == 0) {
-            return "";
-        }
-
-        final StringBuilder encodedData = new StringBuilder();
-        for (double datum : data) { // The following cast to int is safe.
-            int index = (int) ((datum >= Data.MIN_VALUE && datum <= Data.MAX_VALUE) ? Math.round((datum / Data.MAX_VALUE) * (SIMPLE_ENCODING.length - 1)) : -1);
-            encodedData.append((index < 0 || index > (SIMPLE_ENCODING.length - 1)) ? "_" : SIMPLE_ENCODING[index]);
-        }
-        return encodedData.toString();
+    @Override
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendable.append(dataEncoding.toString());
+        // The prefix has flushed the parameter key, so the encoded series can
+        // bypass the parameter writer and go straight to the target.
+        final Appendable target = appendable instanceof ParameterWriter ? ((ParameterWriter) appendable).getAppendable() : appendable;
+        writeSeries(dataEncoding, datas, target);
     }
 
     /**
-     * Text encoding.
-     *
-     * @param data
-     *            the data
+     * Write the encoded data series, without the encoding prefix.
      *
-     * @return the string
+     * @param dataEncoding
+     *            the data encoding
+     * @param datas
+     *            the data series
+     * @param appendable
+     *            the appendable to write to
+     * @throws IOException
+     *             if the appendable cannot be written to
      */
-    private String textEncoding(final double[] data) {
-        if (data == null || data.length == 0) {
-            return "";
-        }
-
-        final StringBuilder encodedData = new StringBuilder();
-        int count = 0;
-        for (double datum : data) {
-            encodedData.append(count++ > 0 ? "," : "").append(datum >= Data.MIN_VALUE && datum <= Data.MAX_VALUE ? decimalFormatter.format(datum) : "-1");
+    static void writeSeries(final DataEncoding dataEncoding, final List<? extends Data> datas, final Appendable appendable) throws IOException {
+        final String seperator = dataEncoding.equals(DataEncoding.TEXT) ? "|" : ",";
+        int cnt = 0;
+        for (Data data : datas) {
+            appendable.append(cnt++ > 0 ? seperator : "");
+            dataEncoding.encode(data, appendable);
         }
-        return encodedData.toString();
     }
 
     /**
-     * {@inheritDoc}
-     */
-    @Override
-    public String getKey() {
-        return URL_PARAMETER_KEY;
-    }
-
-    /**
-     * {@inheritDoc}
+     * Write the encoded data series, without the encoding prefix, encoding
+     * each series in parallel on the executor.
+     *
+     * @param dataEncoding
+     *            the data encoding
+     * @param datas
+     *            the data series
+     * @param appendable
+     *            the appendable to write to
+     * @param executor
+     *            the executor that runs the encoding tasks
+     * @param threshold
+     *            the minimum number of values encoded by a task
+     * @throws IOException
+     *             if the appendable cannot be written to
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             data to be encoded
+     *
+     * @see DataEncoding#encode(Data, Appendable, Executor, int)
      */
-    @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder(dataEncoding + "");
+    static void writeSeries(final DataEncoding dataEncoding, final List<? extends Data> datas, final Appendable appendable, final Executor executor, final int threshold) throws IOException, InterruptedException {
         final String seperator = dataEncoding.equals(DataEncoding.TEXT) ? "|" : ",";
         int cnt = 0;
         for (Data data : datas) {
-            final String dataString = dataEncoding.equals(DataEncoding.SIMPLE) ? simpleEncoding(data.getData()) : dataEncoding.equals(DataEncoding.TEXT) ? textEncoding(data.getData()) : extendedEncoding(data.getData());
-            sb.append(cnt++ > 0 ? seperator : "").append(dataString);
+            appendable.append(cnt++ > 0 ? seperator : "");
+            dataEncoding.encode(data, appendable, executor, threshold);
         }
-        return sb.toString();
     }
 }
@@ -0,0 +1,123 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.parameters;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import com.googlecode.charts4j.Data;
+import com.googlecode.charts4j.DataEncoding;
+
+/**
+ * <b>For Charts4J internal use only.</b> A Google Chart API URL in which every
+ * parameter except the data has already been serialized. The URL for new data
+ * is written by copying the serialized parameters and encoding only the data.
+ * Instances are immutable and may be shared between threads.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ *
+ * @see ParameterManager#compileDataTemplate()
+ */
+public final class DataTemplate {
+
+    /** The URL up to and including the data encoding prefix. */
+    private final String       prefix;
+
+    /** The data encoding. */
+    private final DataEncoding dataEncoding;
+
+    /** The URL after the data parameter. */
+    private final String       suffix;
+
+    /**
+     * Instantiates a new data template.
+     *
+     * @param prefix
+     *            the URL up to and including the data encoding prefix
+     * @param dataEncoding
+     *            the data encoding
+     * @param suffix
+     *            the URL after the data parameter
+     */
+    DataTemplate(final String prefix, final DataEncoding dataEncoding, final String suffix) {
+        this.prefix = prefix;
+        this.dataEncoding = dataEncoding;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Write the URL for the given data to the appendable.
+     *
+     * @param appendable
+     *            the appendable to write the URL to
+     * @param datas
+     *            the data series, in the order they appear in the URL
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public void writeURL(final Appendable appendable, final List<? extends Data> datas) throws IOException {
+        appendable.append(prefix);
+        DataParameter.writeSeries(dataEncoding, datas, appendable);
+        appendable.append(suffix);
+    }
+
+    /**
+     * Write the URL for the given data to the appendable, encoding each data
+     * series in parallel on the executor.
+     *
+     * @param appendable
+     *            the appendable to write the URL to
+     * @param datas
+     *            the data series, in the order they appear in the URL
+     * @param executor
+     *            the executor that runs the encoding tasks
+     * @param threshold
+     *            the minimum number of values encoded by a task
+     * @throws IOException
+     *             if the appendable cannot be written to
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting for the
+     *             data to be encoded
+     *
+     * @see DataEncoding#encode(Data, Appendable, Executor, int)
+     */
+    public void writeURL(final Appendable appendable, final List<? extends Data> datas, final Executor executor, final int threshold) throws IOException, InterruptedException {
+        appendable.append(prefix);
+        DataParameter.writeSeries(dataEncoding, datas, appendable, executor, threshold);
+        appendable.append(suffix);
+    }
+
+    /**
+     * Get the length of the URL without the encoded data series. This is a
+     * lower bound on the length of every URL written by this template.
+     *
+     * @return the length of the serialized parameters
+     */
+    public int getStaticLength() {
+        return prefix.length() + suffix.length();
+    }
+}
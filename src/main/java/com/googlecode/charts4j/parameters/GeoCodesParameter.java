@@ -25,6 +25,7 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.Lists;
@@ -41,7 +42,7 @@ final class GeoCodesParameter extends AbstractParameter {
     private static final String URL_PARAMETER_KEY = "chld";
 
     /** The geo codes. */
-    private final List<String>  geoCodes          = Lists.newLinkedList();
+    private final List<String>  geoCodes          = Lists.newArrayList();
 
     /**
      * Adds the geo code.
@@ -65,11 +66,9 @@ final class GeoCodesParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         for (String gc : geoCodes) {
-            sb.append(gc);
+            appendable.append(gc);
         }
-        return !geoCodes.isEmpty() ? sb.toString() : "";
     }
 }
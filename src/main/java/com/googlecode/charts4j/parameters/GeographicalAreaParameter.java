@@ -25,6 +25,8 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
+
 import com.googlecode.charts4j.GeographicalArea;
 
 /**
@@ -62,7 +64,7 @@ final class GeographicalAreaParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        return geographicalArea + "";
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendable.append(String.valueOf(geographicalArea));
     }
 }
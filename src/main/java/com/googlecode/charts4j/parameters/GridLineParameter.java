@@ -25,6 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
+
 /**
  * Class for building grid line parameter string for the Google Chart API.
  *
@@ -78,7 +82,10 @@ final class GridLineParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        return xAxisStepSize + "," + yAxisStepSize + "," + lengthOfLineSegment + "," + lengthOfBlankSegment;
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendDouble(appendable, xAxisStepSize).append(',');
+        appendDouble(appendable, yAxisStepSize).append(',');
+        appendInt(appendable, lengthOfLineSegment).append(',');
+        appendInt(appendable, lengthOfBlankSegment);
     }
 }
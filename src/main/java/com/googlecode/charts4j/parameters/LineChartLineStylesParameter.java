@@ -25,6 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.LineStyle;
@@ -41,7 +44,7 @@ final class LineChartLineStylesParameter extends AbstractParameter {
     private static final String          URL_PARAMETER_KEY = "chls";
 
     /** The line styles. */
-    private final List<LineStyleWrapper> lineStyles        = Lists.newLinkedList();
+    private final List<LineStyleWrapper> lineStyles        = Lists.newArrayList();
 
     /**
      * Add a line style.
@@ -65,13 +68,12 @@ final class LineChartLineStylesParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (LineStyleWrapper l : lineStyles) {
-            sb.append(cnt++ > 0 ? "|" : "").append(l);
+            appendable.append(cnt++ > 0 ? "|" : "");
+            l.writeTo(appendable);
         }
-        return !lineStyles.isEmpty() ? sb.toString() : "";
     }
 
     /**
@@ -93,11 +95,17 @@ final class LineChartLineStylesParameter extends AbstractParameter {
         }
 
         /**
-         * {@inheritDoc}
+         * Write the line style to the appendable.
+         *
+         * @param appendable
+         *            the appendable
+         * @throws IOException
+         *             if the appendable cannot be written to
          */
-        @Override
-        public String toString() {
-            return lineStyle.getLineThickness() + "," + lineStyle.getLengthOfLineSegment() + "," + lineStyle.getLengthOfBlankSegment();
+        private void writeTo(final Appendable appendable) throws IOException {
+            appendInt(appendable, lineStyle.getLineThickness()).append(',');
+            appendInt(appendable, lineStyle.getLengthOfLineSegment()).append(',');
+            appendInt(appendable, lineStyle.getLengthOfBlankSegment());
         }
     }
 }
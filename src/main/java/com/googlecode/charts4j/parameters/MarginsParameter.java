@@ -25,6 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
+
 /**
  * Class for defining chart margins.
  */
@@ -92,9 +96,16 @@ final class MarginsParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final String legendMarginsString = legendMargins != null ? "|" + legendMargins.width + "," + legendMargins.height : "";
-        return leftMargin + "," + rightMargin + "," + topMargin + "," + bottomMargin + legendMarginsString;
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendInt(appendable, leftMargin).append(',');
+        appendInt(appendable, rightMargin).append(',');
+        appendInt(appendable, topMargin).append(',');
+        appendInt(appendable, bottomMargin);
+        if (legendMargins != null) {
+            appendable.append('|');
+            appendInt(appendable, legendMargins.width).append(',');
+            appendInt(appendable, legendMargins.height);
+        }
     }
 
     /**
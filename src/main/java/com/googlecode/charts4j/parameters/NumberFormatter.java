@@ -0,0 +1,318 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.parameters;
+
+import static com.googlecode.charts4j.collect.Preconditions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * <b>For Charts4J internal use only.</b> Locale independent number formatting
+ * that writes digits straight to an {@link Appendable}. The output is
+ * identical to {@link Double#toString(double)}, {@link Integer#toString(int)}
+ * and {@link DecimalFormat} with fixed fraction digits and US symbols, but
+ * common values are formatted without creating any objects. This class is
+ * stateless and therefore thread safe.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public final class NumberFormatter {
+
+    /** Powers of ten that fit in a long. */
+    private static final long[] POWERS_OF_TEN       = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L,
+            10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L};
+
+    /** Most fraction digits supported by fixed point formatting. */
+    public static final int     MAX_FRACTION_DIGITS = 6;
+
+    /**
+     * Scaled values below this limit are rounded with double arithmetic. The
+     * rounding error of scaling is then far below {@link #TIE_MARGIN}.
+     */
+    private static final double FAST_PATH_LIMIT     = 1e9;
+
+    /**
+     * Scaled values whose fraction is this close to one half are rounded
+     * exactly with {@link BigDecimal}.
+     */
+    private static final double TIE_MARGIN          = 1e-6;
+
+    /** Smallest magnitude {@link Double#toString(double)} prints without an exponent. */
+    private static final double MIN_PLAIN_DOUBLE    = 1e-3;
+
+    /** Magnitude from which {@link Double#toString(double)} prints with an exponent. */
+    private static final double MAX_PLAIN_DOUBLE    = 1e7;
+
+    /**
+     * Cannot instantiate.
+     */
+    private NumberFormatter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Append an int. Identical to appending {@link Integer#toString(int)}.
+     *
+     * @param appendable
+     *            the appendable
+     * @param value
+     *            the value
+     * @return the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public static Appendable appendInt(final Appendable appendable, final int value) throws IOException {
+        return appendLong(appendable, value);
+    }
+
+    /**
+     * Append a long. Identical to appending {@link Long#toString(long)}.
+     *
+     * @param appendable
+     *            the appendable
+     * @param value
+     *            the value
+     * @return the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public static Appendable appendLong(final Appendable appendable, final long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            return appendable.append(Long.toString(value));
+        }
+        long v = value;
+        if (v < 0) {
+            appendable.append('-');
+            v = -v;
+        }
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && v >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return appendDigits(appendable, v, digits);
+    }
+
+    /**
+     * Append a double. Identical to appending {@link Double#toString(double)}.
+     * Values in plain notation with up to {@link #MAX_FRACTION_DIGITS}
+     * significant fraction digits are formatted without creating objects.
+     *
+     * @param appendable
+     *            the appendable
+     * @param value
+     *            the value
+     * @return the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public static Appendable appendDouble(final Appendable appendable, final double value) throws IOException {
+        final double abs = Math.abs(value);
+        if (abs == 0) {
+            return appendable.append(isNegative(value) ? "-0.0" : "0.0");
+        }
+        if (abs >= MIN_PLAIN_DOUBLE && abs < MAX_PLAIN_DOUBLE) {
+            // The shortest decimal that converts back to the value is what
+            // Double.toString prints.
+            for (int fractionDigits = 0; fractionDigits <= MAX_FRACTION_DIGITS; fractionDigits++) {
+                final double scaled = Math.rint(abs * POWERS_OF_TEN[fractionDigits]);
+                if (scaled / POWERS_OF_TEN[fractionDigits] == abs) {
+                    if (value < 0) {
+                        appendable.append('-');
+                    }
+                    appendUnscaled(appendable, (long) scaled, fractionDigits);
+                    return fractionDigits == 0 ? appendable.append(".0") : appendable;
+                }
+            }
+        }
+        return appendable.append(Double.toString(value));
+    }
+
+    /**
+     * Append a number. Doubles and integers are formatted without creating
+     * objects; other numbers are appended with their <code>toString</code>
+     * method.
+     *
+     * @param appendable
+     *            the appendable
+     * @param value
+     *            the value
+     * @return the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public static Appendable appendNumber(final Appendable appendable, final Number value) throws IOException {
+        if (value instanceof Double) {
+            return appendDouble(appendable, value.doubleValue());
+        } else if (value instanceof Integer) {
+            return appendInt(appendable, value.intValue());
+        } else {
+            return appendable.append(String.valueOf(value));
+        }
+    }
+
+    /**
+     * Is a number written by {@link #appendNumber(Appendable, Number)} as an
+     * integer? Numbers other than doubles and floats are, if their value is a
+     * whole number.
+     *
+     * @param value
+     *            the value
+     * @return true if the number is written as an integer
+     */
+    public static boolean isIntegral(final Number value) {
+        return !(value instanceof Double || value instanceof Float);
+    }
+
+    /**
+     * Get the double value of a number that {@link #appendDouble(Appendable, double)}
+     * writes the way the number's <code>toString</code> method does. Floats
+     * are converted through their decimal form so that, for instance, 0.1f
+     * stays 0.1.
+     *
+     * @param value
+     *            the value
+     * @return the double value
+     */
+    public static double toDouble(final Number value) {
+        return value instanceof Float ? Double.parseDouble(value.toString()) : value.doubleValue();
+    }
+
+    /**
+     * Append a double with a fixed number of fraction digits. Identical to
+     * formatting with a {@link DecimalFormat} pattern such as
+     * <code>0.00</code> with US symbols: the exact binary value is rounded
+     * half even, there is no grouping and negative values keep their sign even
+     * when they round to zero.
+     *
+     * @param appendable
+     *            the appendable
+     * @param value
+     *            the value
+     * @param fractionDigits
+     *            the number of fraction digits. Must be between 0 and
+     *            {@link #MAX_FRACTION_DIGITS}.
+     * @return the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public static Appendable appendFixed(final Appendable appendable, final double value, final int fractionDigits) throws IOException {
+        checkArgument(fractionDigits >= 0 && fractionDigits <= MAX_FRACTION_DIGITS, "fractionDigits must be >= 0 and <= " + MAX_FRACTION_DIGITS + ": %s", fractionDigits);
+        final double abs = Math.abs(value);
+        final double scaled = abs * POWERS_OF_TEN[fractionDigits];
+        if (!(scaled < FAST_PATH_LIMIT)) {
+            // Large, infinite or NaN.
+            return appendable.append(newDecimalFormat(fractionDigits).format(value));
+        }
+        final double floor = Math.floor(scaled);
+        final double fraction = scaled - floor;
+        final long unscaled;
+        if (Math.abs(fraction - 0.5) < TIE_MARGIN) {
+            unscaled = new BigDecimal(abs).setScale(fractionDigits, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+        } else {
+            unscaled = (long) floor + (fraction > 0.5 ? 1 : 0);
+        }
+        if (isNegative(value)) {
+            appendable.append('-');
+        }
+        return appendUnscaled(appendable, unscaled, fractionDigits);
+    }
+
+    /**
+     * Append a non-negative unscaled value with the given number of fraction
+     * digits, e.g. 1205 with 2 fraction digits is appended as 12.05.
+     *
+     * @param appendable
+     *            the appendable
+     * @param unscaled
+     *            the unscaled value
+     * @param fractionDigits
+     *            the number of fraction digits
+     * @return the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    private static Appendable appendUnscaled(final Appendable appendable, final long unscaled, final int fractionDigits) throws IOException {
+        appendLong(appendable, unscaled / POWERS_OF_TEN[fractionDigits]);
+        if (fractionDigits > 0) {
+            appendable.append('.');
+            appendDigits(appendable, unscaled % POWERS_OF_TEN[fractionDigits], fractionDigits);
+        }
+        return appendable;
+    }
+
+    /**
+     * Append the given number of least significant digits of a non-negative
+     * value, padding with leading zeros.
+     *
+     * @param appendable
+     *            the appendable
+     * @param value
+     *            the value
+     * @param digits
+     *            the number of digits
+     * @return the appendable
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    private static Appendable appendDigits(final Appendable appendable, final long value, final int digits) throws IOException {
+        for (int i = digits - 1; i >= 0; i--) {
+            appendable.append((char) ('0' + (value / POWERS_OF_TEN[i]) % 10));
+        }
+        return appendable;
+    }
+
+    /**
+     * Whether the sign bit of the value is set. This is true for -0.0.
+     *
+     * @param value
+     *            the value
+     * @return true if the value is negative
+     */
+    private static boolean isNegative(final double value) {
+        return Double.doubleToRawLongBits(value) < 0;
+    }
+
+    /**
+     * Create the equivalent decimal format for values outside of the fast
+     * path.
+     *
+     * @param fractionDigits
+     *            the number of fraction digits
+     * @return the decimal format
+     */
+    private static DecimalFormat newDecimalFormat(final int fractionDigits) {
+        final StringBuilder pattern = new StringBuilder("0");
+        for (int i = 0; i < fractionDigits; i++) {
+            pattern.append(i == 0 ? ".0" : "0");
+        }
+        return new DecimalFormat(pattern.toString(), new DecimalFormatSymbols(Locale.US));
+    }
+}
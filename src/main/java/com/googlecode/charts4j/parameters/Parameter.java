@@ -25,6 +25,8 @@
 
 package com.googlecode.charts4j.parameters;
 
+import java.io.IOException;
+
 /**
  * <b>For Charts4J internal use only.</b> All implementors of this interface
  * are responsible for creating one Google Chart API URL parameter string.
@@ -47,6 +49,18 @@ interface Parameter {
      */
     String getValue();
 
+    /**
+     * Write the Google Chart API URL parameter value to the appendable without
+     * building an intermediate string. Nothing is written if the value is
+     * empty.
+     *
+     * @param appendable
+     *            the appendable to write to
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    void writeTo(Appendable appendable) throws IOException;
+
     /**
      * Creates the Google Chart API URL parameter string.
      *
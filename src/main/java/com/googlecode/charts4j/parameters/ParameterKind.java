@@ -0,0 +1,189 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.parameters;
+
+/**
+ * <b>For Charts4J internal use only.</b> The kinds of Google Chart API URL
+ * parameters. Each kind owns one slot in the {@link ParameterManager}. The
+ * constants are declared in alphabetical order of their parameter keys, which
+ * is the order the parameters appear in the URL. Because <code>=</code> sorts
+ * before any letter, the URL is therefore canonical: its parameters are in
+ * the same order as {@link com.googlecode.charts4j.UrlUtil#normalize(String)}
+ * would put them.
+ *
+ * <p>
+ * Kinds whose parameters accumulate values (e.g. markers) create their
+ * parameter on first use through {@link #newParameter()}. The other kinds
+ * are set with a fully constructed parameter.
+ * </p>
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+enum ParameterKind {
+    /** chbh. */
+    BAR_CHART_WIDTH_AND_SPACING,
+    /** chco. */
+    COLORS {
+        @Override
+        Parameter newParameter() {
+            return new ColorsParameter();
+        }
+    },
+    /** chd. */
+    DATA {
+        @Override
+        Parameter newParameter() {
+            return new DataParameter();
+        }
+    },
+    /** chdl. */
+    DATA_LEGENDS {
+        @Override
+        Parameter newParameter() {
+            return new DataLegendsParameter();
+        }
+    },
+    /** chdlp. */
+    LEGEND_POSITION,
+    /** chf. */
+    CHART_FILLS {
+        @Override
+        Parameter newParameter() {
+            return new ChartFillsParameter();
+        }
+    },
+    /** chg. */
+    GRID_LINE,
+    /** chl. */
+    PIE_CHART_AND_GOOGLE_O_METER_LEGEND {
+        @Override
+        Parameter newParameter() {
+            return new PieChartAndGoogleOMeterLegendParameter();
+        }
+    },
+    /** chld. */
+    GEO_CODES {
+        @Override
+        Parameter newParameter() {
+            return new GeoCodesParameter();
+        }
+    },
+    /** chls. */
+    LINE_CHART_LINE_STYLES {
+        @Override
+        Parameter newParameter() {
+            return new LineChartLineStylesParameter();
+        }
+    },
+    /** chm. */
+    CHART_MARKERS {
+        @Override
+        Parameter newParameter() {
+            return new ChartMarkersParameter();
+        }
+    },
+    /** chma. */
+    MARGINS {
+        @Override
+        Parameter newParameter() {
+            return new MarginsParameter();
+        }
+    },
+    /** chp. Bar charts only, so it never clashes with the pie chart orientation. */
+    BAR_CHART_ZERO_LINES {
+        @Override
+        Parameter newParameter() {
+            return new BarChartZeroLinesParameter();
+        }
+    },
+    /** chp. Pie charts only, so it never clashes with the bar chart zero lines. */
+    PIE_CHART_ORIENTATION,
+    /** chs. */
+    CHART_SIZE,
+    /** cht. */
+    CHART_TYPE,
+    /** chtm. */
+    GEOGRAPHICAL_AREA,
+    /** chts. */
+    CHART_TITLE_COLOR_AND_SIZE,
+    /** chtt. */
+    CHART_TITLE,
+    /** chxl. */
+    AXIS_LABELS {
+        @Override
+        Parameter newParameter() {
+            return new AxisLabelsParameter();
+        }
+    },
+    /** chxp. */
+    AXIS_LABEL_POSITIONS {
+        @Override
+        Parameter newParameter() {
+            return new AxisLabelPositionsParameter();
+        }
+    },
+    /** chxr. */
+    AXIS_RANGES {
+        @Override
+        Parameter newParameter() {
+            return new AxisRangesParameter();
+        }
+    },
+    /** chxs. */
+    AXIS_STYLES {
+        @Override
+        Parameter newParameter() {
+            return new AxisStylesParameter();
+        }
+    },
+    /** chxt. */
+    AXIS_TYPES {
+        @Override
+        Parameter newParameter() {
+            return new AxisTypesParameter();
+        }
+    },
+    /** chxtc. */
+    TICK_MARK_LENGTH {
+        @Override
+        Parameter newParameter() {
+            return new TickMarkLengthParameter();
+        }
+    };
+
+    /**
+     * Create an empty parameter of this kind, for kinds whose parameters
+     * accumulate values.
+     *
+     * @return the new parameter
+     * @throws UnsupportedOperationException
+     *             if parameters of this kind must be set rather than
+     *             accumulated
+     */
+    Parameter newParameter() {
+        throw new UnsupportedOperationException(this + " parameters must be set, not accumulated.");
+    }
+}
@@ -25,9 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -40,7 +40,9 @@ import com.googlecode.charts4j.LegendPosition;
 import com.googlecode.charts4j.LineStyle;
 import com.googlecode.charts4j.Marker;
 import com.googlecode.charts4j.Priority;
+import com.googlecode.charts4j.collect.DoubleList;
 import com.googlecode.charts4j.collect.ImmutableList;
+import com.googlecode.charts4j.collect.IntList;
 import com.googlecode.charts4j.collect.Lists;
 import com.googlecode.charts4j.collect.Maps;
 
@@ -53,11 +55,14 @@ import com.googlecode.charts4j.collect.Maps;
  */
 public final class ParameterManager {
 
-    /** The parameter map. */
-    private final Map<Class<? extends Parameter>, Parameter> parameterMap = Maps.newHashMap();
+    /** All parameter kinds, in URL order. */
+    private static final ParameterKind[] KINDS      = ParameterKind.values();
+
+    /** The parameters, indexed by the ordinal of their kind. */
+    private final Parameter[]            parameters = new Parameter[KINDS.length];
 
     /** The Google Chart API URL. */
-    private String                                     url;
+    private String                       url;
 
     /**
      * Instantiates a new parameter manager with the Google Chart API URL.
@@ -73,7 +78,7 @@ public final class ParameterManager {
      */
     public void init(final String url) {
         this.url = url;
-        parameterMap.clear();
+        Arrays.fill(parameters, null);
     }
 
     /**
@@ -83,9 +88,11 @@ public final class ParameterManager {
      *            the index
      * @param positions
      *            the positions
+     * @param integralPositions
+     *            indices of the positions that are written as integers
      */
-    public void addAxisLabelPosition(final int index, final ImmutableList<? extends Number> positions) {
-        getParameter(AxisLabelPositionsParameter.class).addLabelPosition(index, positions);
+    public void addAxisLabelPosition(final int index, final DoubleList positions, final IntList integralPositions) {
+        ((AxisLabelPositionsParameter) getParameter(ParameterKind.AXIS_LABEL_POSITIONS)).addLabelPosition(index, positions, integralPositions);
     }
 
     /**
@@ -97,7 +104,7 @@ public final class ParameterManager {
      *            the labels
      */
     public void addAxisLabels(final int index, final ImmutableList<? extends String> labels) {
-        getParameter(AxisLabelsParameter.class).addAxisLabels(index, labels);
+        ((AxisLabelsParameter) getParameter(ParameterKind.AXIS_LABELS)).addAxisLabels(index, labels);
     }
 
     /**
@@ -113,7 +120,7 @@ public final class ParameterManager {
      *            the numeric label interval
      */
     public void addAxisRange(final int index, final double startOfRange, final double endOfRange, final double interval) {
-        getParameter(AxisRangesParameter.class).addAxisRange(index, startOfRange, endOfRange, interval);
+        ((AxisRangesParameter) getParameter(ParameterKind.AXIS_RANGES)).addAxisRange(index, startOfRange, endOfRange, interval);
     }
 
     /**
@@ -125,7 +132,7 @@ public final class ParameterManager {
      *            the axisStyle
      */
     public void addAxisStyle(final int index, final AxisStyle axisStyle) {
-        getParameter(AxisStylesParameter.class).addAxisStyle(index, axisStyle);
+        ((AxisStylesParameter) getParameter(ParameterKind.AXIS_STYLES)).addAxisStyle(index, axisStyle);
     }
 
     /**
@@ -137,7 +144,7 @@ public final class ParameterManager {
      *            the tick mark length
      */
     public void addTickMarkLength(final int index, final int tickMarkLength) {
-        getParameter(TickMarkLengthParameter.class).addTickMarkLength(index, tickMarkLength);
+        ((TickMarkLengthParameter) getParameter(ParameterKind.TICK_MARK_LENGTH)).addTickMarkLength(index, tickMarkLength);
     }
 
     /**
@@ -147,7 +154,7 @@ public final class ParameterManager {
      *            the axis types
      */
     public void addAxisTypes(final AxisTypes axisTypes) {
-        getParameter(AxisTypesParameter.class).addAxisTypes(axisTypes);
+        ((AxisTypesParameter) getParameter(ParameterKind.AXIS_TYPES)).addAxisTypes(axisTypes);
     }
 
     /**
@@ -161,7 +168,7 @@ public final class ParameterManager {
      *            the space between groups
      */
     public void setBarChartWidthAndSpacingParameter(final int width, final int spaceBetweenBarsInGroup, final int spaceBetweenGroups) {
-        parameterMap.put(BarChartWidthAndSpacingParameter.class, new BarChartWidthAndSpacingParameter(width, spaceBetweenBarsInGroup, spaceBetweenGroups));
+        setParameter(ParameterKind.BAR_CHART_WIDTH_AND_SPACING, new BarChartWidthAndSpacingParameter(width, spaceBetweenBarsInGroup, spaceBetweenGroups));
     }
 
     /**
@@ -171,7 +178,7 @@ public final class ParameterManager {
      *            the new bar chart zero line parameter
      */
     public void setBarChartZeroLineParameter(final double d) {
-        getParameter(BarChartZeroLinesParameter.class).addZeroLine(d);
+        ((BarChartZeroLinesParameter) getParameter(ParameterKind.BAR_CHART_ZERO_LINES)).addZeroLine(d);
     }
 
     /**
@@ -185,7 +192,7 @@ public final class ParameterManager {
      *            the color and offsets
      */
     public void addLinearGradientFill(final FillType fillType, final int angle, final ImmutableList<? extends ColorAndOffset> colorAndOffsets) {
-        getParameter(ChartFillsParameter.class).addLinearGradientFill(fillType, angle, colorAndOffsets);
+        ((ChartFillsParameter) getParameter(ParameterKind.CHART_FILLS)).addLinearGradientFill(fillType, angle, colorAndOffsets);
     }
 
     /**
@@ -199,7 +206,7 @@ public final class ParameterManager {
      *            the color and widths
      */
     public void addLinearStripeFill(final FillType fillType, final int angle, final ImmutableList<? extends ColorAndWidth> colorAndWidths) {
-        getParameter(ChartFillsParameter.class).addLinearStripeFill(fillType, angle, colorAndWidths);
+        ((ChartFillsParameter) getParameter(ParameterKind.CHART_FILLS)).addLinearStripeFill(fillType, angle, colorAndWidths);
     }
 
     /**
@@ -211,7 +218,7 @@ public final class ParameterManager {
      *            the color
      */
     public void addSolidFill(final SolidFillType solidFillType, final Color color) {
-        getParameter(ChartFillsParameter.class).addSolidFill(solidFillType, color);
+        ((ChartFillsParameter) getParameter(ParameterKind.CHART_FILLS)).addSolidFill(solidFillType, color);
     }
 
     /**
@@ -227,7 +234,7 @@ public final class ParameterManager {
      *            the end line index
      */
     public void addFillAreaMarker(final FillAreaType fillAreaType, final Color color, final int startLineIndex, final int endLineIndex) {
-        getParameter(ChartMarkersParameter.class).addFillAreaMarker(fillAreaType, color, startLineIndex, endLineIndex);
+        ((ChartMarkersParameter) getParameter(ParameterKind.CHART_MARKERS)).addFillAreaMarker(fillAreaType, color, startLineIndex, endLineIndex);
     }
 
     /**
@@ -245,7 +252,7 @@ public final class ParameterManager {
      *            the priority
      */
     public void addLineStyleMarker(final Color color, final int dataSetIndex, final int dataPoint, final int size, final Priority priority) {
-        getParameter(ChartMarkersParameter.class).addLineStyleMarker(color, dataSetIndex, dataPoint, size, priority);
+        ((ChartMarkersParameter) getParameter(ParameterKind.CHART_MARKERS)).addLineStyleMarker(color, dataSetIndex, dataPoint, size, priority);
     }
 
     /**
@@ -263,7 +270,7 @@ public final class ParameterManager {
      *            Marker on every n-th data point.
      */
     public void addMarker(final Marker marker, final int dataSetIndex, final int startIndex, final int endIndex, final int n) {
-        getParameter(ChartMarkersParameter.class).addMarker(marker, dataSetIndex, startIndex, endIndex, n);
+        ((ChartMarkersParameter) getParameter(ParameterKind.CHART_MARKERS)).addMarker(marker, dataSetIndex, startIndex, endIndex, n);
     }
 
     /**
@@ -275,7 +282,7 @@ public final class ParameterManager {
      *            the data set index
      */
     public void addMarkers(final Marker marker, final int dataSetIndex) {
-        getParameter(ChartMarkersParameter.class).addMarkers(marker, dataSetIndex);
+        ((ChartMarkersParameter) getParameter(ParameterKind.CHART_MARKERS)).addMarkers(marker, dataSetIndex);
     }
 
     /**
@@ -289,7 +296,7 @@ public final class ParameterManager {
      *            the y pos
      */
     public void addFreeMarker(final Marker marker, final double xPos, final double yPos) {
-        getParameter(ChartMarkersParameter.class).addFreeMarker(marker, xPos, yPos);
+        ((ChartMarkersParameter) getParameter(ParameterKind.CHART_MARKERS)).addFreeMarker(marker, xPos, yPos);
     }
 
     /**
@@ -303,7 +310,7 @@ public final class ParameterManager {
      *            the end point
      */
     public void addVerticalRangeMarker(final Color color, final double startPoint, final double endPoint) {
-        getParameter(ChartMarkersParameter.class).addVerticalRangeMarker(color, startPoint, endPoint);
+        ((ChartMarkersParameter) getParameter(ParameterKind.CHART_MARKERS)).addVerticalRangeMarker(color, startPoint, endPoint);
     }
 
     /**
@@ -317,7 +324,7 @@ public final class ParameterManager {
      *            the end point
      */
     public void addHorizontalRangeMarker(final Color color, final double startPoint, final double endPoint) {
-        getParameter(ChartMarkersParameter.class).addHorizontalRangeMarker(color, startPoint, endPoint);
+        ((ChartMarkersParameter) getParameter(ParameterKind.CHART_MARKERS)).addHorizontalRangeMarker(color, startPoint, endPoint);
     }
 
     /**
@@ -329,7 +336,7 @@ public final class ParameterManager {
      *            the height
      */
     public void setChartSizeParameter(final int width, final int height) {
-        parameterMap.put(ChartSizeParameter.class, new ChartSizeParameter(width, height));
+        setParameter(ParameterKind.CHART_SIZE, new ChartSizeParameter(width, height));
     }
 
     /**
@@ -341,7 +348,7 @@ public final class ParameterManager {
      *            the font size
      */
     public void setChartTitleColorAndSizeParameter(final Color color, final int fontSize) {
-        parameterMap.put(ChartTitleColorAndSizeParameter.class, new ChartTitleColorAndSizeParameter(color, fontSize));
+        setParameter(ParameterKind.CHART_TITLE_COLOR_AND_SIZE, new ChartTitleColorAndSizeParameter(color, fontSize));
     }
 
     /**
@@ -351,7 +358,7 @@ public final class ParameterManager {
      *            the new chart title parameter
      */
     public void setChartTitleParameter(final String title) {
-        parameterMap.put(ChartTitleParameter.class, new ChartTitleParameter(title));
+        setParameter(ParameterKind.CHART_TITLE, new ChartTitleParameter(title));
     }
 
     /**
@@ -361,7 +368,7 @@ public final class ParameterManager {
      *            the new chart type parameter
      */
     public void setChartTypeParameter(final ChartType chartType) {
-        parameterMap.put(ChartTypeParameter.class, new ChartTypeParameter(chartType));
+        setParameter(ParameterKind.CHART_TYPE, new ChartTypeParameter(chartType));
     }
 
     /**
@@ -373,7 +380,7 @@ public final class ParameterManager {
     public void addColor(final Color color) {
         final List<ImmutableList<Color>> colors = Lists.newArrayList();
         colors.add(Lists.of(color));
-        getParameter(ColorsParameter.class).addColors(Lists.copyOf(colors));
+        ((ColorsParameter) getParameter(ParameterKind.COLORS)).addColors(Lists.copyOf(colors));
     }
 
     /**
@@ -386,7 +393,7 @@ public final class ParameterManager {
      *            the colors
      */
     public void addColors(final ImmutableList<? extends ImmutableList<? extends Color>> colors) {
-        getParameter(ColorsParameter.class).addColors(colors);
+        ((ColorsParameter) getParameter(ParameterKind.COLORS)).addColors(colors);
     }
 
     /**
@@ -396,7 +403,7 @@ public final class ParameterManager {
      *            the legend
      */
     public void addLegend(final String legend) {
-        getParameter(DataLegendsParameter.class).addLegends(Lists.of(legend));
+        ((DataLegendsParameter) getParameter(ParameterKind.DATA_LEGENDS)).addLegends(Lists.of(legend));
     }
 
     /**
@@ -406,7 +413,7 @@ public final class ParameterManager {
      *            the legends
      */
     public void addLegends(final ImmutableList<? extends String> legends) {
-        getParameter(DataLegendsParameter.class).addLegends(legends);
+        ((DataLegendsParameter) getParameter(ParameterKind.DATA_LEGENDS)).addLegends(legends);
     }
 
     /**
@@ -416,7 +423,7 @@ public final class ParameterManager {
      *            the data
      */
     public void addData(final Data data) {
-        getParameter(DataParameter.class).addData(data);
+        ((DataParameter) getParameter(ParameterKind.DATA)).addData(data);
     }
 
     /**
@@ -426,7 +433,7 @@ public final class ParameterManager {
      *            the new data encoding
      */
     public void setDataEncoding(final DataEncoding dataEncoding) {
-        getParameter(DataParameter.class).setDataEncoding(dataEncoding);
+        ((DataParameter) getParameter(ParameterKind.DATA)).setDataEncoding(dataEncoding);
     }
 
     /**
@@ -436,7 +443,7 @@ public final class ParameterManager {
      *            the geo code
      */
     public void addGeoCode(final String geoCode) {
-        getParameter(GeoCodesParameter.class).addGeoCode(geoCode);
+        ((GeoCodesParameter) getParameter(ParameterKind.GEO_CODES)).addGeoCode(geoCode);
     }
 
     /**
@@ -446,7 +453,7 @@ public final class ParameterManager {
      *            the new geographical area parameter
      */
     public void setGeographicalAreaParameter(final GeographicalArea geographicalArea) {
-        parameterMap.put(GeographicalAreaParameter.class, new GeographicalAreaParameter(geographicalArea));
+        setParameter(ParameterKind.GEOGRAPHICAL_AREA, new GeographicalAreaParameter(geographicalArea));
     }
 
     /**
@@ -462,7 +469,7 @@ public final class ParameterManager {
      *            the length of blank segment
      */
     public void setGridLineParameter(final double xAxisStepSize, final double yAxisStepSize, final int lengthOfLineSegment, final int lengthOfBlankSegment) {
-        parameterMap.put(GridLineParameter.class, new GridLineParameter(xAxisStepSize, yAxisStepSize, lengthOfLineSegment, lengthOfBlankSegment));
+        setParameter(ParameterKind.GRID_LINE, new GridLineParameter(xAxisStepSize, yAxisStepSize, lengthOfLineSegment, lengthOfBlankSegment));
     }
 
     /**
@@ -472,7 +479,7 @@ public final class ParameterManager {
      *            the new legend position parameter
      */
     public void setLegendPositionParameter(final LegendPosition legendPosition) {
-        parameterMap.put(LegendPositionParameter.class, new LegendPositionParameter(legendPosition));
+        setParameter(ParameterKind.LEGEND_POSITION, new LegendPositionParameter(legendPosition));
     }
 
     /**
@@ -482,7 +489,7 @@ public final class ParameterManager {
      *            the line style
      */
     public void addLineChartLineStyle(final LineStyle lineStyle) {
-        getParameter(LineChartLineStylesParameter.class).addLineStyle(lineStyle);
+        ((LineChartLineStylesParameter) getParameter(ParameterKind.LINE_CHART_LINE_STYLES)).addLineStyle(lineStyle);
     }
 
     /**
@@ -492,7 +499,7 @@ public final class ParameterManager {
      *            the legend
      */
     public void addPieChartAndGoogleOMeterLegend(final String legend) {
-        getParameter(PieChartAndGoogleOMeterLegendParameter.class).addLegend(legend);
+        ((PieChartAndGoogleOMeterLegendParameter) getParameter(ParameterKind.PIE_CHART_AND_GOOGLE_O_METER_LEGEND)).addLegend(legend);
     }
 
     /**
@@ -508,7 +515,7 @@ public final class ParameterManager {
      *            the bottom margin
      */
     public void setMargins(final int leftMargin, final int rightMargin, final int topMargin, final int bottomMargin) {
-        getParameter(MarginsParameter.class).setMargins(bottomMargin, leftMargin, rightMargin, topMargin);
+        ((MarginsParameter) getParameter(ParameterKind.MARGINS)).setMargins(bottomMargin, leftMargin, rightMargin, topMargin);
     }
 
     /**
@@ -520,7 +527,7 @@ public final class ParameterManager {
      *            the height
      */
     public void setLegendMargins(final int width, final int height) {
-        getParameter(MarginsParameter.class).setLegendMargins(width, height);
+        ((MarginsParameter) getParameter(ParameterKind.MARGINS)).setLegendMargins(width, height);
     }
 
     /**
@@ -530,84 +537,203 @@ public final class ParameterManager {
      *            the orientation
      */
     public void addPieChartOrientation(final double orientation) {
-        parameterMap.put(PieChartOrientationParameter.class, new PieChartOrientationParameter(orientation));
+        setParameter(ParameterKind.PIE_CHART_ORIENTATION, new PieChartOrientationParameter(orientation));
     }
 
     /**
-     * Get the parameter map for generating the Google Chart API URL.
+     * Get the parameter map for generating the Google Chart API URL. The map
+     * iterates in URL order.
      *
      * @return the parameterMap
      */
     public final Map<String, String> getParameterMap() {
-        final Map<String, String> map = Maps.newHashMap();
-        for (Parameter p : parameterMap.values()) {
-            map.put(p.getKey(), p.getValue());
+        final Map<String, String> map = Maps.newLinkedHashMap();
+        for (Parameter p : parameters) {
+            if (p != null) {
+                map.put(p.getKey(), p.getValue());
+            }
         }
         return Collections.unmodifiableMap(map);
     }
 
     /**
-     * {@inheritDoc}
+     * Write the Google Chart API URL to the appendable. Each parameter streams
+     * its value directly to the appendable, so no intermediate strings are
+     * built. Parameters with empty values are omitted. Parameters are written
+     * in alphabetical order of their keys, so the URL is canonical: the same
+     * chart always produces the same URL.
+     *
+     * @param appendable
+     *            the appendable to write the URL to
+     * @throws IOException
+     *             if the appendable cannot be written to
      */
-    @Override
-    public String toString() {
-        final Collection<Parameter> c = parameterMap.values();
-        final List<String> parameters = Lists.newLinkedList();
+    public void writeURL(final Appendable appendable) throws IOException {
+        appendable.append(url).append('?');
+        writeFormBody(appendable);
+    }
 
-        for (Parameter p : c) {
-            final String paramString = p.toURLParameterString();
-            if (!"".equals(paramString)) {
-                parameters.add(paramString);
+    /**
+     * Write the parameters to the appendable as an
+     * <code>application/x-www-form-urlencoded</code> body. This is the query
+     * string of the URL written by {@link #writeURL(Appendable)}.
+     *
+     * @param appendable
+     *            the appendable to write the body to
+     * @throws IOException
+     *             if the appendable cannot be written to
+     */
+    public void writeFormBody(final Appendable appendable) throws IOException {
+        final ParameterWriter writer = new ParameterWriter(appendable);
+        for (Parameter p : parameters) {
+            if (p != null) {
+                writer.write(p);
             }
         }
+    }
 
-        Collections.sort(parameters, new Comparator<String>() {
-            public int compare(final String s1, final String s2) {
-                return s1.length() - s2.length();
+    /**
+     * Get the length of the body written by {@link #writeFormBody(Appendable)}.
+     * The body is serialized to a counter rather than built in memory.
+     *
+     * @return the form body length
+     */
+    public long getFormBodyLength() {
+        final LengthCounter counter = new LengthCounter();
+        try {
+            writeFormBody(counter);
+        } catch (IOException e) {
+            // LengthCounter does not throw IOExceptions.
+            throw new AssertionError(e);
+        }
+        return counter.length;
+    }
+
+    /**
+     * Compile the parameters into a data template. Every parameter except the
+     * data is serialized once, so that URLs for new data only need to encode
+     * the data parameter.
+     *
+     * @return the data template
+     */
+    public DataTemplate compileDataTemplate() {
+        final DataParameter dataParameter = (DataParameter) getParameter(ParameterKind.DATA);
+        final StringBuilder prefix = new StringBuilder();
+        final StringBuilder suffix = new StringBuilder();
+        try {
+            prefix.append(url).append('?');
+            final ParameterWriter prefixWriter = new ParameterWriter(prefix);
+            final ParameterWriter suffixWriter = new ParameterWriter(suffix);
+            for (int i = 0; i < ParameterKind.DATA.ordinal(); i++) {
+                if (parameters[i] != null) {
+                    prefixWriter.write(parameters[i]);
+                }
+            }
+            for (int i = ParameterKind.DATA.ordinal() + 1; i < parameters.length; i++) {
+                if (parameters[i] != null) {
+                    suffixWriter.write(parameters[i]);
+                }
             }
-        });
+            if (prefixWriter.getCount() > 0) {
+                prefix.append('&');
+            }
+            prefix.append(dataParameter.getKey()).append('=').append(dataParameter.getDataEncoding());
+            if (suffixWriter.getCount() > 0) {
+                suffix.insert(0, '&');
+            }
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions.
+            throw new AssertionError(e);
+        }
+        return new DataTemplate(prefix.toString(), dataParameter.getDataEncoding(), suffix.toString());
+    }
 
-        int cnt = 0;
-        final StringBuilder sb = new StringBuilder(url + "?");
-        for (String p : parameters) {
-            sb.append(cnt++ > 0 ? "&" : "").append(p);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            writeURL(sb);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOExceptions.
+            throw new AssertionError(e);
         }
         return sb.toString();
     }
 
     /**
-     * Get the parameter.
+     * Get the parameter of the given kind, creating it if it does not exist
+     * yet.
      *
-     * @param <T>
-     *            type of parameter to retrieve
-     * @param clazz
-     *            the class of the parameter to retrieve
+     * @param kind
+     *            the kind of parameter to retrieve
      *
      * @return the parameter
-     * @throws ParameterInstantiationException
-     *             if the parameter could not be instantiated
      */
-    private <T extends Parameter> T getParameter(final Class<T> clazz) throws ParameterInstantiationException {
-        // Should always be safe.
-        @SuppressWarnings("unchecked")
-        T p = (T) parameterMap.get(clazz);
+    private Parameter getParameter(final ParameterKind kind) {
+        Parameter p = parameters[kind.ordinal()];
         if (p == null) {
-            try {
-                p = clazz.newInstance();
-            } catch (InstantiationException e) {
-                throw new ParameterInstantiationException("Internal error: Could not instatiate " + clazz.getName(), e);
-            } catch (IllegalAccessException e) {
-                throw new ParameterInstantiationException("Internal error: Could not instatiate " + clazz.getName(), e);
-            }
-            parameterMap.put(clazz, p);
+            p = kind.newParameter();
+            parameters[kind.ordinal()] = p;
         }
         return p;
     }
 
+    /**
+     * Set the parameter of the given kind, replacing any previous one.
+     *
+     * @param kind
+     *            the kind of parameter to set
+     * @param parameter
+     *            the parameter
+     */
+    private void setParameter(final ParameterKind kind, final Parameter parameter) {
+        parameters[kind.ordinal()] = parameter;
+    }
+
+    /**
+     * Appendable that only counts the characters appended to it.
+     */
+    private static final class LengthCounter implements Appendable {
+
+        /** The number of characters appended. */
+        private long length;
+
+        /**
+         * {@inheritDoc}
+         */
+        public Appendable append(final CharSequence csq) {
+            length += csq == null ? "null".length() : csq.length();
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Appendable append(final CharSequence csq, final int start, final int end) {
+            length += end - start;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Appendable append(final char c) {
+            length++;
+            return this;
+        }
+    }
+
     /**
      * The exception class for cases where the parameter cannot be instantiated
      * through reflection.
+     *
+     * @deprecated Parameters are no longer instantiated through reflection, so
+     *             this exception is never thrown.
      */
+    @Deprecated
     public static class ParameterInstantiationException extends RuntimeException {
 
         /** The serial version uid. */
@@ -0,0 +1,146 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j.parameters;
+
+import java.io.IOException;
+
+/**
+ * <b>For Charts4J internal use only.</b> Streams parameters to an appendable
+ * as <code>key=value</code> pairs separated by <code>&amp;</code>. The key of
+ * a parameter is only written once its value produces a first character, so
+ * that parameters with an empty value are omitted without first serializing
+ * them to a string.
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+final class ParameterWriter implements Appendable {
+
+    /** The underlying appendable. */
+    private final Appendable appendable;
+
+    /** The key of the parameter being written, if not yet written. */
+    private String           pendingKey;
+
+    /** The number of parameters written so far. */
+    private int              count;
+
+    /**
+     * Create a parameter writer.
+     *
+     * @param appendable
+     *            the underlying appendable
+     */
+    ParameterWriter(final Appendable appendable) {
+        this.appendable = appendable;
+    }
+
+    /**
+     * Write a parameter. The parameter is preceded by an <code>&amp;</code>
+     * if it is not the first non-empty parameter written.
+     *
+     * @param parameter
+     *            the parameter to write
+     * @throws IOException
+     *             if the underlying appendable cannot be written to
+     */
+    void write(final Parameter parameter) throws IOException {
+        pendingKey = parameter.getKey();
+        parameter.writeTo(this);
+        pendingKey = null;
+    }
+
+    /**
+     * Get the underlying appendable. A parameter may write to it directly
+     * once it has written its first character through this writer.
+     *
+     * @return the underlying appendable
+     */
+    Appendable getAppendable() {
+        return appendable;
+    }
+
+    /**
+     * Get the number of non-empty parameters written so far.
+     *
+     * @return the number of parameters written
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Appendable append(final CharSequence csq) throws IOException {
+        if (csq == null) {
+            return append("null");
+        }
+        if (csq.length() > 0) {
+            writePendingKey();
+            appendable.append(csq);
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        if (csq == null) {
+            return append("null", start, end);
+        }
+        if (end > start) {
+            writePendingKey();
+            appendable.append(csq, start, end);
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Appendable append(final char c) throws IOException {
+        writePendingKey();
+        appendable.append(c);
+        return this;
+    }
+
+    /**
+     * Write the key of the current parameter, if it has not been written yet.
+     *
+     * @throws IOException
+     *             if the underlying appendable cannot be written to
+     */
+    private void writePendingKey() throws IOException {
+        if (pendingKey != null) {
+            if (count++ > 0) {
+                appendable.append('&');
+            }
+            appendable.append(pendingKey).append('=');
+            pendingKey = null;
+        }
+    }
+}
@@ -25,6 +25,10 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
+
 /**
  * <b>For Charts4J internal use only.</b> Pie chart orientation.
  * 
@@ -60,7 +64,7 @@ final class PieChartOrientationParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        return orientation + "";
+    public void writeTo(final Appendable appendable) throws IOException {
+        appendDouble(appendable, orientation);
     }
 }
@@ -25,6 +25,9 @@
 
 package com.googlecode.charts4j.parameters;
 
+import static com.googlecode.charts4j.parameters.NumberFormatter.*;
+
+import java.io.IOException;
 import java.util.List;
 
 import com.googlecode.charts4j.collect.Lists;
@@ -41,7 +44,7 @@ public class TickMarkLengthParameter extends AbstractParameter {
     private static final String            URL_PARAMETER_KEY = "chxtc";
 
     /** The axis tick mark lengths. */
-    private final List<AxisTickMarkLength> tickMarkLengths   = Lists.newLinkedList();
+    private final List<AxisTickMarkLength> tickMarkLengths   = Lists.newArrayList();
 
     /**
      * Add the tick mark length.
@@ -67,13 +70,12 @@ public class TickMarkLengthParameter extends AbstractParameter {
      * {@inheritDoc}
      */
     @Override
-    public String getValue() {
-        final StringBuilder sb = new StringBuilder();
+    public void writeTo(final Appendable appendable) throws IOException {
         int cnt = 0;
         for (AxisTickMarkLength tml : tickMarkLengths) {
-            sb.append(cnt++ > 0 ? "|" : "").append(tml);
+            appendable.append(cnt++ > 0 ? "|" : "");
+            tml.writeTo(appendable);
         }
-        return !tickMarkLengths.isEmpty() ? sb.toString() : "";
     }
 
     /**
@@ -101,11 +103,16 @@ public class TickMarkLengthParameter extends AbstractParameter {
         }
 
         /**
-         * {@inheritDoc}
+         * Write the tick mark length to the appendable.
+         *
+         * @param appendable
+         *            the appendable
+         * @throws IOException
+         *             if the appendable cannot be written to
          */
-        @Override
-        public String toString() {
-            return index + "," + tickMarkLength;
+        private void writeTo(final Appendable appendable) throws IOException {
+            appendInt(appendable, index).append(',');
+            appendInt(appendable, tickMarkLength);
         }
     }
 }
@@ -25,12 +25,20 @@
 
 package com.googlecode.charts4j;
 
+import static com.googlecode.charts4j.Color.BLACK;
 import static com.googlecode.charts4j.Color.BLUE;
+import static com.googlecode.charts4j.Color.RED;
+import static com.googlecode.charts4j.Color.WHITE;
 import static com.googlecode.charts4j.TestUtil.getBasicChart;
 import static com.googlecode.charts4j.UrlUtil.normalize;
 import static org.junit.Assert.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,6 +48,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.googlecode.charts4j.collect.Lists;
+
 /**
  *
  * @author Julien Chastang (julien.c.chastang at gmail dot com)
@@ -140,4 +150,109 @@ public class AbstractGChartTest {
         assertEquals("Junit error", "200x125", parameters.get("chs"));
         assertEquals("Junit error", "e:AAgA..", parameters.get("chd"));
     }
+
+    @Test
+    public void testURLCache0() throws Exception {
+        final LineChart chart = getBasicChart();
+        final String url = chart.toURLString();
+        assertEquals("Junit error", 0, chart.getCacheHitCount());
+        assertSame("Junit error", url, chart.toURLString());
+        assertEquals("Junit error", 1, chart.getCacheHitCount());
+        final StringBuilder sb = new StringBuilder();
+        chart.writeURL(sb);
+        assertEquals("Junit error", url, sb.toString());
+        assertEquals("Junit error", 2, chart.getCacheHitCount());
+        final Map<String, String> parameters = chart.getParameters();
+        assertSame("Junit error", parameters, chart.getParameters());
+        assertEquals("Junit error", 3, chart.getCacheHitCount());
+        chart.setTitle("Title");
+        assertFalse("Junit error", url.equals(chart.toURLString()));
+        assertFalse("Junit error", parameters == chart.getParameters());
+        assertEquals("Junit error", "Title", chart.getParameters().get("chtt"));
+        assertEquals("Junit error", 4, chart.getCacheHitCount());
+    }
+
+    @Test
+    public void testURLCache1() {
+        final LineChart chart = getBasicChart();
+        final LinearGradientFill fill = Fills.newLinearGradientFill(0, BLUE, 100);
+        chart.setBackgroundFill(fill);
+        final String url = chart.toURLString();
+        // The fill is defensively copied, so modifying it does not affect the cached chart.
+        fill.addColorAndOffset(RED, 0);
+        assertEquals("Junit error", url, chart.toURLString());
+        assertEquals("Junit error", url.replace("&", "&amp;"), chart.toURLForHTML());
+        chart.setDataEncoding(DataEncoding.SIMPLE);
+        assertEquals("Junit error", "s:Af9", chart.getParameters().get("chd"));
+    }
+
+    @Test
+    public void testURLCache2() {
+        final Line line = Plots.newLine(Data.newData(0, 50, 100));
+        final LineChart chart = new LineChart(Lists.<Plot> of(line));
+        final String url = chart.toURLString();
+        line.setColor(RED);
+        final String colored = chart.toURLString();
+        assertFalse("Junit error", url.equals(colored));
+        assertEquals("Junit error", "FF0000", chart.getParameters().get("chco"));
+        line.addShapeMarker(Shape.CIRCLE, BLUE, 10, 1);
+        assertFalse("Junit error", colored.equals(chart.toURLString()));
+        assertEquals("Junit error", "o,0000FF,0,1,10,0", chart.getParameters().get("chm"));
+    }
+
+    @Test
+    public void testURLCache3() {
+        final BarChartPlot plot = Plots.newBarChartPlot(Data.newData(0, 50, 100));
+        final BarChart chart = new BarChart(Lists.<Plot> of(plot));
+        final String url = chart.toURLString();
+        plot.setColor(RED);
+        assertFalse("Junit error", url.equals(chart.toURLString()));
+        assertEquals("Junit error", "FF0000", chart.getParameters().get("chco"));
+        plot.setColors(Colormaps.newColormap(BLACK, WHITE));
+        assertEquals("Junit error", "000000|808080|FFFFFF", chart.getParameters().get("chco"));
+    }
+
+    @Test
+    public void testURLCache4() {
+        final ScatterPlotData data = Plots.newScatterPlotData(Data.newData(0, 50, 100), Data.newData(0, 50, 100));
+        final ScatterPlot chart = GCharts.newScatterPlot(data);
+        final String url = chart.toURLString();
+        data.setLegend("legend");
+        assertFalse("Junit error", url.equals(chart.toURLString()));
+        assertEquals("Junit error", "legend", chart.getParameters().get("chdl"));
+    }
+
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        final LineChart lineChart = getBasicChart();
+        lineChart.setTitle("Title");
+        lineChart.addXAxisLabels(AxisLabelsFactory.newAxisLabels("a", "b", "c"));
+        final RadarChart radarChart = GCharts.newRadarChart(Plots.newRadarPlot(Data.newData(10, 20, 30, 40, 50)));
+        radarChart.setGrid(10, 10, 2, 2);
+        for (final GChart chart : Lists.of(lineChart, radarChart)) {
+            final StringBuilder expected = new StringBuilder();
+            chart.writeURL(expected);
+            final ExecutorService executor = Executors.newFixedThreadPool(8);
+            final List<Future<Boolean>> results = Lists.newArrayList();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() throws Exception {
+                        // writeURL does not populate the cache, so every call renders the chart.
+                        for (int j = 0; j < 500; j++) {
+                            final StringBuilder sb = new StringBuilder();
+                            chart.writeURL(sb);
+                            if (!expected.toString().equals(sb.toString())) {
+                                return false;
+                            }
+                        }
+                        return expected.toString().equals(chart.toURLString());
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue("Junit error", result.get());
+            }
+            executor.shutdown();
+        }
+    }
 }
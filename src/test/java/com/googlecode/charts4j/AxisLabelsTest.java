@@ -117,4 +117,22 @@ public class AxisLabelsTest {
         String expectedString = "http://chart.apis.google.com/chart?chd=e:AAgA..&chs=200x125&cht=lc&chxr=0,0.0,-10.0&chxt=x";
         assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
     }
+
+    @Test
+    public void testNewAxisLabelsMixedNumbers() {
+        final LineChart chart = TestUtil.getBasicChart();
+        chart.addXAxisLabels(AxisLabelsFactory.newNumericAxisLabels(Arrays.<Number> asList(80, 5L, 12.5, 0.1f)));
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        String expectedString = "http://chart.apis.google.com/chart?chd=e:AAgA..&chs=200x125&cht=lc&chxp=0,80,5,12.5,0.1&chxr=0,0.1,80.0&chxt=x";
+        assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
+    }
+
+    @Test
+    public void testNewNumericAxisLabelsDoubleArray() {
+        final LineChart chart = TestUtil.getBasicChart();
+        chart.addXAxisLabels(AxisLabelsFactory.newNumericAxisLabels(50, 5, 95));
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        String expectedString = "http://chart.apis.google.com/chart?chd=e:AAgA..&chs=200x125&cht=lc&chxp=0,50.0,5.0,95.0&chxr=0,5.0,95.0&chxt=x";
+        assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
+    }
 }
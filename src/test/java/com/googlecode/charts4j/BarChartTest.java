@@ -211,6 +211,17 @@ public class BarChartTest {
         assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
     }
 
+    @Test
+    public void testColormapColoredBars() {
+        BarChartPlot data = Plots.newBarChartPlot(Data.newData(0, 50, 100, 25));
+        data.setColors(Colormaps.newColormap(BLACK, WHITE));
+        data.setColor(RED, 3);
+        BarChart chart = GCharts.newBarChart(data);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        String expectedString = "http://chart.apis.google.com/chart?chbh=23,4,8&chco=000000|808080|FFFFFF|FF0000&chd=e:AAgA..QA&chs=200x125&cht=bvg";
+        assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
+    }
+
     @Test
     public void testAutoResize() {
         BarChartPlot data1 = Plots.newBarChartPlot(Data.newData(5, 25, 50, 75, 100), BLUE);
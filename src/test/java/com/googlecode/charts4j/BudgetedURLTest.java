@@ -0,0 +1,151 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.googlecode.charts4j.downsampling.Downsamplers;
+
+/**
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class BudgetedURLTest {
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).setLevel(Level.ALL);
+    }
+
+    @AfterClass
+    public static void tearDownAfterClass() throws Exception {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+    }
+
+    @After
+    public void tearDown() throws Exception {
+    }
+
+    @Test
+    public void test0() {
+        final LineChart chart = TestUtil.getBasicChart();
+        final BudgetedURL budgetedURL = GCharts.renderWithinBudget(chart, 2000);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(budgetedURL.toString());
+        assertEquals("Junit error", chart.toURLString(), budgetedURL.getURL());
+        assertTrue("Junit error", budgetedURL.isWithinBudget());
+        assertFalse("Junit error", budgetedURL.isDownsampled());
+        assertEquals("Junit error", 3, budgetedURL.getRenderedPointCounts().get(0).intValue());
+    }
+
+    @Test
+    public void test1() {
+        final double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50 + 40 * Math.sin(i / 100.0);
+        }
+        values[4321] = 100;
+        values[8765] = 0;
+        final LineChart chart = GCharts.newLineChart(Plots.newLine(Data.newData(values)));
+        chart.setTitle("Budget");
+        final BudgetedURL budgetedURL = GCharts.renderWithinBudget(chart, 2000);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(budgetedURL.toString());
+        assertTrue("Junit error", budgetedURL.isWithinBudget());
+        assertTrue("Junit error", budgetedURL.isDownsampled());
+        assertTrue("Junit error", budgetedURL.getLength() <= 2000);
+        assertEquals("Junit error", 10000, budgetedURL.getOriginalPointCounts().get(0).intValue());
+        // The spikes survive downsampling.
+        assertTrue("Junit error", budgetedURL.getURL().contains(".."));
+        assertTrue("Junit error", budgetedURL.getURL().contains("AA"));
+        // The chart itself is not modified.
+        assertEquals("Junit error", 10000 * 2, chart.getParameters().get("chd").length() - 2);
+    }
+
+    @Test
+    public void test2() {
+        final double[] x = new double[5000];
+        final double[] y = new double[5000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 100.0 * i / x.length;
+            y[i] = 50 + 40 * Math.cos(i / 50.0);
+        }
+        final XYLineChart chart = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(x), Data.newData(y)));
+        chart.setDataEncoding(DataEncoding.SIMPLE);
+        final BudgetedURL budgetedURL = GCharts.renderWithinBudget(chart, 1500);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(budgetedURL.toString());
+        assertTrue("Junit error", budgetedURL.isWithinBudget());
+        assertTrue("Junit error", budgetedURL.isDownsampled());
+        assertEquals("Junit error", budgetedURL.getRenderedPointCounts().get(0), budgetedURL.getRenderedPointCounts().get(1));
+    }
+
+    @Test
+    public void test3() {
+        final double[] values = { 50, 10, 90, 50, 50, 20, 80, 50, 50 };
+        // One bucket per half of the interior: keep the first, last, and the
+        // minimum and maximum of each bucket.
+        final int[] indices = Downsamplers.newMinMaxDownsampler().select(null, values, 6);
+        assertEquals("Junit error", "[0, 1, 2, 5, 6, 8]", Arrays.toString(indices));
+        assertEquals("Junit error", "[50.0, 10.0, 90.0, 20.0, 80.0, 50.0]", Arrays.toString(Downsamplers.keep(values, indices)));
+        assertEquals("Junit error", 9, Downsamplers.newMinMaxDownsampler().select(null, values, 9).length);
+    }
+
+    @Test
+    public void test4() {
+        // A bucket of invalid points keeps two of them, so the gap remains.
+        final double[] values = { 50, -1, -1, -1, 60, 70, 50 };
+        assertEquals("Junit error", "[0, 1, 2, 4, 5, 6]", Arrays.toString(Downsamplers.newMinMaxDownsampler().select(null, values, 6)));
+    }
+
+    @Test
+    public void test5() {
+        // Flat first half, then a sine. Evenly spaced points must stay evenly
+        // spaced, so every kept point is drawn near its original x position.
+        final int n = 10000;
+        final double[] values = new double[n];
+        for (int i = n / 2; i < n; i++) {
+            values[i] = 50 + 40 * Math.sin(i / 10.0);
+        }
+        final int[] indices = Downsamplers.newMinMaxDownsampler().select(null, values, 200);
+        assertEquals("Junit error", 200, indices.length);
+        final double bucketWidth = (n - 2) / 99.0;
+        for (int k = 0; k < indices.length; k++) {
+            final double drawnAt = k * (n - 1.0) / (indices.length - 1);
+            assertTrue("Junit error", Math.abs(indices[k] - drawnAt) <= bucketWidth);
+        }
+    }
+}
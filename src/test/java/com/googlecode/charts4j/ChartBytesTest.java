@@ -0,0 +1,144 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.TestUtil.getBasicChart;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class ChartBytesTest {
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).setLevel(Level.ALL);
+    }
+
+    @AfterClass
+    public static void tearDownAfterClass() throws Exception {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+    }
+
+    @After
+    public void tearDown() throws Exception {
+    }
+
+    @Test
+    public void test0() throws Exception {
+        final LineChart chart = getBasicChart();
+        chart.setTitle("Hello World");
+        final ChartBytes chartBytes = ChartBytes.newURL(chart);
+        final byte[] expected = chart.toURLString().getBytes("US-ASCII");
+        assertEquals("Junit error", expected.length, chartBytes.length());
+        // Write through a small buffer to exercise resuming.
+        final ByteBuffer buffer = ByteBuffer.allocate(7);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boolean done = false;
+        while (!done) {
+            done = chartBytes.writeTo(buffer);
+            buffer.flip();
+            out.write(buffer.array(), 0, buffer.limit());
+            buffer.clear();
+        }
+        assertArrayEquals("Junit error", expected, out.toByteArray());
+        assertFalse("Junit error", chartBytes.hasRemaining());
+    }
+
+    @Test
+    public void test1() throws Exception {
+        final LineChart chart = getBasicChart();
+        chart.setTitle("Hello World");
+        final String url = chart.toURLString();
+        final StringBuilder sb = new StringBuilder();
+        chart.writeFormBody(sb);
+        assertEquals("Junit error", url.substring(url.indexOf('?') + 1), sb.toString());
+        final ChartBytes chartBytes = ChartBytes.newFormBody(chart);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue("Junit error", chartBytes.writeTo(Channels.newChannel(out)));
+        assertEquals("Junit error", sb.toString(), out.toString("US-ASCII"));
+        assertEquals("Junit error", 0, chartBytes.remaining());
+        chartBytes.rewind();
+        assertEquals("Junit error", sb.length(), chartBytes.remaining());
+    }
+
+    @Test
+    public void test2() throws Exception {
+        final RadarChart chart = GCharts.newRadarChart(Plots.newRadarPlot(Data.newData(10, 20, 30)));
+        final StringBuilder sb = new StringBuilder();
+        chart.writeFormBody(sb);
+        assertEquals("Junit error", "chd=e:GaMzTN&chs=200x125&cht=r", sb.toString());
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        assertTrue("Junit error", ChartBytes.newURL(chart).writeTo(buffer));
+        assertEquals("Junit error", chart.toURLString(), new String(buffer.array(), 0, buffer.position(), "US-ASCII"));
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        final double[] values = new double[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50 + 40 * Math.sin(i / 20.0);
+        }
+        final LineChart chart = GCharts.newLineChart(Plots.newLine(Data.newData(values)));
+        chart.setDataEncoding(DataEncoding.EXTENDED);
+        final ByteArrayOutputStream url = new ByteArrayOutputStream();
+        ChartBytes.writeURL(chart, Channels.newChannel(url));
+        assertEquals("Junit error", chart.toURLString(), url.toString("US-ASCII"));
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ChartBytes.writeFormBody(chart, Channels.newChannel(body));
+        assertEquals("Junit error", chart.getFormBodyLength(), body.size());
+        assertTrue("Junit error", chart.toURLString().endsWith(body.toString("US-ASCII")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonBlockingChannel() throws Exception {
+        final Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            ChartBytes.writeURL(getBasicChart(), pipe.sink());
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+}
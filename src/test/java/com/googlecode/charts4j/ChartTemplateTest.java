@@ -0,0 +1,201 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.Color.BLUE;
+import static com.googlecode.charts4j.Color.RED;
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.googlecode.charts4j.collect.Lists;
+import com.googlecode.charts4j.downsampling.Downsamplers;
+
+/**
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class ChartTemplateTest {
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).setLevel(Level.ALL);
+    }
+
+    @AfterClass
+    public static void tearDownAfterClass() throws Exception {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+    }
+
+    @After
+    public void tearDown() throws Exception {
+    }
+
+    @Test
+    public void test0() {
+        final ChartTemplate template = GCharts.newChartTemplate(newLineChart(Data.newData(0, 50, 100), Data.newData(10, 20)));
+        final Data d0 = Data.newData(5, 15, 25, 35);
+        final Data d1 = Data.newData(90, 80, 70);
+        final String url = template.toURLString(d0, d1);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(url);
+        assertEquals("Junit error", newLineChart(d0, d1).toURLString(), url);
+        assertEquals("Junit error", newLineChart(d0, d1).toURLForHTML(), template.toURLForHTML(Lists.of(d0, d1)));
+    }
+
+    @Test
+    public void test1() {
+        final ChartTemplate template = GCharts.newChartTemplate(newBarChart(Data.newData(10, 20, 30), Data.newData(40, 50)));
+        final Data d0 = Data.newData(60, 70, 80);
+        final Data d1 = Data.newData(1, 2, 3, 4, 5, 6);
+        final String url = template.toURLString(d0, d1);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(url);
+        assertEquals("Junit error", newBarChart(d0, d1).toURLString(), url);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test2() {
+        // The first plot has individually colored bars, so its size is fixed.
+        final ChartTemplate template = GCharts.newChartTemplate(newBarChart(Data.newData(10, 20, 30), Data.newData(40, 50)));
+        template.toURLString(Data.newData(60, 70), Data.newData(1, 2));
+    }
+
+    @Test
+    public void test3() {
+        final Data x = Data.newData(0, 10, 10, 20, 30);
+        final Data y = Data.newData(5, 15, 15, 25, 35);
+        final XYLineChart chart = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(1, 2), Data.newData(3, 4), RED, "XY"));
+        chart.setTitle("XY");
+        final ChartTemplate template = GCharts.newChartTemplate(chart);
+        assertEquals("Junit error", 2, template.getSeriesCount());
+        final String url = template.toURLString(x, y);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(url);
+        final XYLineChart expected = GCharts.newXYLineChart(Plots.newXYLine(x, y, RED, "XY"));
+        expected.setTitle("XY");
+        assertEquals("Junit error", expected.toURLString(), url);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test4() {
+        final ChartTemplate template = GCharts.newChartTemplate(newLineChart(Data.newData(0, 50, 100), Data.newData(10, 20)));
+        template.toURLString(Data.newData(0, 50, 100));
+    }
+
+    @Test
+    public void test5() {
+        final LineChart chart = newLineChart(Data.newData(0, 50, 100), Data.newData(10, 20));
+        final ChartTemplate template = GCharts.newChartTemplate(chart);
+        final String url = template.toURLString(Data.newData(1, 2), Data.newData(3, 4));
+        // The template is a snapshot, so later changes to the chart do not affect it.
+        chart.setTitle("Changed");
+        assertEquals("Junit error", url, template.toURLString(Data.newData(1, 2), Data.newData(3, 4)));
+    }
+
+    @Test
+    public void test6() throws Exception {
+        final ChartTemplate template = GCharts.newChartTemplate(newLineChart(Data.newData(0, 50, 100), Data.newData(10, 20)));
+        final Data d0 = Data.newData(5, 15, 25, 35);
+        final Data d1 = Data.newData(90, 80, 70);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final StringBuilder sb = new StringBuilder();
+            template.writeURL(sb, Lists.of(d0, d1), executor, 2);
+            assertEquals("Junit error", template.toURLString(d0, d1), sb.toString());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test7() {
+        // Colormap colors are computed from the data, so they cannot be bound.
+        final BarChartPlot plot = Plots.newBarChartPlot(Data.newData(10, 50, 90), BLUE, "Bars");
+        plot.setColors(Colormaps.newViridisColormap());
+        GCharts.newChartTemplate(GCharts.newBarChart(plot));
+    }
+
+    @Test
+    public void test8() {
+        // Bound data is downsampled as the chart downsamples its lines.
+        final double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50 + 40 * Math.sin(i / 10.0);
+        }
+        final LineChart chart = GCharts.newLineChart(Plots.newLine(Data.newData(0, 50, 100)));
+        chart.setDownsampler(Downsamplers.newM4Downsampler(), 50);
+        final ChartTemplate template = GCharts.newChartTemplate(chart);
+        final LineChart expected = GCharts.newLineChart(Plots.newLine(Data.newData(values)));
+        expected.setDownsampler(Downsamplers.newM4Downsampler(), 50);
+        assertEquals("Junit error", expected.toURLString(), template.toURLString(Data.newData(values)));
+    }
+
+    @Test
+    public void test9() {
+        final double[] x = new double[1000];
+        final double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i / 10.0;
+            y[i] = 50 + 40 * Math.sin(i / 10.0);
+        }
+        final XYLineChart chart = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(1, 2), Data.newData(3, 4)));
+        chart.setDownsampler(Downsamplers.newMinMaxDownsampler(), 40);
+        final ChartTemplate template = GCharts.newChartTemplate(chart);
+        final XYLineChart expected = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(x), Data.newData(y)));
+        expected.setDownsampler(Downsamplers.newMinMaxDownsampler(), 40);
+        assertEquals("Junit error", expected.toURLString(), template.toURLString(Data.newData(x), Data.newData(y)));
+    }
+
+    private static LineChart newLineChart(final Data d0, final Data d1) {
+        final Line line = Plots.newLine(d0, BLUE, "Line 0");
+        line.addShapeMarkers(Shape.CIRCLE, RED, 5);
+        final LineChart chart = GCharts.newLineChart(line, Plots.newLine(d1, RED, "Line 1"));
+        chart.setTitle("Template", BLUE, 14);
+        chart.addXAxisLabels(AxisLabelsFactory.newAxisLabels("a", "b", "c"));
+        chart.setBackgroundFill(Fills.newSolidFill(Color.ALICEBLUE));
+        chart.setSize(400, 200);
+        return chart;
+    }
+
+    private static BarChart newBarChart(final Data d0, final Data d1) {
+        final BarChartPlot plot0 = Plots.newBarChartPlot(d0, BLUE, "Bars 0");
+        plot0.setColor(RED, 1);
+        final BarChart chart = GCharts.newBarChart(plot0, Plots.newBarChartPlot(d1, RED, "Bars 1"));
+        chart.setTitle("Bars");
+        chart.setBarWidth(10);
+        return chart;
+    }
+}
@@ -107,4 +107,31 @@ public class ColorTest {
         final Color color = Color.newColor("ffffff", 100);
         assertEquals("Junit error", "FFFFFF", color.toString());
     }
+
+    @Test
+    public void colorTest7() {
+        final Color color = Color.newColor(BLUE, 50);
+        assertEquals("Junit error", "0000FF7F", color.toString());
+        assertSame("Junit error", color, Color.newColor("0000ff", 50));
+        assertEquals("Junit error", BLUE, Color.newColor(color, 100));
+    }
+
+    @Test
+    public void colorTest8() {
+        final Color[] colors = Color.newColors(0xF0F8FF, 0, 0xFFFFFF);
+        assertEquals("Junit error", ALICEBLUE, colors[0]);
+        assertEquals("Junit error", "000000", colors[1].toString());
+        assertEquals("Junit error", WHITE, Color.newColor(0xFFFFFF));
+        assertEquals("Junit error", "FFFFFF00", Color.newColors(new int[] { 0xFFFFFF }, 0)[0].toString());
+    }
+
+    @Test
+    public void colorTest9() {
+        try {
+            Color.newColor(0x1000000);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        fail();
+    }
 }
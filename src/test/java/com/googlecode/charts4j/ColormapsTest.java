@@ -0,0 +1,83 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.Color.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+/**
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class ColormapsTest {
+
+    @Test
+    public void test0() {
+        final Colormap colormap = Colormaps.newViridisColormap();
+        assertEquals("Junit error", "440154", colormap.getColor(0).toString());
+        assertEquals("Junit error", "FDE725", colormap.getColor(100).toString());
+        assertSame("Junit error", colormap.getColor(100), colormap.mapToColors(new double[] { 7 }, 0, 7)[0]);
+    }
+
+    @Test
+    public void test1() {
+        final LinearGradientFill fill = Fills.newLinearGradientFill(0, WHITE, 100);
+        fill.addColorAndOffset(BLACK, 0);
+        final Colormap colormap = Colormaps.newColormap(fill);
+        final Color[] colors = colormap.mapToColors(new double[] { -5, 0, 50, 100, 200, Double.NaN }, 0, 100);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(Arrays.toString(colors));
+        assertEquals("Junit error", "[000000, 000000, 808080, FFFFFF, FFFFFF, 000000]", Arrays.toString(colors));
+    }
+
+    @Test
+    public void test2() {
+        final LinearGradientFill fill = Fills.newLinearGradientFill(0, RED, 25);
+        fill.addColorAndOffset(BLUE, 75);
+        final Colormap colormap = Colormaps.newColormap(fill);
+        assertEquals("Junit error", RED, colormap.getColor(10));
+        assertEquals("Junit error", BLUE, colormap.getColor(90));
+    }
+
+    @Test
+    public void test3() {
+        final int[] rgbs = Colormaps.newCoolWarmColormap().mapToRGB(new double[] { -1, 1 }, -1, 1);
+        assertEquals("Junit error", 0x3B4CC0, rgbs[0]);
+        assertEquals("Junit error", 0xB40426, rgbs[1]);
+        assertEquals("Junit error", "3B4CC0", Color.newColors(rgbs)[0].toString());
+    }
+
+    @Test
+    public void test4() {
+        final Colormap colormap = Colormaps.newColormap(Color.newColor(BLUE, 0), BLUE);
+        assertEquals("Junit error", "0000FF00", colormap.getColor(0).toString());
+        assertEquals("Junit error", "0000FF", colormap.getColor(100).toString());
+        assertEquals("Junit error", 0xFF, colormap.mapToRGB(new double[] { 0 }, 0, 1)[0]);
+    }
+}
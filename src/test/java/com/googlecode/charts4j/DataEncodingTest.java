@@ -28,6 +28,10 @@ package com.googlecode.charts4j;
 import static com.googlecode.charts4j.UrlUtil.normalize;
 import static org.junit.Assert.assertEquals;
 
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -112,4 +116,78 @@ public class DataEncodingTest {
         String expectedString = "http://chart.apis.google.com/chart?chs=200x125&chd=t:0.0,-1&cht=lc";
         assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
     }
+
+    @Test
+    public void test6() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        DataEncoding.EXTENDED.encode(new double[] { 0, 50, 100, 101, Double.NaN }, sb);
+        assertEquals("Junit error", "AAgA..____", sb.toString());
+    }
+
+    @Test
+    public void test7() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        DataEncoding.SIMPLE.encode(new double[] { 0, 50, 100, -1 }, sb);
+        assertEquals("Junit error", "Af9_", sb.toString());
+        final StringWriter sw = new StringWriter();
+        DataEncoding.TEXT.encode(new double[] { 0, 49.96, 100, -1 }, sw);
+        assertEquals("Junit error", "0.0,50.0,100.0,-1", sw.toString());
+    }
+
+    @Test
+    public void test8() throws Exception {
+        // Crosses several chunks of the encoding buffer.
+        final double[] d = new double[2500];
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < d.length; i++) {
+            d[i] = i % 103;
+            DataEncoding.EXTENDED.encode(new double[] { d[i] }, expected);
+        }
+        final StringWriter sw = new StringWriter();
+        DataEncoding.EXTENDED.encode(d, sw);
+        assertEquals("Junit error", expected.toString(), sw.toString());
+        assertEquals("Junit error", 5000, sw.toString().length());
+    }
+
+    @Test
+    public void test9() {
+        assertEquals("Junit error", DataEncoding.SIMPLE, DataEncoding.AUTO.resolve(61));
+        assertEquals("Junit error", DataEncoding.EXTENDED, DataEncoding.AUTO.resolve(62));
+        assertEquals("Junit error", DataEncoding.TEXT, DataEncoding.TEXT.resolve(10));
+        assertEquals("Junit error", DataEncoding.EXTENDED, DataEncoding.EXTENDED.resolve(10));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test10() throws Exception {
+        DataEncoding.AUTO.encode(new double[] { 1, 2 }, new StringBuilder());
+    }
+
+    @Test
+    public void test11() throws Exception {
+        final Data data = Data.newData(0, 50, 100, -1);
+        final StringBuilder sb = new StringBuilder();
+        DataEncoding.EXTENDED.encode(data, sb);
+        assertEquals("Junit error", "AAgA..__", sb.toString());
+    }
+
+    @Test
+    public void test12() throws Exception {
+        final double[] values = new double[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 150;
+        }
+        final Data data = Data.newData(values);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (DataEncoding encoding : new DataEncoding[] { DataEncoding.SIMPLE, DataEncoding.EXTENDED, DataEncoding.TEXT }) {
+                final StringBuilder expected = new StringBuilder();
+                encoding.encode(data, expected);
+                final StringBuilder actual = new StringBuilder();
+                encoding.encode(data, actual, executor, 64);
+                assertEquals("Junit error", expected.toString(), actual.toString());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -2,6 +2,10 @@ package com.googlecode.charts4j;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -56,4 +60,74 @@ public class DataTest {
         Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(data.toString());
         assertEquals("Junit error", "[-1.0, 0.0, 100.0]", data.toString());
     }
+
+    @Test
+    public void testGet() {
+        final Data data = Data.newData(-1, 0, 100);
+        assertEquals("Junit error", 3, data.getSize());
+        assertEquals("Junit error", -1, data.get(0), 0);
+        assertEquals("Junit error", 100, data.get(2), 0);
+    }
+
+    @Test
+    public void testAsReadOnlyBuffer() {
+        final Data data = Data.newData(10, 20, 30);
+        final DoubleBuffer buffer = data.asReadOnlyBuffer();
+        assertTrue("Junit error", buffer.isReadOnly());
+        assertEquals("Junit error", 3, buffer.remaining());
+        assertEquals("Junit error", 20, buffer.get(1), 0);
+        try {
+            buffer.put(0, 50);
+        } catch (ReadOnlyBufferException e) {
+            assertEquals("Junit error", "[10.0, 20.0, 30.0]", data.toString());
+            return;
+        }
+        fail();// Should not happen
+    }
+
+    @Test
+    public void testNewQuantizedData0() throws IOException {
+        final double[] values = { -1, 0, 12.3456, 50, 100, 150 };
+        final Data data = Data.newQuantizedData(DataEncoding.EXTENDED, values);
+        final StringBuilder compact = new StringBuilder();
+        DataEncoding.EXTENDED.encode(data, compact);
+        final StringBuilder regular = new StringBuilder();
+        DataEncoding.EXTENDED.encode(Data.newData(values), regular);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(compact.toString());
+        assertEquals("Junit error", regular.toString(), compact.toString());
+        assertEquals("Junit error", 6, data.getSize());
+        assertEquals("Junit error", -1, data.get(0), 0);
+        assertEquals("Junit error", 100, data.get(4), 0);
+        assertEquals("Junit error", -1, data.get(5), 0);
+        assertEquals("Junit error", 12.3456, data.get(2), 0.0125);
+    }
+
+    @Test
+    public void testNewQuantizedData1() throws IOException {
+        final Data data = Data.newQuantizedData(DataEncoding.SIMPLE, -1, 0, 50, 100);
+        final StringBuilder sb = new StringBuilder();
+        DataEncoding.SIMPLE.encode(data, sb);
+        assertEquals("Junit error", "_Af9", sb.toString());
+        final StringBuilder text = new StringBuilder();
+        DataEncoding.TEXT.encode(data, text);
+        assertEquals("Junit error", "-1,0.0,50.8,100.0", text.toString());
+    }
+
+    @Test
+    public void testNewQuantizedData2() {
+        try {
+            Data.newQuantizedData(DataEncoding.TEXT, 1, 2);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        fail();// Should not happen
+    }
+
+    @Test
+    public void testAccessorsAreFinal() throws NoSuchMethodException {
+        assertTrue("Junit error", Modifier.isFinal(Data.class.getMethod("getData").getModifiers()));
+        assertTrue("Junit error", Modifier.isFinal(Data.class.getMethod("getSize").getModifiers()));
+        assertTrue("Junit error", Modifier.isFinal(Data.class.getMethod("get", int.class).getModifiers()));
+        assertTrue("Junit error", Modifier.isFinal(Data.class.getMethod("asReadOnlyBuffer").getModifiers()));
+    }
 }
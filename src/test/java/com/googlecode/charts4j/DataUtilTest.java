@@ -26,10 +26,19 @@
 package com.googlecode.charts4j;
 
 import static org.junit.Assert.assertEquals;
-
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -114,4 +123,103 @@ public class DataUtilTest {
         List<Data> data = DataUtil.scaleDataList(d);
         assertEquals("Junit error", "[[40.0, 50.0, 60.0], [0.0, 50.0, 100.0]]", data.toString());
     }
+
+    @Test
+    public void testScaleData6() {
+        assertEquals("Junit error", "[0.0, 20.0, 40.0, 60.0, 80.0, 100.0]", DataUtil.scale(new int[] { 1, 2, 3, 4, 5, 6 }).toString());
+        assertEquals("Junit error", "[0.0, 20.0, 40.0, 60.0, 80.0, 100.0]", DataUtil.scale(new long[] { 1, 2, 3, 4, 5, 6 }).toString());
+        assertEquals("Junit error", "[0.0, 20.0, 40.0, 60.0, 80.0, 100.0]", DataUtil.scale(new float[] { 1, 2, 3, 4, 5, 6 }).toString());
+    }
+
+    @Test
+    public void testScaleData7() {
+        assertEquals("Junit error", "[10.0, 20.0, 30.0]", DataUtil.scaleWithinRange(0, 10, new int[] { 1, 2, 3 }).toString());
+        assertEquals("Junit error", "[10.0, 20.0, 30.0]", DataUtil.scaleWithinRange(0, 10, new long[] { 1, 2, 3 }).toString());
+        assertEquals("Junit error", "[10.0, 20.0, 30.0]", DataUtil.scaleWithinRange(0, 10, new float[] { 1, 2, 3 }).toString());
+    }
+
+    @Test
+    public void testScaleData8() {
+        try {
+            DataUtil.scale(new int[] { 3, 3, 3 });
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        fail();// Should not happen
+    }
+
+    @Test
+    public void testMapDoubles() throws IOException {
+        final double[] values = new double[2500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.sin(i / 100.0) * 1000;
+        }
+        final File file = File.createTempFile("charts4j", ".bin");
+        file.deleteOnExit();
+        final ByteBuffer bytes = ByteBuffer.allocate(values.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asDoubleBuffer().put(values);
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.getChannel().write(bytes);
+        } finally {
+            out.close();
+        }
+        final Data mapped = DataUtil.scale(DataUtil.mapDoubles(file));
+        final Data heap = DataUtil.scale(values);
+        assertEquals("Junit error", heap.getSize(), mapped.getSize());
+        assertEquals("Junit error", heap.get(1234), mapped.get(1234), 0);
+        for (DataEncoding encoding : new DataEncoding[] { DataEncoding.SIMPLE, DataEncoding.EXTENDED, DataEncoding.TEXT }) {
+            final StringBuilder expected = new StringBuilder();
+            encoding.encode(heap, expected);
+            final StringBuilder actual = new StringBuilder();
+            encoding.encode(mapped, actual);
+            assertEquals("Junit error", expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    public void testScaleFloatBuffer() {
+        final Data data = DataUtil.scale(FloatBuffer.wrap(new float[] { 1, 2, 3, 4, 5, 6 }));
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(data.toString());
+        assertEquals("Junit error", "[0.0, 20.0, 40.0, 60.0, 80.0, 100.0]", data.toString());
+        final Data ranged = DataUtil.scaleWithinRange(0, 10, FloatBuffer.wrap(new float[] { 1, 2, 3, 4, 5, 6 }));
+        assertEquals("Junit error", "[10.0, 20.0, 30.0, 40.0, 50.0, 60.0]", ranged.toString());
+    }
+
+    @Test
+    public void testParallelScale() throws InterruptedException {
+        final double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.cos(i / 50.0) * 300;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals("Junit error", DataUtil.scale(values).toString(), DataUtil.scale(values, executor, 100).toString());
+            assertEquals("Junit error", DataUtil.scaleWithinRange(-500, 500, values).toString(), DataUtil.scaleWithinRange(-500, 500, values, executor, 100).toString());
+            final List<Data> data = DataUtil.scale(new double[][] { { 4, 5, 6 }, { 0, 5, 10 } }, executor, 1);
+            assertEquals("Junit error", "[[40.0, 50.0, 60.0], [0.0, 50.0, 100.0]]", data.toString());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testScaleNaN() throws InterruptedException {
+        // NaN is skipped wherever it is, and the parallel variant agrees.
+        assertEquals("Junit error", "[NaN, 0.0, 100.0]", DataUtil.scale(Double.NaN, 1, 2).toString());
+        assertEquals("Junit error", "[0.0, NaN, 100.0]", DataUtil.scale(1, Double.NaN, 2).toString());
+        assertEquals("Junit error", "[0.0, 100.0, NaN]", DataUtil.scale(new float[] { 1, 2, Float.NaN }).toString());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals("Junit error", "[NaN, 0.0, 100.0]", DataUtil.scale(new double[] { Double.NaN, 1, 2 }, executor, 1).toString());
+            assertEquals("Junit error", "[0.0, NaN, 100.0]", DataUtil.scale(new double[] { 1, Double.NaN, 2 }, executor, 1).toString());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testScaleAllNaN() {
+        DataUtil.scale(Double.NaN, Double.NaN);
+    }
 }
@@ -0,0 +1,122 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.googlecode.charts4j;
+
+import static com.googlecode.charts4j.TestUtil.getBasicChart;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class FormPostTest {
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).setLevel(Level.ALL);
+    }
+
+    @AfterClass
+    public static void tearDownAfterClass() throws Exception {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+    }
+
+    @After
+    public void tearDown() throws Exception {
+    }
+
+    @Test
+    public void test0() throws Exception {
+        final double[] values = new double[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 101;
+        }
+        final LineChart chart = GCharts.newLineChart(Plots.newLine(Data.newData(values)));
+        chart.setTitle("Large chart");
+        final FormPost formPost = FormPost.newFormPost(chart);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        formPost.writeTo(out);
+        assertEquals("Junit error", formPost.getContentLength(), out.size());
+        final String url = chart.toURLString();
+        assertEquals("Junit error", url.substring(url.indexOf('?') + 1), out.toString("US-ASCII"));
+        // The cached URL gives the same length.
+        assertEquals("Junit error", formPost.getContentLength(), chart.getFormBodyLength());
+        assertEquals("Junit error", "application/x-www-form-urlencoded", formPost.getContentType());
+    }
+
+    @Test
+    public void test1() throws Exception {
+        final LineChart chart = getBasicChart();
+        chart.setTitle("Sales & \"Profit\"");
+        chart.setURLEndpoint("http://localhost:8080/chart");
+        final String form = FormPost.newFormPost(chart).toHTMLForm();
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(form);
+        final String expectedString = "<form action=\"http://localhost:8080/chart\" method=\"POST\">\n"
+                + "<input type=\"hidden\" name=\"chd\" value=\"e:AAgA..\"/>\n"
+                + "<input type=\"hidden\" name=\"chs\" value=\"200x125\"/>\n"
+                + "<input type=\"hidden\" name=\"cht\" value=\"lc\"/>\n"
+                + "<input type=\"hidden\" name=\"chtt\" value=\"Sales &amp; &quot;Profit&quot;\"/>\n"
+                + "<input type=\"submit\"/>\n</form>";
+        assertEquals("Junit error", expectedString, form);
+    }
+
+    @Test
+    public void test2() throws Exception {
+        final RadarChart chart = GCharts.newRadarChart(Plots.newRadarPlot(Data.newData(10, 20, 30)));
+        assertEquals("Junit error", "chd=e:GaMzTN&chs=200x125&cht=r".length(), chart.getFormBodyLength());
+        assertEquals("Junit error", "http://chart.apis.google.com/chart", FormPost.newFormPost(chart).getAction());
+    }
+
+    @Test
+    public void test3() throws Exception {
+        // The request keeps the chart as it was, so the body matches the
+        // content length even though the chart changed in between.
+        final LineChart chart = getBasicChart();
+        chart.setTitle("Before");
+        final FormPost formPost = FormPost.newFormPost(chart);
+        final String body = chart.toURLString().substring(chart.toURLString().indexOf('?') + 1);
+        chart.setTitle("A much longer title after the request was created");
+        chart.setURLEndpoint("http://localhost:8080/chart");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        formPost.writeTo(out);
+        assertEquals("Junit error", formPost.getContentLength(), out.size());
+        assertEquals("Junit error", body, out.toString("US-ASCII"));
+        assertEquals("Junit error", "http://chart.apis.google.com/chart", formPost.getAction());
+    }
+}
@@ -1,8 +1,15 @@
 package com.googlecode.charts4j;
 
 import static com.googlecode.charts4j.UrlUtil.normalize;
-import static org.junit.Assert.assertEquals;
-
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -12,6 +19,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.googlecode.charts4j.collect.Lists;
+
 public class GChartsTest {
 
     @BeforeClass
@@ -85,4 +94,47 @@ public class GChartsTest {
         expectedString = "http://chart.apis.google.com/chart?chs=200x125&chd=e:AAgA..,szDNgA&chco=FF0000&chdl=foo&chm=o,FF0000,0,0,10,0&cht=s";
         assertEquals("Junit error", normalize(expectedString), normalize(sp.toURLString()));
     }
+
+    @Test
+    public void testRenderAll() throws Exception {
+        final List<GChart> charts = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            charts.add(GCharts.newLineChart(Plots.newPlot(Data.newData(i, 100 - i))));
+        }
+        // A chart that fails to render must not fail the batch.
+        charts.add(50, (GChart) Proxy.newProxyInstance(GChart.class.getClassLoader(), new Class<?>[] { GChart.class }, new InvocationHandler() {
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                throw new IllegalStateException("Bad chart");
+            }
+        }));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<RenderResult> results = GCharts.renderAll(charts, executor);
+            assertEquals("Junit error", charts.size(), results.size());
+            for (int i = 0; i < charts.size(); i++) {
+                final RenderResult result = results.get(i);
+                assertSame("Junit error", charts.get(i), result.getChart());
+                if (i == 50) {
+                    assertFalse("Junit error", result.isSuccessful());
+                    assertNull("Junit error", result.getURL());
+                    assertEquals("Junit error", "Bad chart", result.getException().getMessage());
+                } else {
+                    assertTrue("Junit error", result.isSuccessful());
+                    assertEquals("Junit error", charts.get(i).toURLString(), result.getURL());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRenderAllEmpty() throws Exception {
+        final Executor executor = new Executor() {
+            public void execute(final Runnable command) {
+                command.run();
+            }
+        };
+        assertTrue("Junit error", GCharts.renderAll(Lists.<GChart>of(), executor).isEmpty());
+    }
 }
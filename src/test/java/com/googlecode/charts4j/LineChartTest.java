@@ -46,6 +46,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.googlecode.charts4j.downsampling.Downsamplers;
+
 /**
  *
  * @author Julien Chastang (julien.c.chastang at gmail dot com)
@@ -257,4 +259,51 @@ public class LineChartTest {
         assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
 
     }
+
+    @Test
+    public void test11() throws Exception {
+        final Line line = Plots.newLine(Data.newData(0, 45, 35, 75, 100), RED, "my legend");
+        line.addShapeMarkers(Shape.DIAMOND, BLACK, 10);
+        final LineChart chart = GCharts.newLineChart(line);
+        chart.setTitle("Streaming", WHITE, 14);
+        chart.addXAxisLabels(AxisLabelsFactory.newAxisLabels("a", "b", "c"));
+        final StringBuilder sb = new StringBuilder();
+        chart.writeURL(sb);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(sb.toString());
+        assertEquals("Junit error", chart.toURLString(), sb.toString());
+    }
+
+    @Test
+    public void test12() {
+        final LineChart chart = GCharts.newLineChart(Plots.newLine(Data.newData(0, 50, 100)));
+        chart.setDataEncoding(DataEncoding.AUTO);
+        chart.setSparkline(true);
+        chart.setSize(200, 60);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        assertEquals("Junit error", "s:Af9", chart.getParameters().get("chd"));
+        chart.setSize(200, 125);
+        assertEquals("Junit error", "e:AAgA..", chart.getParameters().get("chd"));
+        final PieChart pieChart = GCharts.newPieChart(Slice.newSlice(30, "A"), Slice.newSlice(70, "B"));
+        pieChart.setDataEncoding(DataEncoding.AUTO);
+        pieChart.setSize(50, 50);
+        assertEquals("Junit error", "e:TNsz", pieChart.getParameters().get("chd"));
+    }
+
+    @Test
+    public void test13() {
+        final double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50 + 40 * Math.sin(i / 100.0);
+        }
+        final Data data = Data.newData(values);
+        final LineChart chart = GCharts.newLineChart(Plots.newLine(data));
+        chart.setSize(200, 100);
+        chart.setDownsampler(Downsamplers.newM4Downsampler());
+        final LineChart expected = GCharts.newLineChart(Plots.newLine(data, Downsamplers.newM4Downsampler(), 200));
+        expected.setSize(200, 100);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        assertEquals("Junit error", expected.toURLString(), chart.toURLString());
+        chart.setDownsampler(null);
+        assertEquals("Junit error", GCharts.newLineChart(Plots.newLine(data)).getParameters().get("chd").length(), chart.getParameters().get("chd").length());
+    }
 }
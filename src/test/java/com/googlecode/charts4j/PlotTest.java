@@ -80,4 +80,22 @@ public class PlotTest {
         String expectedString = "http://chart.apis.google.com/chart?chd=e:AAgA..&chm=ffoo,000000,0,1,12,0&chs=200x125&cht=lc";
         assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
     }
+
+    @Test
+    public void testImplicitXData() throws Exception {
+        final PlotImpl line = (PlotImpl) Plots.newLine(Data.newData(1, 2, 3, 4));
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(line.getXData().toString());
+        assertEquals("Junit error", "[0.0, 33.33, 66.66, 99.99]", line.getXData().toString());
+        assertEquals("Junit error", 4, line.getXData().getSize());
+        final PlotImpl longLine = (PlotImpl) Plots.newLine(Data.newData(new double[3000]));
+        final Data x = longLine.getXData();
+        assertEquals("Junit error", 0.03, x.get(1), 0);
+        for (DataEncoding encoding : new DataEncoding[] { DataEncoding.SIMPLE, DataEncoding.EXTENDED, DataEncoding.TEXT }) {
+            final StringBuilder expected = new StringBuilder();
+            encoding.encode(x.getData(), expected);
+            final StringBuilder actual = new StringBuilder();
+            encoding.encode(x, actual);
+            assertEquals("Junit error", expected.toString(), actual.toString());
+        }
+    }
 }
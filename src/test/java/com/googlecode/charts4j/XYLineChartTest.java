@@ -28,6 +28,7 @@ package com.googlecode.charts4j;
 import static com.googlecode.charts4j.Color.BLUE;
 import static com.googlecode.charts4j.UrlUtil.normalize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,6 +39,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.googlecode.charts4j.downsampling.Downsamplers;
+
 /**
  *
  * @author Julien Chastang (julien.c.chastang at gmail dot com)
@@ -113,4 +116,65 @@ public class XYLineChartTest {
         String expectedString = "http://chart.apis.google.com/chart?cht=lxy&chls=3,5,3&chco=0000FF&chs=400x400&chd=e:GaHCHrgA,TNGaTNMz";
         assertEquals("Junit error", normalize(expectedString), normalize(chart.toURLString()));
     }
+
+    @Test
+    public void testDownsampler() {
+        final double[] x = new double[5000];
+        final double[] y = new double[5000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 100.0 * i / x.length;
+            y[i] = 50 + 40 * Math.cos(i / 50.0);
+        }
+        final XYLineChart chart = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(x), Data.newData(y)));
+        chart.setDownsampler(Downsamplers.newLTTBDownsampler(), 100);
+        final XYLineChart expected = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(x), Data.newData(y), Downsamplers.newLTTBDownsampler(), 100));
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        assertEquals("Junit error", expected.toURLString(), chart.toURLString());
+    }
+
+    @Test
+    public void testRemoveDuplicatePoints() {
+        final XYLine line = Plots.newXYLine(Data.newData(10, 20, 10, 30, 20), Data.newData(5, 5, 5, 6, 5));
+        final XYLineChart chart = GCharts.newXYLineChart(line);
+        final XYLineChart expected = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(10, 20, 30), Data.newData(5, 5, 6)));
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        assertEquals("Junit error", expected.toURLString(), chart.toURLString());
+        final PlotImpl unique = XYLineChart.removeDuplicatePoints((PlotImpl) line);
+        assertSame("Junit error", unique, XYLineChart.removeDuplicatePoints((PlotImpl) line));
+        // Strictly increasing x data cannot have duplicates.
+        final PlotImpl monotonic = (PlotImpl) Plots.newXYLine(Data.newData(1, 2, 3), Data.newData(5, 5, 5));
+        assertSame("Junit error", monotonic, XYLineChart.removeDuplicatePoints(monotonic));
+    }
+
+    @Test
+    public void testRemoveDuplicatePointsKeepsGaps() {
+        final double nan = Double.NaN;
+        final XYLine line = Plots.newXYLine(Data.newData(10, nan, 20, 10, nan, 30), Data.newData(5, nan, 5, 5, nan, 6));
+        final XYLineChart chart = GCharts.newXYLineChart(line);
+        final XYLineChart expected = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(10, nan, 20, nan, 30), Data.newData(5, nan, 5, nan, 6)));
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        assertEquals("Junit error", expected.toURLString(), chart.toURLString());
+        assertEquals("Junit error", 5, XYLineChart.removeDuplicatePoints((PlotImpl) line).getYData().getSize());
+    }
+
+    @Test
+    public void testKeepDuplicatePoints() {
+        final XYLine line = Plots.newXYLine(Data.newData(10, 20, 10, 30, 20), Data.newData(5, 5, 5, 6, 5));
+        line.setDuplicatePointsRemoved(false);
+        final XYLineChart chart = GCharts.newXYLineChart(line);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        assertEquals("Junit error", "e:GaMzGaTNMz,DNDNDND2DN", chart.getParameters().get("chd"));
+        assertEquals("Junit error", chart.toURLString(), GCharts.newChartTemplate(chart).toURLString(Data.newData(10, 20, 10, 30, 20), Data.newData(5, 5, 5, 6, 5)));
+    }
+
+    @Test
+    public void testAutoEncoding() {
+        final XYLineChart chart = GCharts.newXYLineChart(Plots.newXYLine(Data.newData(0, 50, 100), Data.newData(0, 50, 100)));
+        chart.setDataEncoding(DataEncoding.AUTO);
+        chart.setSize(50, 50);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(chart.toURLString());
+        assertEquals("Junit error", "s:Af9,Af9", chart.getParameters().get("chd"));
+        chart.setSize(200, 125);
+        assertEquals("Junit error", "e:AAgA..,AAgA..", chart.getParameters().get("chd"));
+    }
 }
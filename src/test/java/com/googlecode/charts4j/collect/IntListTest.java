@@ -0,0 +1,61 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.collect;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+/**
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class IntListTest {
+
+    @Test
+    public void testAdd() {
+        final IntList list = new IntList(0);
+        for (int i = 0; i < 20; i++) {
+            list.add(i * i);
+        }
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(list.toString());
+        assertEquals("Junit error", 20, list.size());
+        assertEquals("Junit error", 361, list.get(19));
+        assertEquals("Junit error", true, list.contains(144));
+        assertEquals("Junit error", false, list.contains(2));
+        assertEquals("Junit error", 20, list.toArray().length);
+    }
+
+    @Test
+    public void testCopy() {
+        final IntList list = new IntList();
+        list.addAll(1, 2);
+        final IntList copy = new IntList(list);
+        list.add(3);
+        copy.addAll(list);
+        assertEquals("Junit error", "[1, 2, 1, 2, 3]", copy.toString());
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.collect;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+/**
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class ListsTest {
+
+    @Test
+    public void testOf() {
+        final String[] array = { "a", "b", "c" };
+        final ImmutableList<String> list = Lists.of(array);
+        array[0] = "z";
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(list.toString());
+        assertEquals("Junit error", "[a, b, c]", list.toString());
+        assertEquals("Junit error", Lists.of("a", "b", "c"), list);
+        assertEquals("Junit error", Lists.of("a", "b", "c").hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void testCopyOf() {
+        final List<String> mutable = Lists.newArrayList();
+        mutable.add("a");
+        mutable.add("b");
+        final ImmutableList<String> list = Lists.copyOf(mutable);
+        mutable.add("c");
+        assertEquals("Junit error", 2, list.size());
+        assertSame("Junit error", list, Lists.copyOf(list));
+        assertEquals("Junit error", mutable.subList(0, 2), list);
+    }
+
+    @Test
+    public void testSubList() {
+        final ImmutableList<Integer> list = Lists.of(1, 2, 3, 4, 5);
+        final ImmutableList<Integer> sub = list.subList(1, 4);
+        assertEquals("Junit error", "[2, 3, 4]", sub.toString());
+        assertEquals("Junit error", "[3]", sub.subList(1, 2).toString());
+        assertEquals("Junit error", 1, sub.indexOf(3));
+        assertEquals("Junit error", -1, sub.indexOf(5));
+        assertSame("Junit error", list, list.subList(0, 5));
+    }
+
+    @Test
+    public void testImmutable() {
+        final ImmutableList<String> list = Lists.of("a");
+        try {
+            list.add("b");
+        } catch (UnsupportedOperationException e) {
+            return;
+        }
+        fail();
+    }
+
+    @Test
+    public void testImmutableIterator() {
+        final Iterator<String> it = Lists.of("a").iterator();
+        it.next();
+        try {
+            it.remove();
+        } catch (UnsupportedOperationException e) {
+            return;
+        }
+        fail();
+    }
+}
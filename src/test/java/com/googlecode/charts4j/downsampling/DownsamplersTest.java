@@ -0,0 +1,161 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.downsampling;
+
+import static org.junit.Assert.*;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.googlecode.charts4j.Data;
+
+/**
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class DownsamplersTest {
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).setLevel(Level.ALL);
+    }
+
+    @AfterClass
+    public static void tearDownAfterClass() throws Exception {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+    }
+
+    @After
+    public void tearDown() throws Exception {
+    }
+
+    @Test
+    public void test0() {
+        final double[] values = { 50, 10, 20, 30, 90, 40, 60, 50 };
+        // Three interior buckets of two points each.
+        final int[] indices = Downsamplers.newLTTBDownsampler().select(null, values, 5);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(Arrays.toString(indices));
+        assertEquals("Junit error", "[0, 1, 4, 5, 7]", Arrays.toString(indices));
+    }
+
+    @Test
+    public void test1() {
+        final double[] values = { 50, 10, 20, 90, 30, 40, 80, 5, 60, 50 };
+        // One bucket of four points, first, max, min and last, besides the
+        // first and last points of the series.
+        final int[] indices = Downsamplers.newM4Downsampler().select(null, values, 8);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(Arrays.toString(indices));
+        assertEquals("Junit error", "[0, 1, 3, 7, 8, 9]", Arrays.toString(indices));
+    }
+
+    @Test
+    public void test2() {
+        final double[] values = new double[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50 + 40 * Math.sin(i / 1000.0);
+        }
+        final Data data = Data.newData(values);
+        for (Downsampler downsampler : new Downsampler[] { Downsamplers.newLTTBDownsampler(), Downsamplers.newMinMaxDownsampler(), Downsamplers.newM4Downsampler() }) {
+            final Data downsampled = Downsamplers.downsample(downsampler, data, 1000);
+            assertTrue("Junit error", downsampled.getSize() <= 1000);
+            assertEquals("Junit error", values[0], downsampled.get(0), 0);
+            assertEquals("Junit error", values[values.length - 1], downsampled.get(downsampled.getSize() - 1), 0);
+        }
+        assertSame("Junit error", data, Downsamplers.downsample(Downsamplers.newM4Downsampler(), data, 100000));
+    }
+
+    @Test
+    public void test3() {
+        // A bucket of invalid points keeps one of them, so the gap remains.
+        final double[] values = { 50, 60, -1, -1, -1, -1, 70, 50 };
+        final int[] indices = Downsamplers.newLTTBDownsampler().select(null, values, 5);
+        assertEquals("Junit error", "[0, 1, 3, 6, 7]", Arrays.toString(indices));
+        assertEquals("Junit error", "[50.0, 60.0, -1.0, 70.0, 50.0]", Arrays.toString(Downsamplers.keep(values, indices)));
+    }
+
+    @Test
+    public void test4() {
+        final Data x = Data.newData(0, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100);
+        final Data y = Data.newData(50, 10, 90, 50, 50, 20, 80, 50, 50, 30, 50);
+        final int[] indices = Downsamplers.select(Downsamplers.newMinMaxDownsampler(), x, y, 6);
+        assertEquals("Junit error", "[0, 1, 2, 5, 6, 10]", Arrays.toString(indices));
+        assertEquals("Junit error", "[0.0, 10.0, 20.0, 50.0, 60.0, 100.0]", Downsamplers.keep(x, indices).toString());
+    }
+
+    @Test
+    public void test5() {
+        final double[] values = new double[50];
+        final double[] x = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50 + 40 * Math.sin(i);
+            x[i] = i * 2;
+        }
+        for (Downsampler downsampler : new Downsampler[] { Downsamplers.newLTTBDownsampler(), Downsamplers.newMinMaxDownsampler(), Downsamplers.newM4Downsampler() }) {
+            for (int maxPoints = 1; maxPoints <= 12; maxPoints++) {
+                assertTrue("Junit error", downsampler.select(null, values, maxPoints).length <= maxPoints);
+                assertTrue("Junit error", downsampler.select(x, values, maxPoints).length <= maxPoints);
+            }
+            assertEquals("Junit error", "[0]", Arrays.toString(downsampler.select(null, values, 1)));
+            assertEquals("Junit error", "[0, 49]", Arrays.toString(downsampler.select(null, values, 2)));
+        }
+    }
+
+    @Test
+    public void test6() {
+        // Evenly spaced points keep four points in every bucket.
+        final double[] values = new double[10002];
+        for (int i = values.length / 2; i < values.length; i++) {
+            values[i] = 50 + 40 * Math.sin(i / 10.0);
+        }
+        final int[] indices = Downsamplers.newM4Downsampler().select(null, values, 202);
+        assertEquals("Junit error", 202, indices.length);
+        assertEquals("Junit error", values.length / 2, indices[101], 100);
+    }
+
+    @Test
+    public void test7() {
+        // Data held in a buffer is read in place and selects the same points.
+        final double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50 + 40 * Math.sin(i / 7.0);
+        }
+        final Data buffered = Data.newData(DoubleBuffer.wrap(values));
+        for (Downsampler downsampler : new Downsampler[] { Downsamplers.newLTTBDownsampler(), Downsamplers.newMinMaxDownsampler(), Downsamplers.newM4Downsampler() }) {
+            final double[] expected = Downsamplers.keep(values, downsampler.select(null, values, 50));
+            assertEquals("Junit error", Arrays.toString(expected), Arrays.toString(Downsamplers.downsample(downsampler, buffered, 50).getData()));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ *
+ * The MIT License
+ *  * Copyright (c) 2011 the original author or authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.googlecode.charts4j.parameters;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author Julien Chastang (julien.c.chastang at gmail dot com)
+ */
+public class NumberFormatterTest {
+
+    private static final double[] SPECIAL_VALUES = { 0, -0.0, 0.001, 0.05, 0.15, 0.25, 0.35, 0.045, 1.005, -0.001, -0.004, -5.5, 1e-5, 1e7, 9999999.0, 1234567.25, 1e20, 12345678901.5,
+            Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).setLevel(Level.ALL);
+    }
+
+    @AfterClass
+    public static void tearDownAfterClass() throws Exception {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+    }
+
+    @After
+    public void tearDown() throws Exception {
+    }
+
+    @Test
+    public void test0() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        for (double d : SPECIAL_VALUES) {
+            sb.setLength(0);
+            assertEquals("Junit error", Double.toString(d), NumberFormatter.appendDouble(sb, d).toString());
+        }
+        final Random random = new Random(0);
+        for (int i = -20000; i < 20000; i++) {
+            final double[] values = { i / 100.0, i / 1000.0 / 100, i * 0.01, i / 7.0, random.nextDouble() * 100, random.nextGaussian() * 1e6 };
+            for (double d : values) {
+                sb.setLength(0);
+                assertEquals("Junit error", Double.toString(d), NumberFormatter.appendDouble(sb, d).toString());
+            }
+        }
+    }
+
+    @Test
+    public void test1() throws Exception {
+        final DecimalFormat oneDigit = new DecimalFormat("##0.0", new DecimalFormatSymbols(Locale.US));
+        final DecimalFormat twoDigits = new DecimalFormat("0.00", new DecimalFormatSymbols(Locale.US));
+        final StringBuilder sb = new StringBuilder();
+        final Random random = new Random(0);
+        for (int i = -20000; i < 20000; i++) {
+            final double[] values = { i / 1000.0, i / 100.0 / 100, i * 0.005, random.nextDouble() * 100, random.nextGaussian() * 1e6 };
+            for (double d : values) {
+                sb.setLength(0);
+                assertEquals("Junit error", oneDigit.format(d), NumberFormatter.appendFixed(sb, d, 1).toString());
+                sb.setLength(0);
+                assertEquals("Junit error", twoDigits.format(d), NumberFormatter.appendFixed(sb, d, 2).toString());
+            }
+        }
+        for (double d : SPECIAL_VALUES) {
+            sb.setLength(0);
+            assertEquals("Junit error", oneDigit.format(d), NumberFormatter.appendFixed(sb, d, 1).toString());
+            sb.setLength(0);
+            assertEquals("Junit error", twoDigits.format(d), NumberFormatter.appendFixed(sb, d, 2).toString());
+        }
+    }
+
+    @Test
+    public void test2() throws Exception {
+        final int[] values = { 0, 1, -1, 9, 10, -10, 99, 100, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        final StringBuilder sb = new StringBuilder();
+        for (int i : values) {
+            sb.setLength(0);
+            assertEquals("Junit error", Integer.toString(i), NumberFormatter.appendInt(sb, i).toString());
+        }
+        sb.setLength(0);
+        assertEquals("Junit error", Long.toString(Long.MIN_VALUE), NumberFormatter.appendLong(sb, Long.MIN_VALUE).toString());
+        sb.setLength(0);
+        assertEquals("Junit error", Long.toString(Long.MAX_VALUE), NumberFormatter.appendLong(sb, Long.MAX_VALUE).toString());
+        sb.setLength(0);
+        assertEquals("Junit error", "1.5,7", NumberFormatter.appendNumber(NumberFormatter.appendNumber(sb, 1.5).append(','), 7).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test3() throws Exception {
+        NumberFormatter.appendFixed(new StringBuilder(), 1, NumberFormatter.MAX_FRACTION_DIGITS + 1);
+    }
+}
@@ -1,6 +1,7 @@
 package com.googlecode.charts4j.parameters;
 
 import static com.googlecode.charts4j.Color.BLUE;
+import static org.junit.Assert.assertEquals;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -11,7 +12,12 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.googlecode.charts4j.Data;
+import com.googlecode.charts4j.LegendPosition;
+import com.googlecode.charts4j.LineStyle;
 import com.googlecode.charts4j.Markers;
+import com.googlecode.charts4j.UrlUtil;
+import com.googlecode.charts4j.collect.Lists;
 
 public class ParameterManagerTest {
 
@@ -48,4 +54,51 @@ public class ParameterManagerTest {
         pm.addMarker(Markers.newTextMarker("Hello", BLUE, 12), 0, 3, 4, 1);
         Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(pm.toString());
     }
+
+    @Test
+    public void test2() throws Exception {
+        final ParameterManager pm = new ParameterManager();
+        pm.init("http://chart.apis.google.com/chart");
+        pm.setChartTypeParameter(ChartType.LINE_CHART);
+        pm.addLegends(Lists.<String>of());
+        pm.setChartSizeParameter(200, 125);
+        final StringBuilder sb = new StringBuilder();
+        pm.writeURL(sb);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(sb.toString());
+        final String expectedString = "http://chart.apis.google.com/chart?chs=200x125&cht=lc";
+        assertEquals("Junit error", expectedString, sb.toString());
+        assertEquals("Junit error", expectedString, pm.toString());
+    }
+
+    @Test
+    public void test3() throws Exception {
+        final ParameterManager pm = new ParameterManager();
+        pm.init("http://chart.apis.google.com/chart");
+        pm.addAxisTypes(AxisTypes.LEFT_Y_AXIS);
+        pm.addAxisLabels(0, Lists.of("a", "b"));
+        pm.setChartTitleParameter("Title");
+        pm.setChartTypeParameter(ChartType.LINE_CHART);
+        pm.addMarker(Markers.newTextMarker("Hello", BLUE, 12), 0, 3, 4, 1);
+        pm.setChartSizeParameter(200, 125);
+        pm.addData(Data.newData(10, 20, 30));
+        pm.addColor(BLUE);
+        pm.addLegends(Lists.of("legend"));
+        pm.setLegendPositionParameter(LegendPosition.BOTTOM);
+        pm.setMargins(1, 2, 3, 4);
+        pm.addLineChartLineStyle(LineStyle.THICK_LINE);
+        Logger.getLogger(Logger.GLOBAL_LOGGER_NAME).info(pm.toString());
+        assertEquals("Junit error", UrlUtil.normalize(pm.toString()), pm.toString());
+    }
+
+    @Test
+    public void test4() throws Exception {
+        final ParameterManager pm = new ParameterManager();
+        pm.init("http://chart.apis.google.com/chart");
+        pm.setChartTypeParameter(ChartType.LINE_CHART);
+        pm.setChartSizeParameter(200, 125);
+        pm.init("http://chart.apis.google.com/chart");
+        pm.setChartSizeParameter(100, 100);
+        final String expectedString = "http://chart.apis.google.com/chart?chs=100x100";
+        assertEquals("Junit error", expectedString, pm.toString());
+    }
 }